@@ -1,10 +1,16 @@
 package br.dev.andersonandrade.moedaOne;
 
 import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.controller.ServidorConversao;
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.model.ConversaoArquivoCsv;
 import br.dev.andersonandrade.moedaOne.model.ConversaoModel;
+import br.dev.andersonandrade.moedaOne.records.ResumoConversaoArquivoRecord;
 
+import java.io.IOException;
 import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
 import java.util.Optional;
 
 /**
@@ -14,6 +20,15 @@ import java.util.Optional;
 
 public class Main {
     public static void main(String[] args) {
+        if(args.length > 0 && args[0].equals("--arquivo")){
+            converterArquivo(args);
+            return;
+        }
+        if(args.length > 0 && args[0].equals("--servidor")){
+            iniciarServidor(args);
+            return;
+        }
+
         ConversaoModel conversao = new ConversaoModel();
         Optional<Cambio> cambio = conversao.converter(BigDecimal.valueOf(130), Moeda.USD, Moeda.BRL);
 
@@ -23,4 +38,37 @@ public class Main {
             System.out.println("Erro!");
         }
     }
-}
\ No newline at end of file
+
+    private static void converterArquivo(String[] args) {
+        if(args.length != 3){
+            System.err.println("Uso: --arquivo <entrada.csv> <saida.csv>");
+            System.exit(2);
+        }
+
+        ConversaoArquivoCsv conversor = new ConversaoArquivoCsv(new ConversaoModel());
+        try {
+            ResumoConversaoArquivoRecord resumo = conversor.converter(Path.of(args[1]), Path.of(args[2]),
+                    System.err::println);
+            System.out.printf("Linhas: %d, convertidas: %d, inválidas: %d, sem taxa: %d%n",
+                    resumo.linhas(), resumo.convertidas(), resumo.invalidas(), resumo.semTaxa());
+            System.out.printf("Tempo: %.3f s, %.0f linhas/s%n",
+                    resumo.duracao().toNanos() / 1e9, resumo.linhasPorSegundo());
+        } catch (IOException e) {
+            System.err.println("Erro ao converter o arquivo: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    private static void iniciarServidor(String[] args) {
+        int porta = args.length > 1 ? Integer.parseInt(args[1]) : 8080;
+        try {
+            ServidorConversao servidor = new ServidorConversao(new ConversaoModel(), new InetSocketAddress(porta));
+            Runtime.getRuntime().addShutdownHook(new Thread(servidor::encerrar, "encerrar-servidor-conversao"));
+            servidor.iniciar();
+            System.out.println("Servidor de conversão na porta " + servidor.porta());
+        } catch (IOException e) {
+            System.err.println("Erro ao iniciar o servidor: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package br.dev.andersonandrade.moedaOne.beans;
 
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
 import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
 import br.dev.andersonandrade.moedaOne.uteis.ConversorDatas;
 
 import java.math.BigDecimal;
@@ -12,21 +13,43 @@ import java.util.Objects;
  * Classe que representa uma operação de câmbio entre duas moedas.
  * A instância desta classe é imutável e contém informações sobre a transação,
  * incluindo as moedas de origem e destino, as quantidades convertidas e a data da transação.
+ * As quantidades são arredondadas uma única vez, na construção, para duas casas decimais; a conversão é
+ * calculada em ponto fixo por {@link AritmeticaPontoFixo}, com o mesmo resultado de {@link BigDecimal}, e as
+ * quantidades são guardadas como {@code long} em centésimos. O {@link BigDecimal} só é criado nos getters, ou
+ * guardado na construção quando a quantidade não cabe em um {@code long}.
  *
  * @author Anderson Andrade Dev
  * @Data de Criação 12/10/2024
  */
 public class Cambio {
 
+    /**
+     * Escala usada em {@link #Cambio(BigDecimal, MoedaRecord, long, int, boolean)} para indicar que a taxa não cabe em
+     * um {@code long}; a conversão é feita então com {@link BigDecimal}.
+     */
+    public static final int SEM_PONTO_FIXO = Integer.MIN_VALUE;
+
+    /**
+     * Casas decimais das quantidades de origem e de destino.
+     */
+    public static final int ESCALA = 2;
+    /**
+     * Arredondamento aplicado, uma única vez, às quantidades de origem e de destino.
+     */
+    public static final RoundingMode ARREDONDAMENTO = RoundingMode.HALF_DOWN;
+
     private final LocalDateTime dataTransacao;
     private final Moeda destino;
     private final Moeda origem;
-    private final BigDecimal quantidadeMoedasOrigem;
-    private final BigDecimal quantidadeMoedasDestino;
+    private final long quantidadeMoedasOrigem;
+    private final long quantidadeMoedasDestino;
+    private final BigDecimal origemForaDoPontoFixo;
+    private final BigDecimal destinoForaDoPontoFixo;
+    private final boolean taxaDesatualizada;
 
     /**
      * Construtor da classe que inicializa a operação de câmbio com a quantidade de moeda
-     * de origem e os dados da conversão fornecidos por um MoedaRecord.
+     * de origem e os dados da conversão fornecidos por um MoedaRecord. A taxa é considerada atual.
      *
      * @param quantidade Quantidade de moedas de origem.
      * @param moedaRecord Registro contendo as informações sobre a taxa de conversão.
@@ -34,15 +57,78 @@ public class Cambio {
      * @throws NullPointerException se moedaRecord for nulo.
      */
     public Cambio(BigDecimal quantidade, MoedaRecord moedaRecord) {
+        this(quantidade, moedaRecord, false);
+    }
+
+    /**
+     * Construtor que recebe, de quem obteve a taxa, a indicação de que ela já estava expirada, calculada com a
+     * política de expiração e o relógio do serviço de taxas.
+     *
+     * @param quantidade Quantidade de moedas de origem.
+     * @param moedaRecord Registro contendo as informações sobre a taxa de conversão.
+     * @param taxaDesatualizada Se a taxa do registro já estava expirada quando foi obtida.
+     * @throws IllegalArgumentException se a quantidade for negativa ou nula.
+     * @throws NullPointerException se moedaRecord for nulo.
+     */
+    public Cambio(BigDecimal quantidade, MoedaRecord moedaRecord, boolean taxaDesatualizada) {
+        this(quantidade, moedaRecord, taxaEmPontoFixo(moedaRecord), escalaEmPontoFixo(moedaRecord),
+                taxaDesatualizada);
+    }
+
+    /**
+     * Construtor que recebe a taxa do registro já como valor inteiro e escala, obtidos uma única vez pela fonte
+     * das taxas com {@link AritmeticaPontoFixo#valorEscalado(BigDecimal)}, de modo que a conversão não precise
+     * decompor a taxa do registro a cada vez.
+     *
+     * @param quantidade Quantidade de moedas de origem.
+     * @param moedaRecord Registro contendo as informações sobre a taxa de conversão.
+     * @param taxaEscalada O valor inteiro de {@code moedaRecord.conversionRate()}.
+     * @param escalaTaxa A escala de {@code moedaRecord.conversionRate()}, ou {@link #SEM_PONTO_FIXO}.
+     * @param taxaDesatualizada Se a taxa do registro já estava expirada quando foi obtida.
+     * @throws IllegalArgumentException se a quantidade for negativa ou nula.
+     * @throws NullPointerException se moedaRecord for nulo.
+     */
+    public Cambio(BigDecimal quantidade, MoedaRecord moedaRecord, long taxaEscalada, int escalaTaxa,
+                  boolean taxaDesatualizada) {
         validarQuantidadePositiva(quantidade);
         Objects.requireNonNull(moedaRecord, "MoedaRecord não pode ser nula!");
 
-        this.dataTransacao = ConversorDatas.converterDataAPI(moedaRecord.timeLastUpdateUtc());
+        this.dataTransacao = moedaRecord.timeLastUpdateUnix() != null
+                ? ConversorDatas.converterDataUnix(moedaRecord.timeLastUpdateUnix())
+                : ConversorDatas.converterDataAPI(moedaRecord.timeLastUpdateUtc());
         this.destino = Moeda.buscarPorCodigo(moedaRecord.targetCode());
         this.origem = Moeda.buscarPorCodigo(moedaRecord.baseCode());
-        this.quantidadeMoedasOrigem = quantidade;
-        this.quantidadeMoedasDestino = quantidade.multiply(moedaRecord.conversionRate());
+        this.taxaDesatualizada = taxaDesatualizada;
+
+        long origemEscalada = 0L;
+        long destinoEscalado = 0L;
+        boolean pontoFixo = escalaTaxa != SEM_PONTO_FIXO && AritmeticaPontoFixo.cabeEmLong(quantidade);
+        if (pontoFixo) {
+            try {
+                long valor = AritmeticaPontoFixo.valorEscalado(quantidade);
+                origemEscalada = AritmeticaPontoFixo.multiplicarEscalado(valor, quantidade.scale(), 1L, 0,
+                        ESCALA, ARREDONDAMENTO);
+                destinoEscalado = AritmeticaPontoFixo.multiplicarEscalado(valor, quantidade.scale(), taxaEscalada,
+                        escalaTaxa, ESCALA, ARREDONDAMENTO);
+            } catch (ArithmeticException e) {
+                pontoFixo = false;
+            }
+        }
+        this.quantidadeMoedasOrigem = origemEscalada;
+        this.quantidadeMoedasDestino = destinoEscalado;
+        this.origemForaDoPontoFixo = pontoFixo ? null : quantidade.setScale(ESCALA, ARREDONDAMENTO);
+        this.destinoForaDoPontoFixo = pontoFixo ? null
+                : quantidade.multiply(moedaRecord.conversionRate()).setScale(ESCALA, ARREDONDAMENTO);
+    }
 
+    private static long taxaEmPontoFixo(MoedaRecord moedaRecord) {
+        return moedaRecord != null && AritmeticaPontoFixo.cabeEmLong(moedaRecord.conversionRate())
+                ? AritmeticaPontoFixo.valorEscalado(moedaRecord.conversionRate()) : 0L;
+    }
+
+    private static int escalaEmPontoFixo(MoedaRecord moedaRecord) {
+        return moedaRecord != null && AritmeticaPontoFixo.cabeEmLong(moedaRecord.conversionRate())
+                ? moedaRecord.conversionRate().scale() : SEM_PONTO_FIXO;
     }
 
     /**
@@ -78,7 +164,8 @@ public class Cambio {
      * @return A quantidade de moedas de origem.
      */
     public BigDecimal getQuantidadeMoedasOrigem() {
-        return quantidadeMoedasOrigem.setScale(2, RoundingMode.HALF_DOWN);
+        return origemForaDoPontoFixo != null ? origemForaDoPontoFixo
+                : BigDecimal.valueOf(quantidadeMoedasOrigem, ESCALA);
     }
 
     /**
@@ -87,7 +174,18 @@ public class Cambio {
      * @return A quantidade de moedas de destino.
      */
     public BigDecimal getQuantidadeMoedasDestino() {
-        return quantidadeMoedasDestino.setScale(2, RoundingMode.HALF_DOWN);
+        return destinoForaDoPontoFixo != null ? destinoForaDoPontoFixo
+                : BigDecimal.valueOf(quantidadeMoedasDestino, ESCALA);
+    }
+
+    /**
+     * Indica se a conversão usou a última taxa conhecida, já expirada, porque o provedor de taxas
+     * estava indisponível no momento da consulta.
+     *
+     * @return {@code true} se a taxa usada estava desatualizada.
+     */
+    public boolean isTaxaDesatualizada() {
+        return taxaDesatualizada;
     }
 
     /**
@@ -107,12 +205,12 @@ public class Cambio {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Cambio cambio = (Cambio) o;
-        return Objects.equals(dataTransacao, cambio.dataTransacao) && destino == cambio.destino && origem == cambio.origem && Objects.equals(quantidadeMoedasOrigem, cambio.quantidadeMoedasOrigem) && Objects.equals(quantidadeMoedasDestino, cambio.quantidadeMoedasDestino);
+        return taxaDesatualizada == cambio.taxaDesatualizada && Objects.equals(dataTransacao, cambio.dataTransacao) && destino == cambio.destino && origem == cambio.origem && getQuantidadeMoedasOrigem().equals(cambio.getQuantidadeMoedasOrigem()) && getQuantidadeMoedasDestino().equals(cambio.getQuantidadeMoedasDestino());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(dataTransacao, destino, origem, quantidadeMoedasOrigem, quantidadeMoedasDestino);
+        return Objects.hash(dataTransacao, destino, origem, getQuantidadeMoedasOrigem(), getQuantidadeMoedasDestino(), taxaDesatualizada);
     }
 
     @Override
@@ -121,8 +219,8 @@ public class Cambio {
                 "dataTransacao=" + dataTransacao +
                 ", origem=" + origem +
                 ", destino=" + destino +
-                ", quantidadeMoedasOrigem=" + quantidadeMoedasOrigem +
-                ", quantidadeMoedasDestino=" + quantidadeMoedasDestino +
+                ", quantidadeMoedasOrigem=" + getQuantidadeMoedasOrigem() +
+                ", quantidadeMoedasDestino=" + getQuantidadeMoedasDestino() +
                 '}';
     }
 }
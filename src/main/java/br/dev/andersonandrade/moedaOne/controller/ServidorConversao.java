@@ -0,0 +1,346 @@
+package br.dev.andersonandrade.moedaOne.controller;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.model.ConversaoModel;
+import br.dev.andersonandrade.moedaOne.records.PedidoConversaoRecord;
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Servidor HTTP embutido que expõe as conversões de {@link ConversaoModel} em JSON, com uma thread virtual por
+ * requisição: {@code GET /converter?quantidade=&origem=&destino=} e {@code POST /converter/lote}. As conexões
+ * são mantidas abertas entre requisições, até {@value #CONEXOES_OCIOSAS} conexões ociosas.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class ServidorConversao implements AutoCloseable {
+
+    public static final int TAMANHO_MAXIMO_CORPO = 1024 * 1024;
+
+    private static final Logger logger = Logger.getLogger(ServidorConversao.class.getName());
+    private static final Gson gson = new Gson();
+    private static final int CONEXOES_OCIOSAS = 10_000;
+    private static final int FILA_CONEXOES = 16_384;
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+
+    static {
+        System.getProperties().putIfAbsent("sun.net.httpserver.maxIdleConnections",
+                String.valueOf(CONEXOES_OCIOSAS));
+    }
+
+    private final ConversaoModel conversao;
+    private final int tamanhoMaximoCorpo;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+
+    public ServidorConversao(ConversaoModel conversao, InetSocketAddress endereco) throws IOException {
+        this(conversao, endereco, TAMANHO_MAXIMO_CORPO);
+    }
+
+    /**
+     * Cria o servidor, sem iniciá-lo.
+     *
+     * @param conversao O modelo usado nas conversões.
+     * @param endereco O endereço e a porta do servidor; a porta zero escolhe uma porta livre.
+     * @param tamanhoMaximoCorpo O maior corpo de requisição aceito, em bytes.
+     * @throws IOException se não for possível abrir a porta.
+     */
+    public ServidorConversao(ConversaoModel conversao, InetSocketAddress endereco, int tamanhoMaximoCorpo)
+            throws IOException {
+        this.conversao = Objects.requireNonNull(conversao, "O modelo de conversão não pode ser nulo!");
+        if (tamanhoMaximoCorpo < 1) {
+            throw new IllegalArgumentException("O tamanho máximo do corpo deve ser positivo.");
+        }
+        this.tamanhoMaximoCorpo = tamanhoMaximoCorpo;
+        this.servidor = HttpServer.create(Objects.requireNonNull(endereco, "O endereço não pode ser nulo!"),
+                FILA_CONEXOES);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(executor);
+        servidor.createContext("/converter", troca -> tratar(troca, "GET", this::converter));
+        servidor.createContext("/converter/lote", troca -> tratar(troca, "POST", this::converterLote));
+    }
+
+    /**
+     * Resposta a uma requisição.
+     */
+    private record Resposta(int status, String json) {
+    }
+
+    /**
+     * Tratamento de um endpoint.
+     */
+    private interface Endpoint {
+        Resposta tratar(HttpExchange troca) throws IOException;
+    }
+
+    /**
+     * Falha da requisição, respondida com o status e a mensagem informados.
+     */
+    private static final class FalhaRequisicao extends RuntimeException {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int status;
+
+        FalhaRequisicao(int status, String mensagem) {
+            super(mensagem, null, false, false);
+            this.status = status;
+        }
+    }
+
+    public void iniciar() {
+        servidor.start();
+        logger.info("Servidor de conversão iniciado na porta " + porta() + ".");
+    }
+
+    /**
+     * Para de aceitar conexões, espera até um segundo pelas requisições em andamento e encerra as threads.
+     */
+    public void encerrar() {
+        servidor.stop(1);
+        executor.close();
+    }
+
+    @Override
+    public void close() {
+        encerrar();
+    }
+
+    public int porta() {
+        return servidor.getAddress().getPort();
+    }
+
+    private void tratar(HttpExchange troca, String metodo, Endpoint endpoint) {
+        try (troca) {
+            Resposta resposta;
+            try {
+                if (!troca.getRequestURI().getPath().equals(troca.getHttpContext().getPath())) {
+                    throw new FalhaRequisicao(404, "Recurso não encontrado.");
+                }
+                if (!troca.getRequestMethod().equals(metodo)) {
+                    troca.getResponseHeaders().set("Allow", metodo);
+                    throw new FalhaRequisicao(405, "Método não suportado.");
+                }
+                resposta = endpoint.tratar(troca);
+            } catch (FalhaRequisicao e) {
+                resposta = erro(e.status, e.getMessage());
+            } catch (RuntimeException e) {
+                logger.log(Level.WARNING, "Erro ao tratar " + troca.getRequestURI() + ": " + e.getMessage(), e);
+                resposta = erro(500, "Erro interno.");
+            }
+            enviar(troca, resposta);
+        } catch (IOException e) {
+            logger.fine("Conexão encerrada pelo cliente: " + e.getMessage());
+        }
+    }
+
+    private Resposta converter(HttpExchange troca) {
+        Map<String, String> parametros = lerParametros(troca.getRequestURI().getRawQuery());
+        PedidoConversaoRecord pedido = criarPedido(
+                lerQuantidade(parametros.get("quantidade")),
+                lerMoeda(parametros.get("origem"), "origem"),
+                lerMoeda(parametros.get("destino"), "destino"));
+
+        Optional<Cambio> cambio = conversao.converter(pedido.quantidade(), pedido.origem(), pedido.destino());
+        if (cambio.isEmpty()) {
+            return erro(404, "Sem taxa para " + pedido.origem() + "/" + pedido.destino() + ".");
+        }
+        StringBuilder json = new StringBuilder(96);
+        escreverCambio(json, pedido, cambio.get());
+        return new Resposta(200, json.toString());
+    }
+
+    private Resposta converterLote(HttpExchange troca) throws IOException {
+        String corpo = new String(lerCorpo(troca), StandardCharsets.UTF_8);
+        JsonElement raiz;
+        try {
+            raiz = JsonParser.parseString(corpo);
+        } catch (JsonParseException e) {
+            throw new FalhaRequisicao(400, "JSON inválido.");
+        }
+        if (!raiz.isJsonArray()) {
+            throw new FalhaRequisicao(400, "O corpo deve ser um array de pedidos.");
+        }
+        JsonArray itens = raiz.getAsJsonArray();
+        if (itens.size() > conversao.limiteLote()) {
+            throw new FalhaRequisicao(413, "O lote deve ter no máximo " + conversao.limiteLote() + " pedidos.");
+        }
+
+        List<PedidoConversaoRecord> pedidos = new ArrayList<>(itens.size());
+        for (int i = 0; i < itens.size(); i++) {
+            pedidos.add(lerPedido(itens.get(i), i));
+        }
+
+        List<Optional<Cambio>> cambios = conversao.converterLote(pedidos);
+        StringBuilder json = new StringBuilder(2 + pedidos.size() * 72);
+        json.append('[');
+        for (int i = 0; i < pedidos.size(); i++) {
+            if (i > 0) {
+                json.append(',');
+            }
+            Optional<Cambio> cambio = cambios.get(i);
+            if (cambio.isPresent()) {
+                escreverCambio(json, pedidos.get(i), cambio.get());
+            } else {
+                json.append("null");
+            }
+        }
+        return new Resposta(200, json.append(']').toString());
+    }
+
+    /**
+     * Lê o corpo da requisição até o limite. O tamanho declarado é verificado antes da leitura, e um corpo sem
+     * tamanho declarado é lido apenas até um byte além do limite.
+     */
+    private byte[] lerCorpo(HttpExchange troca) throws IOException {
+        String tamanho = troca.getRequestHeaders().getFirst("Content-Length");
+        if (tamanho != null) {
+            try {
+                if (Long.parseLong(tamanho.strip()) > tamanhoMaximoCorpo) {
+                    throw corpoGrandeDemais(troca);
+                }
+            } catch (NumberFormatException e) {
+                throw new FalhaRequisicao(400, "Content-Length inválido.");
+            }
+        }
+
+        InputStream entrada = troca.getRequestBody();
+        byte[] corpo = entrada.readNBytes(tamanhoMaximoCorpo + 1);
+        if (corpo.length > tamanhoMaximoCorpo) {
+            throw corpoGrandeDemais(troca);
+        }
+        return corpo;
+    }
+
+    /**
+     * O restante do corpo não é lido; a conexão é fechada depois da resposta para não ser reaproveitada com
+     * bytes pendentes.
+     */
+    private FalhaRequisicao corpoGrandeDemais(HttpExchange troca) {
+        troca.getResponseHeaders().set("Connection", "close");
+        return new FalhaRequisicao(413, "O corpo deve ter no máximo " + tamanhoMaximoCorpo + " bytes.");
+    }
+
+    private static PedidoConversaoRecord lerPedido(JsonElement item, int indice) {
+        if (!item.isJsonObject()) {
+            throw new FalhaRequisicao(400, "Pedido " + indice + ": deve ser um objeto.");
+        }
+        JsonObject objeto = item.getAsJsonObject();
+        try {
+            return criarPedido(
+                    lerQuantidade(texto(objeto, "quantidade")),
+                    lerMoeda(texto(objeto, "origem"), "origem"),
+                    lerMoeda(texto(objeto, "destino"), "destino"));
+        } catch (FalhaRequisicao e) {
+            throw new FalhaRequisicao(400, "Pedido " + indice + ": " + e.getMessage());
+        }
+    }
+
+    private static String texto(JsonObject objeto, String campo) {
+        JsonElement valor = objeto.get(campo);
+        if (valor instanceof JsonPrimitive primitivo && !primitivo.isBoolean()) {
+            return primitivo.getAsString();
+        }
+        return null;
+    }
+
+    /**
+     * Cria o pedido, respondendo 400 se a quantidade for negativa ou passar do limite de dígitos de
+     * {@link PedidoConversaoRecord}.
+     */
+    private static PedidoConversaoRecord criarPedido(BigDecimal quantidade, Moeda origem, Moeda destino) {
+        try {
+            return new PedidoConversaoRecord(quantidade, origem, destino);
+        } catch (IllegalArgumentException e) {
+            throw new FalhaRequisicao(400, e.getMessage());
+        }
+    }
+
+    private static BigDecimal lerQuantidade(String texto) {
+        if (texto == null) {
+            throw new FalhaRequisicao(400, "A quantidade é obrigatória.");
+        }
+        BigDecimal quantidade;
+        try {
+            quantidade = new BigDecimal(texto.strip());
+        } catch (NumberFormatException e) {
+            throw new FalhaRequisicao(400, "Quantidade inválida.");
+        }
+        return quantidade;
+    }
+
+    private static Moeda lerMoeda(String codigo, String papel) {
+        if (codigo == null) {
+            throw new FalhaRequisicao(400, "A moeda de " + papel + " é obrigatória.");
+        }
+        return Moeda.buscarOpcional(codigo.strip())
+                .orElseThrow(() -> new FalhaRequisicao(400, "Moeda de " + papel + " inválida: " + codigo.strip()));
+    }
+
+    private static Map<String, String> lerParametros(String consulta) {
+        Map<String, String> parametros = new HashMap<>();
+        if (consulta == null || consulta.isEmpty()) {
+            return parametros;
+        }
+        for (String parametro : consulta.split("&")) {
+            int igual = parametro.indexOf('=');
+            if (igual > 0) {
+                try {
+                    parametros.putIfAbsent(URLDecoder.decode(parametro.substring(0, igual), StandardCharsets.UTF_8),
+                            URLDecoder.decode(parametro.substring(igual + 1), StandardCharsets.UTF_8));
+                } catch (IllegalArgumentException e) {
+                    throw new FalhaRequisicao(400, "Parâmetro inválido.");
+                }
+            }
+        }
+        return parametros;
+    }
+
+    private static void escreverCambio(StringBuilder json, PedidoConversaoRecord pedido, Cambio cambio) {
+        json.append("{\"origem\":\"").append(pedido.origem())
+                .append("\",\"destino\":\"").append(pedido.destino())
+                .append("\",\"quantidade\":").append(pedido.quantidade().toPlainString())
+                .append(",\"valor\":").append(cambio.getQuantidadeMoedasDestino().toPlainString())
+                .append('}');
+    }
+
+    private static Resposta erro(int status, String mensagem) {
+        return new Resposta(status, "{\"erro\":" + gson.toJson(mensagem) + "}");
+    }
+
+    private static void enviar(HttpExchange troca, Resposta resposta) throws IOException {
+        byte[] corpo = resposta.json().getBytes(StandardCharsets.UTF_8);
+        troca.getResponseHeaders().set("Content-Type", TIPO_JSON);
+        troca.sendResponseHeaders(resposta.status(), corpo.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(corpo);
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package br.dev.andersonandrade.moedaOne.enuns;
 
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
 /**
  * @author Anderson Andrade Dev
  * @Data de Criação 11/10/2024
@@ -166,6 +171,14 @@ public enum Moeda {
     ZMW("Kwacha Zambiano", "Zâmbia"),
     ZWL("Dólar Zimbabuano", "Zimbábue");
 
+    private static final Map<String, Moeda> CODIGOS = new HashMap<>();
+
+    static {
+        for (Moeda moeda : values()) {
+            CODIGOS.put(moeda.name(), moeda);
+        }
+    }
+
     private final String nome;
     private final String pais;
 
@@ -183,11 +196,22 @@ public enum Moeda {
     }
 
     public static Moeda buscarPorCodigo(String codigo) {
-        for (Moeda moeda : Moeda.values()) {
-            if (moeda.name().equalsIgnoreCase(codigo)) {
-                return moeda;
-            }
+        Moeda moeda = buscar(codigo);
+        if (moeda == null) {
+            throw new IllegalArgumentException("Moeda não encontrada: " + codigo);
+        }
+        return moeda;
+    }
+
+    public static Optional<Moeda> buscarOpcional(String codigo) {
+        return Optional.ofNullable(buscar(codigo));
+    }
+
+    private static Moeda buscar(String codigo) {
+        if (codigo == null) {
+            return null;
         }
-        throw new IllegalArgumentException("Moeda não encontrada: " + codigo);
+        Moeda moeda = CODIGOS.get(codigo);
+        return moeda != null ? moeda : CODIGOS.get(codigo.toUpperCase(Locale.ROOT));
     }
 }
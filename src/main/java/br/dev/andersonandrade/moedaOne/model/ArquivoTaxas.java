@@ -0,0 +1,397 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.ConversorDatas;
+import com.google.gson.Gson;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Armazenamento binário das taxas, mapeado em memória, com uma posição de tamanho fixo por par de moedas e a taxa
+ * em ponto fixo. A leitura não usa bloqueio e é repetida se a posição mudar no meio dela; as gravações entre
+ * processos do mesmo host são serializadas por um {@link FileLock} e nunca substituem uma taxa mais recente.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class ArquivoTaxas implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ArquivoTaxas.class.getName());
+
+    private static final short VERSAO = 1;
+    private static final int MAGICO = 0x4D4F4544;
+    private static final int TAMANHO_CABECALHO = 32;
+    private static final int TAMANHO_POSICAO = 32;
+    static final int ESCALA_MAXIMA = 12;
+    private static final int DESLOCAMENTO_SEQUENCIA = 12;
+    private static final int LIMITE_TENTATIVAS_LEITURA = 10_000;
+    private static final long POSICAO_RESERVAS = 1L << 40;
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final long SEM_HORARIO = Long.MIN_VALUE;
+    private static final MathContext PRECISAO_MAXIMA = new MathContext(18, RoundingMode.HALF_EVEN);
+    private static final VarHandle SEQUENCIA =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+    private static final ConcurrentMap<Path, ReentrantLock> travasLocais = new ConcurrentHashMap<>();
+
+    private static final String RESULTADO = "success";
+    private static final String DOCUMENTACAO = "https://www.exchangerate-api.com/docs";
+    private static final String TERMOS_USO = "https://www.exchangerate-api.com/terms";
+
+    private final Path caminho;
+    private final FileChannel canal;
+    private final MappedByteBuffer buffer;
+    private final ReentrantLock travaLocal;
+
+    private ArquivoTaxas(Path caminho, FileChannel canal, MappedByteBuffer buffer, ReentrantLock travaLocal) {
+        this.caminho = caminho;
+        this.canal = canal;
+        this.buffer = buffer;
+        this.travaLocal = travaLocal;
+    }
+
+    /**
+     * Abre o arquivo de taxas, criando-o vazio se ele não existir ou se for de um formato incompatível.
+     *
+     * @param caminho O caminho do arquivo.
+     * @return O arquivo aberto e mapeado em memória.
+     * @throws IOException se o arquivo não puder ser criado ou mapeado.
+     */
+    static ArquivoTaxas abrir(Path caminho) throws IOException {
+        Objects.requireNonNull(caminho, "O caminho do arquivo não pode ser nulo!");
+        long tamanho = TAMANHO_CABECALHO + (long) TOTAL_MOEDAS * TOTAL_MOEDAS * TAMANHO_POSICAO;
+
+        if (Files.exists(caminho) && !compativel(caminho, tamanho)) {
+            Path invalido = caminho.resolveSibling(caminho.getFileName() + ".invalido");
+            Files.move(caminho, invalido, StandardCopyOption.REPLACE_EXISTING);
+            logger.log(Level.WARNING, "Arquivo de taxas incompatível preservado em " + invalido);
+        }
+
+        ReentrantLock travaLocal = travasLocais.computeIfAbsent(caminho.toAbsolutePath().normalize(),
+                chave -> new ReentrantLock());
+        FileChannel canal = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        travaLocal.lock();
+        try {
+            FileLock bloqueio = canal.lock(0, TAMANHO_CABECALHO, false);
+            try {
+                MappedByteBuffer buffer = canal.map(FileChannel.MapMode.READ_WRITE, 0, tamanho);
+                if (buffer.getInt(0) != MAGICO) {
+                    buffer.putShort(4, VERSAO);
+                    buffer.putShort(6, (short) TOTAL_MOEDAS);
+                    buffer.putInt(8, TAMANHO_POSICAO);
+                    buffer.putLong(16, System.currentTimeMillis() / 1000L);
+                    buffer.putInt(0, MAGICO);
+                    buffer.force();
+                }
+                return new ArquivoTaxas(caminho, canal, buffer, travaLocal);
+            } finally {
+                bloqueio.release();
+            }
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        } finally {
+            travaLocal.unlock();
+        }
+    }
+
+    /**
+     * Lê todos os registros gravados.
+     *
+     * @return Os registros das posições preenchidas.
+     */
+    List<MoedaRecord> ler() {
+        List<MoedaRecord> registros = new ArrayList<>();
+        Moeda[] moedas = Moeda.values();
+
+        for (Moeda origem : moedas) {
+            for (Moeda destino : moedas) {
+                MoedaRecord registro = lerPosicao(origem, destino);
+                if (registro != null) {
+                    registros.add(registro);
+                }
+            }
+        }
+        return registros;
+    }
+
+    /**
+     * Lê o registro do par diretamente da sua posição no arquivo.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return O registro ou {@code null} se o par não estiver gravado.
+     */
+    MoedaRecord registro(Moeda origem, Moeda destino) {
+        return lerPosicao(origem, destino);
+    }
+
+    /**
+     * Lê os registros gravados com a moeda de origem informada.
+     *
+     * @param origem A moeda de origem.
+     * @return Os registros das posições preenchidas da moeda.
+     */
+    List<MoedaRecord> registrosDe(Moeda origem) {
+        List<MoedaRecord> registros = new ArrayList<>();
+        for (Moeda destino : Moeda.values()) {
+            MoedaRecord registro = lerPosicao(origem, destino);
+            if (registro != null) {
+                registros.add(registro);
+            }
+        }
+        return registros;
+    }
+
+    /**
+     * Grava os registros nas posições dos seus pares e força a gravação no disco.
+     *
+     * @param registros Os registros a serem gravados.
+     * @see #publicar(Collection)
+     */
+    void gravar(Collection<MoedaRecord> registros) {
+        publicar(registros);
+        buffer.force();
+    }
+
+    /**
+     * Grava os registros nas posições dos seus pares sem forçar a gravação no disco. As novas taxas ficam
+     * visíveis imediatamente para os outros processos que mapeiam o mesmo arquivo. Registros com moedas que
+     * não pertencem ao enum {@link Moeda}, sem taxa ou mais antigos do que a taxa já gravada são ignorados.
+     *
+     * @param registros Os registros a serem gravados.
+     * @return O número de posições gravadas.
+     */
+    int publicar(Collection<MoedaRecord> registros) {
+        Objects.requireNonNull(registros, "Verifique o parâmetro, ele não pode ser nulo!");
+
+        int gravadas = 0;
+        travaLocal.lock();
+        try {
+            FileLock bloqueio = canal.lock(0, TAMANHO_CABECALHO, false);
+            try {
+                for (MoedaRecord registro : registros) {
+                    Optional<Moeda> origem = Moeda.buscarOpcional(registro.baseCode());
+                    Optional<Moeda> destino = Moeda.buscarOpcional(registro.targetCode());
+                    if (origem.isEmpty() || destino.isEmpty() || registro.conversionRate() == null
+                            || registro.conversionRate().signum() <= 0) {
+                        continue;
+                    }
+
+                    int posicao = posicao(origem.get(), destino.get());
+                    long ultima = paraArquivo(registro.timeLastUpdateUnix());
+                    if (buffer.getLong(posicao) > 0 && buffer.getLong(posicao + 16) > ultima) {
+                        continue;
+                    }
+                    gravarPosicao(posicao, pontoFixo(registro.conversionRate()), ultima,
+                            paraArquivo(registro.timeNextUpdateUnix()));
+                    gravadas++;
+                }
+                buffer.putLong(16, System.currentTimeMillis() / 1000L);
+            } finally {
+                bloqueio.release();
+            }
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Erro ao bloquear o arquivo de taxas " + caminho + ": " + e.getMessage());
+        } finally {
+            travaLocal.unlock();
+        }
+        return gravadas;
+    }
+
+    /**
+     * Tenta reservar para este processo a busca da taxa do par na API. Enquanto a reserva estiver ativa, as
+     * tentativas dos outros processos, e deste mesmo processo, de reservar o par falham.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A reserva, que deve ser liberada depois que a nova taxa for gravada, ou {@code null} se o par
+     *         já estiver reservado.
+     * @throws IOException se o arquivo não puder ser bloqueado.
+     */
+    FileLock reservarAtualizacao(Moeda origem, Moeda destino) throws IOException {
+        long indice = (long) origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+        try {
+            return canal.tryLock(POSICAO_RESERVAS + indice, 1, false);
+        } catch (OverlappingFileLockException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Exporta os registros gravados para um arquivo JSON, para depuração.
+     *
+     * @param destino O arquivo JSON a ser criado.
+     * @param gson O Gson usado na serialização.
+     * @throws IOException se o arquivo não puder ser gravado.
+     */
+    void exportarJson(Path destino, Gson gson) throws IOException {
+        List<MoedaRecord> registros = ler();
+        try (Writer writer = Files.newBufferedWriter(destino, StandardCharsets.UTF_8)) {
+            gson.toJson(registros, writer);
+        }
+    }
+
+    /**
+     * Fecha o canal do arquivo, liberando as reservas deste processo. O mapeamento é liberado pela coleta de lixo.
+     */
+    @Override
+    public void close() {
+        try {
+            buffer.force();
+            canal.close();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Erro ao fechar o arquivo de taxas " + caminho + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Lê a posição do par sem bloqueio. Se a sequência estiver ímpar ou mudar durante a leitura, outro processo
+     * está gravando a posição e a leitura é repetida. Se a posição continuar em gravação depois do limite de
+     * tentativas, como acontece quando um processo termina no meio da gravação, o par é tratado como ausente
+     * até a próxima gravação.
+     */
+    private MoedaRecord lerPosicao(Moeda origem, Moeda destino) {
+        int posicao = posicao(origem, destino);
+
+        for (int tentativa = 0; tentativa < LIMITE_TENTATIVAS_LEITURA; tentativa++) {
+            int sequencia = (int) SEQUENCIA.getAcquire(buffer, posicao + DESLOCAMENTO_SEQUENCIA);
+            if ((sequencia & 1) != 0) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            long valor = buffer.getLong(posicao);
+            int escala = buffer.getInt(posicao + 8);
+            long ultima = buffer.getLong(posicao + 16);
+            long proxima = buffer.getLong(posicao + 24);
+
+            VarHandle.loadLoadFence();
+            if ((int) SEQUENCIA.getVolatile(buffer, posicao + DESLOCAMENTO_SEQUENCIA) != sequencia) {
+                continue;
+            }
+            return valor <= 0 ? null : montar(origem, destino, valor, escala, ultima, proxima);
+        }
+
+        logger.log(Level.WARNING, "Posição de " + origem + "/" + destino + " em gravação há muito tempo");
+        return null;
+    }
+
+    /**
+     * Grava a posição tornando a sequência ímpar antes e par depois da gravação. Uma sequência que ficou ímpar
+     * por uma gravação interrompida é corrigida pela próxima gravação.
+     */
+    private void gravarPosicao(int posicao, BigDecimal taxa, long ultima, long proxima) {
+        int sequencia = (int) SEQUENCIA.getVolatile(buffer, posicao + DESLOCAMENTO_SEQUENCIA) | 1;
+        SEQUENCIA.setVolatile(buffer, posicao + DESLOCAMENTO_SEQUENCIA, sequencia);
+        // impede que as gravações dos campos abaixo sejam vistas antes da sequência ímpar
+        VarHandle.storeStoreFence();
+
+        buffer.putLong(posicao, taxa.unscaledValue().longValueExact());
+        buffer.putInt(posicao + 8, taxa.scale());
+        buffer.putLong(posicao + 16, ultima);
+        buffer.putLong(posicao + 24, proxima);
+
+        SEQUENCIA.setRelease(buffer, posicao + DESLOCAMENTO_SEQUENCIA, sequencia + 1);
+    }
+
+    /**
+     * Monta o registro do par a partir dos campos no formato binário.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param valor O valor inteiro da taxa em ponto fixo.
+     * @param escala A escala da taxa.
+     * @param ultima O horário da última atualização, ou o marcador de horário ausente.
+     * @param proxima O horário da próxima atualização, ou o marcador de horário ausente.
+     * @return O registro do par.
+     */
+    static MoedaRecord montar(Moeda origem, Moeda destino, long valor, int escala, long ultima, long proxima) {
+        Long ultimaUnix = doArquivo(ultima);
+        Long proximaUnix = doArquivo(proxima);
+        return new MoedaRecord(RESULTADO, DOCUMENTACAO, TERMOS_USO, ultimaUnix, ConversorDatas.formatarDataAPI(ultimaUnix),
+                proximaUnix, ConversorDatas.formatarDataAPI(proximaUnix), origem.name(), destino.name(),
+                BigDecimal.valueOf(valor, escala), null);
+    }
+
+    /**
+     * Converte a taxa para ponto fixo, com no máximo {@value #ESCALA_MAXIMA} casas decimais e um valor
+     * inteiro que caiba em um {@code long}.
+     *
+     * @param taxa A taxa positiva.
+     * @return A taxa com a escala ajustada.
+     */
+    static BigDecimal pontoFixo(BigDecimal taxa) {
+        BigDecimal ajustada = taxa.stripTrailingZeros();
+        if (ajustada.scale() > ESCALA_MAXIMA) {
+            ajustada = ajustada.setScale(ESCALA_MAXIMA, RoundingMode.HALF_EVEN);
+        }
+        if (ajustada.unscaledValue().bitLength() > 63) {
+            ajustada = ajustada.round(PRECISAO_MAXIMA);
+        }
+        return ajustada.scale() < 0 ? ajustada.setScale(0) : ajustada;
+    }
+
+    private static boolean compativel(Path caminho, long tamanho) throws IOException {
+        try (FileChannel canal = FileChannel.open(caminho, StandardOpenOption.READ)) {
+            if (canal.size() == 0) {
+                return true;
+            }
+            if (canal.size() != tamanho) {
+                return false;
+            }
+            MappedByteBuffer cabecalho = canal.map(FileChannel.MapMode.READ_ONLY, 0, TAMANHO_CABECALHO);
+            if (cabecalho.getInt(0) == 0) {
+                return true;
+            }
+            return cabecalho.getInt(0) == MAGICO && cabecalho.getShort(4) == VERSAO
+                    && cabecalho.getShort(6) == TOTAL_MOEDAS && cabecalho.getInt(8) == TAMANHO_POSICAO;
+        }
+    }
+
+    private static int posicao(Moeda origem, Moeda destino) {
+        return TAMANHO_CABECALHO + (origem.ordinal() * TOTAL_MOEDAS + destino.ordinal()) * TAMANHO_POSICAO;
+    }
+
+    /**
+     * Converte um horário opcional para o formato binário.
+     *
+     * @param unix O horário em segundos Unix, ou {@code null}.
+     * @return O horário ou o marcador de horário ausente.
+     */
+    static long paraArquivo(Long unix) {
+        return unix == null ? SEM_HORARIO : unix;
+    }
+
+    private static Long doArquivo(long unix) {
+        return unix == SEM_HORARIO ? null : unix;
+    }
+}
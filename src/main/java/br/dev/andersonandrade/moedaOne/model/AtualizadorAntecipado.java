@@ -0,0 +1,162 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Agenda a atualização das taxas em uso pouco antes do horário da próxima atualização informado pela API,
+ * com uma variação aleatória que nunca passa desse horário, para que as consultas não precisem aguardar a API
+ * quando o registro expirar.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class AtualizadorAntecipado implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(AtualizadorAntecipado.class.getName());
+    private static final long INTERVALO_MINIMO_MS = 1000L;
+
+    private final long antecedenciaMs;
+    private final long variacaoMs;
+    private final Semaphore simultaneas;
+    private final ConcurrentMap<String, Long> agendadas = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService agendador;
+
+    /**
+     * Cria o atualizador.
+     *
+     * @param antecedencia Quanto tempo antes da próxima atualização a taxa deve ser buscada novamente.
+     * @param variacao A variação aleatória máxima subtraída do horário agendado.
+     * @param maximoSimultaneas O número máximo de atualizações em andamento ao mesmo tempo.
+     */
+    AtualizadorAntecipado(Duration antecedencia, Duration variacao, int maximoSimultaneas) {
+        if (antecedencia.isNegative() || variacao.isNegative() || maximoSimultaneas < 1) {
+            throw new IllegalArgumentException("Verifique a configuração da atualização antecipada.");
+        }
+
+        this.antecedenciaMs = antecedencia.toMillis();
+        this.variacaoMs = variacao.toMillis();
+        this.simultaneas = new Semaphore(maximoSimultaneas);
+
+        AtomicInteger contador = new AtomicInteger();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "atualizador-taxas-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Agenda a atualização da chave, caso ela ainda não esteja agendada para o mesmo horário
+     * de próxima atualização ou para um horário posterior.
+     *
+     * @param chave A chave que identifica o par ou a tabela.
+     * @param proximaAtualizacaoUnix O horário da próxima atualização informado pela API, em segundos Unix.
+     * @param atualizacao A busca forçada na API, que devolve o novo horário de próxima atualização
+     *                    ou {@code null} se a busca falhar.
+     */
+    void agendar(String chave, long proximaAtualizacaoUnix, Supplier<CompletableFuture<Long>> atualizacao) {
+        Objects.requireNonNull(chave, "A chave não pode ser nula!");
+        Objects.requireNonNull(atualizacao, "A atualização não pode ser nula!");
+
+        if (agendador.isShutdown()) {
+            return;
+        }
+
+        while (true) {
+            Long anterior = agendadas.putIfAbsent(chave, proximaAtualizacaoUnix);
+            if (anterior == null) {
+                break;
+            }
+            if (anterior >= proximaAtualizacaoUnix) {
+                return;
+            }
+            if (agendadas.replace(chave, anterior, proximaAtualizacaoUnix)) {
+                break;
+            }
+        }
+
+        long horario = proximaAtualizacaoUnix * 1000L - antecedenciaMs
+                - (variacaoMs == 0 ? 0 : ThreadLocalRandom.current().nextLong(variacaoMs + 1));
+        programar(chave, proximaAtualizacaoUnix, horario - System.currentTimeMillis(), atualizacao);
+    }
+
+    /**
+     * Informa se a chave possui uma atualização agendada ou em andamento.
+     *
+     * @param chave A chave que identifica o par ou a tabela.
+     * @return {@code true} se a chave estiver agendada.
+     */
+    boolean agendada(String chave) {
+        return agendadas.containsKey(chave);
+    }
+
+    /**
+     * Cancela os agendamentos e encerra as threads do agendador.
+     */
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+        agendadas.clear();
+    }
+
+    private void programar(String chave, long proximaAtualizacaoUnix, long atrasoMs,
+                           Supplier<CompletableFuture<Long>> atualizacao) {
+        try {
+            agendador.schedule(() -> executar(chave, proximaAtualizacaoUnix, atualizacao),
+                    Math.max(0, atrasoMs), TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            agendadas.remove(chave, proximaAtualizacaoUnix);
+        }
+    }
+
+    private void executar(String chave, long proximaAtualizacaoUnix, Supplier<CompletableFuture<Long>> atualizacao) {
+        Long agendada = agendadas.get(chave);
+        if (agendada == null || agendada != proximaAtualizacaoUnix) {
+            return;
+        }
+
+        if (!simultaneas.tryAcquire()) {
+            programar(chave, proximaAtualizacaoUnix, INTERVALO_MINIMO_MS, atualizacao);
+            return;
+        }
+
+        CompletableFuture<Long> busca;
+        try {
+            busca = atualizacao.get();
+        } catch (RuntimeException e) {
+            busca = CompletableFuture.failedFuture(e);
+        }
+
+        busca.whenComplete((novaProximaAtualizacao, erro) -> {
+            simultaneas.release();
+
+            if (erro != null) {
+                logger.log(Level.WARNING, "Erro na atualização antecipada de " + chave + ": " + erro.getMessage());
+            }
+
+            boolean semNovidade = novaProximaAtualizacao == null || novaProximaAtualizacao <= proximaAtualizacaoUnix;
+            long fimJanela = proximaAtualizacaoUnix * 1000L + antecedenciaMs;
+
+            if (semNovidade && System.currentTimeMillis() < fimJanela) {
+                programar(chave, proximaAtualizacaoUnix,
+                        Math.max(INTERVALO_MINIMO_MS, antecedenciaMs / 4), atualizacao);
+            } else {
+                agendadas.remove(chave, proximaAtualizacaoUnix);
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Cache em memória das taxas de conversão, indexado pela moeda de origem e pela moeda de destino.
+ * As consultas leem um {@link AtomicReferenceArray} por origem, sem alocar objetos nem sincronizar.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class CacheTaxas {
+
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+
+    private final Map<Moeda, AtomicReferenceArray<MoedaRecord>> taxas = new EnumMap<>(Moeda.class);
+
+    CacheTaxas() {
+        for (Moeda moeda : Moeda.values()) {
+            taxas.put(moeda, new AtomicReferenceArray<>(TOTAL_MOEDAS));
+        }
+    }
+
+    /**
+     * Obtém o registro armazenado para o par, sem verificar a validade, que é definida pela
+     * {@link PoliticaExpiracao}.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return O registro em cache ou {@code null} se não houver registro para o par.
+     */
+    MoedaRecord registro(Moeda origem, Moeda destino) {
+        return taxas.get(origem).get(destino.ordinal());
+    }
+
+    /**
+     * Armazena um registro no cache. Um registro com próxima atualização anterior à do registro
+     * já armazenado para o mesmo par é ignorado.
+     *
+     * @param moedaRecord O registro a ser armazenado.
+     */
+    void atualizar(MoedaRecord moedaRecord) {
+        Objects.requireNonNull(moedaRecord, "MoedaRecord não pode ser nula!");
+
+        Moeda origem = Moeda.buscarPorCodigo(moedaRecord.baseCode());
+        Moeda destino = Moeda.buscarPorCodigo(moedaRecord.targetCode());
+        AtomicReferenceArray<MoedaRecord> destinos = taxas.get(origem);
+
+        MoedaRecord atual;
+        do {
+            atual = destinos.get(destino.ordinal());
+            if (atual != null && proximaAtualizacao(atual) > proximaAtualizacao(moedaRecord)) {
+                return;
+            }
+        } while (!destinos.compareAndSet(destino.ordinal(), atual, moedaRecord));
+    }
+
+    /**
+     * Carrega no cache todos os registros informados.
+     *
+     * @param moedaRecords Os registros lidos do armazenamento local.
+     */
+    void carregar(Collection<MoedaRecord> moedaRecords) {
+        for (MoedaRecord moedaRecord : moedaRecords) {
+            atualizar(moedaRecord);
+        }
+    }
+
+    private static long proximaAtualizacao(MoedaRecord moedaRecord) {
+        Long timeNextUpdateUnix = moedaRecord.timeNextUpdateUnix();
+        return timeNextUpdateUnix == null ? Long.MIN_VALUE : timeNextUpdateUnix;
+    }
+}
@@ -0,0 +1,37 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Future;
+
+/**
+ * Propaga o cancelamento de um CompletableFuture para a etapa da qual ele depende. Os estágios criados por
+ * {@code thenApply}, {@code handle} e semelhantes não cancelam a etapa anterior quando são cancelados, de modo
+ * que, sem essa ligação, cancelar uma conversão assíncrona não interromperia a requisição ao provedor de taxas.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class Cancelamentos {
+
+    private Cancelamentos() {
+    }
+
+    /**
+     * Cancela a origem quando o dependente for cancelado.
+     *
+     * @param dependente O estágio devolvido ao chamador.
+     * @param origem A etapa da qual o dependente depende.
+     * @param <T> O tipo do resultado do dependente.
+     * @return O próprio dependente.
+     */
+    static <T> CompletableFuture<T> propagar(CompletableFuture<T> dependente, Future<?> origem) {
+        Objects.requireNonNull(origem, "A origem não pode ser nula!");
+        dependente.whenComplete((resultado, erro) -> {
+            if (dependente.isCancelled()) {
+                origem.cancel(true);
+            }
+        });
+        return dependente;
+    }
+}
@@ -1,24 +1,31 @@
 package br.dev.andersonandrade.moedaOne.model;
 
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MetricasCotaRecord;
 import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import br.dev.andersonandrade.moedaOne.records.TaxaInferidaRecord;
 import com.google.gson.FieldNamingPolicy;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.reflect.TypeToken;
 
 import java.io.*;
-import java.lang.reflect.Type;
-import java.net.URI;
-import java.net.http.HttpClient;
-import java.net.http.HttpRequest;
-import java.net.http.HttpResponse;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
 import java.time.Duration;
-import java.time.LocalDateTime;
-import java.time.OffsetDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
 import java.util.logging.FileHandler;
 import java.util.logging.Level;
 import java.util.logging.Logger;
@@ -26,204 +33,1057 @@ import java.util.logging.SimpleFormatter;
 
 
 /**
- * A classe ConexaoModel é responsável por gerenciar a conexão com uma API de taxa de câmbio de moedas,
- * além de armazenar e recuperar dados JSON relacionados às conversões de moeda.
- * Utiliza HttpClient para se comunicar com a API e Gson para manipulação de JSON.
- * Esta classe contém métodos para buscar, gravar e processar dados de conversão de moeda.
+ * A classe ConexaoModel é o serviço de taxas de câmbio da aplicação. Ela obtém as taxas de um
+ * {@link ProvedorTaxas} e as mantém em cache, em uma matriz em memória e em um arquivo binário local.
+ * O serviço é preparado em {@link #iniciar()} e liberado em {@link #encerrar()}; a instância usada pela
+ * interface gráfica é obtida em {@link #padrao()}.
  *
  * @author Anderson Andrade Dev
  * @version 1.0
  * @since 2024-10-11
  */
-public final class ConexaoModel {
+public final class ConexaoModel implements AutoCloseable {
 
+    private static final String CONFIGURACAO_PATH = "configuracao.properties";
     private static final String LOG_PATH = "logs/conexao.log";
     private static final String JSON_PATH = "jsons/moedas.json";
-    private static final Logger logger = Logger.getLogger(ConexaoModel.class.getClass().getName());
+    private static final String ARQUIVO_TAXAS_PATH = "dados/taxas.bin";
+    private static final String DIARIO_TAXAS_PATH = "dados/taxas.diario";
+    private static final int LOTE_MIGRACAO = 500;
+    private static final String COTA_PATH = "jsons/cota.properties";
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final Logger logger = Logger.getLogger(ConexaoModel.class.getName());
     private static final Gson gson = new GsonBuilder()
             .setPrettyPrinting()
             .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
             .create();
-    private static final Set<MoedaRecord> moedaRecordSet = new HashSet<>();
-    private static final Properties prop = new Properties();
-    private static final HttpClient client = HttpClient.newHttpClient();
-    private static String url;
-    private static String apiKey;
-    private static HttpRequest request;
+    private static ConexaoModel padrao;
+
+    private final Properties prop;
+    private final Path diretorio;
+    private final boolean modoLote;
+    private final Moeda moedaBase;
+    private final MathContext precisaoTaxa;
+    private final PoliticaExpiracao politica;
+    private final CacheTaxas cache = new CacheTaxas();
+    private final AtomicReference<MatrizTaxas> matriz = new AtomicReference<>(MatrizTaxas.vazia());
+    private final RequisicoesEmAndamento<String, Optional<MoedaRecord>> paresEmAndamento =
+            new RequisicoesEmAndamento<>();
+    private final RequisicoesEmAndamento<String, List<MoedaRecord>> tabelasEmAndamento =
+            new RequisicoesEmAndamento<>();
+    private final AtomicLongArray usosRegistrados = new AtomicLongArray(TOTAL_MOEDAS * TOTAL_MOEDAS);
+    private final AtomicReferenceArray<TaxaInferida> inferidas =
+            new AtomicReferenceArray<>(TOTAL_MOEDAS * TOTAL_MOEDAS);
+    private final FrequenciaAcessos frequencia = new FrequenciaAcessos();
+    private final boolean provedorInjetado;
+    private volatile ProvedorTaxas provedor;
+    private volatile Executor executor = ForkJoinPool.commonPool();
+    private volatile boolean iniciado;
+    private boolean encerrado;
+    private FileHandler arquivoLog;
+    private volatile ArquivoTaxas arquivoTaxas;
+    private volatile DiarioTaxas diarioTaxas;
+    private volatile CoordenadorAtualizacao coordenador;
+    private volatile ReplicacaoTaxas replicacao;
+    private volatile AtualizadorAntecipado atualizador;
+    private volatile DisjuntorCircuito disjuntor;
+    private volatile long maximoDesatualizacao = 86400L;
+    private volatile PlanejadorAtualizacao planejador;
+    private volatile boolean contagemNoEnvio;
+    private volatile InferenciaTaxas inferencia;
+
+    /**
+     * Cria o serviço com a configuração informada, usando o provedor de taxas definido na própria configuração
+     * e o diretório atual para os logs e os arquivos de dados.
+     *
+     * @param configuracao As propriedades de configuração.
+     */
+    public ConexaoModel(Properties configuracao) {
+        this(configuracao, null, Path.of(""));
+    }
+
+    /**
+     * Cria o serviço com a configuração, o provedor de taxas e o diretório informados. O serviço só atende
+     * consultas depois de {@link #iniciar()}.
+     *
+     * @param configuracao As propriedades de configuração.
+     * @param provedor O provedor de taxas, ou {@code null} para criá-lo a partir da configuração.
+     * @param diretorio O diretório onde são criados os logs e os arquivos de dados.
+     */
+    public ConexaoModel(Properties configuracao, ProvedorTaxas provedor, Path diretorio) {
+        this(configuracao, provedor, diretorio, Clock.systemUTC());
+    }
 
     /**
-     * Construtor privado para evitar a instanciação da classe.
-     * Essa classe utiliza apenas métodos estáticos.
+     * Cria o serviço com a configuração, o provedor de taxas, o diretório e o relógio informados. O relógio
+     * define o instante atual usado na expiração das taxas e na cota de requisições.
+     *
+     * @param configuracao As propriedades de configuração.
+     * @param provedor O provedor de taxas, ou {@code null} para criá-lo a partir da configuração.
+     * @param diretorio O diretório onde são criados os logs e os arquivos de dados.
+     * @param relogio O relógio do serviço.
      */
-    private ConexaoModel() {}
+    public ConexaoModel(Properties configuracao, ProvedorTaxas provedor, Path diretorio, Clock relogio) {
+        this.prop = new Properties();
+        this.prop.putAll(Objects.requireNonNull(configuracao, "A configuração não pode ser nula!"));
+        this.diretorio = Objects.requireNonNull(diretorio, "O diretório não pode ser nulo!");
+        this.provedor = provedor;
+        this.provedorInjetado = provedor != null;
+        this.modoLote = !"par".equalsIgnoreCase(prop.getProperty("modo.requisicao", "lote").trim());
+        this.moedaBase = Moeda.buscarPorCodigo(prop.getProperty("moeda.base", "USD").trim());
+        this.precisaoTaxa = new MathContext(Integer.parseInt(prop.getProperty("precisao.taxa", "12").trim()),
+                RoundingMode.HALF_EVEN);
+        this.politica = PoliticaExpiracao.daConfiguracao(prop, relogio);
+    }
 
     /**
-     * Busca os valores de conversão de moedas, primeiro verificando se os dados estão armazenados
-     * localmente em um arquivo JSON. Se os dados não forem encontrados ou estiverem desatualizados,
-     * uma requisição à API é feita.
+     * Obtém o serviço padrão da aplicação, configurado pelo arquivo {@code configuracao.properties} do classpath.
+     * Na primeira chamada o serviço é criado, iniciado e registrado para ser encerrado junto com a aplicação.
+     *
+     * @return O serviço padrão já iniciado.
+     */
+    public static synchronized ConexaoModel padrao() {
+        if (padrao == null) {
+            ConexaoModel conexao = new ConexaoModel(configuracaoPadrao());
+            conexao.iniciar();
+            Runtime.getRuntime().addShutdownHook(new Thread(conexao::encerrar, "encerrar-conexao-taxas"));
+            padrao = conexao;
+        }
+        return padrao;
+    }
+
+    /**
+     * Carrega o arquivo {@code configuracao.properties} do classpath.
+     *
+     * @return As propriedades de configuração.
+     */
+    public static Properties configuracaoPadrao() {
+        try (InputStream file = ConexaoModel.class.getClassLoader().getResourceAsStream(CONFIGURACAO_PATH)) {
+            if (file == null) {
+                throw new FileNotFoundException("Arquivo de configuração não encontrado!");
+            }
+
+            Properties configuracao = new Properties();
+            configuracao.load(file);
+            return configuracao;
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Inicia o serviço: cria os diretórios e o log, abre o arquivo de taxas e o seu diário, carrega o cache,
+     * publica a matriz de taxas e cria o provedor e os demais componentes, conforme a configuração.
+     * A inicialização é feita uma única vez; chamadas seguintes não têm efeito.
+     *
+     * @throws IllegalStateException se o serviço já tiver sido encerrado.
+     */
+    public synchronized void iniciar() {
+        if (encerrado) {
+            throw new IllegalStateException("O serviço de taxas já foi encerrado!");
+        }
+        if (iniciado) {
+            return;
+        }
+
+        try {
+            Files.createDirectories(diretorio.resolve("logs"));
+            Files.createDirectories(diretorio.resolve("jsons"));
+            Files.createDirectories(diretorio.resolve("dados"));
+
+            arquivoLog = new FileHandler(diretorio.resolve(LOG_PATH).toString(), true);
+            arquivoLog.setFormatter(new SimpleFormatter());
+            logger.addHandler(arquivoLog);
+            logger.setLevel(Level.ALL);
+        } catch (Exception e) {
+            System.err.println("Erro ao configurar Log " + e);
+        }
+
+        abrirArquivoTaxas();
+        cache.carregar(arquivoTaxas == null ? List.of() : arquivoTaxas.ler());
+        publicarMatriz();
+        iniciarComponentes();
+        iniciado = true;
+    }
+
+    /**
+     * Busca os valores de conversão de moedas, primeiro verificando a matriz de taxas em memória, montada
+     * a partir do cache carregado na inicialização do serviço. Se os dados não forem encontrados ou
+     * estiverem desatualizados, o provedor de taxas é consultado e o resultado é gravado no cache e no arquivo.
      *
      * @param origem A moeda de origem.
      * @param destino A moeda de destino.
      * @return Um Optional contendo um MoedaRecord, se os dados forem encontrados ou recuperados com sucesso.
+     * @throws IllegalStateException se o serviço não estiver iniciado.
+     */
+    public Optional<MoedaRecord> buscaValoreMoedas(Moeda origem, Moeda destino) {
+
+        validarMoedas(origem, destino);
+        exigirIniciado();
+        frequencia.registrar(origem, destino);
+
+        long agora = politica.agora();
+        MoedaRecord emCache = matriz.get().registro(origem, destino, agora);
+        if (emCache == null) {
+            emCache = inferidaValida(origem, destino, agora);
+        }
+
+        if (emCache != null) {
+            registrarUso(origem, destino, emCache);
+            return Optional.of(emCache);
+        }
+
+        return buscaNaFonte(origem, destino).join();
+    }
+
+    /**
+     * Versão assíncrona de {@link #buscaValoreMoedas(Moeda, Moeda)}. Quando a taxa está na matriz em memória,
+     * o resultado é devolvido já completo; caso contrário, a inferência, a consulta ao provedor e a gravação
+     * no arquivo são executadas fora da thread chamadora, no executor configurado em
+     * {@link #configurarExecutor(Executor)}. Cancelar o resultado cancela a requisição ao provedor, a menos que
+     * outra busca ainda aguarde a mesma requisição.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord, se encontrado ou recuperado com sucesso.
+     * @throws IllegalStateException se o serviço não estiver iniciado.
+     */
+    public CompletableFuture<Optional<MoedaRecord>> buscaValoreMoedasAsync(Moeda origem, Moeda destino) {
+
+        validarMoedas(origem, destino);
+        exigirIniciado();
+        frequencia.registrar(origem, destino);
+
+        long agora = politica.agora();
+        MoedaRecord emCache = matriz.get().registro(origem, destino, agora);
+        if (emCache == null) {
+            emCache = inferidaValida(origem, destino, agora);
+        }
+        if (emCache != null) {
+            registrarUso(origem, destino, emCache);
+            return CompletableFuture.completedFuture(Optional.of(emCache));
+        }
+
+        CompletableFuture<Optional<MoedaRecord>> resultado = new CompletableFuture<>();
+        executor.execute(() -> {
+            if (resultado.isDone()) {
+                return;
+            }
+            try {
+                CompletableFuture<Optional<MoedaRecord>> busca = buscaNaFonte(origem, destino);
+                Cancelamentos.propagar(resultado, busca);
+                busca.whenComplete((moedaRecord, erro) -> {
+                    if (erro != null) {
+                        resultado.completeExceptionally(erro);
+                    } else {
+                        resultado.complete(moedaRecord);
+                    }
+                });
+            } catch (RuntimeException e) {
+                resultado.completeExceptionally(e);
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Verifica, com a política de expiração e o relógio do serviço, se a taxa do registro já expirou, como
+     * acontece com a última taxa conhecida devolvida quando a API está indisponível.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param moedaRecord O registro devolvido por uma busca.
+     * @return {@code true} se a taxa já estiver expirada.
      */
-    public static Optional<MoedaRecord> buscaValoreMoedas(Moeda origem, Moeda destino) {
+    boolean expirada(Moeda origem, Moeda destino, MoedaRecord moedaRecord) {
+        return !politica.valido(origem, destino, moedaRecord, politica.agora());
+    }
 
-        init();
+    /**
+     * Define o executor usado pelas operações assíncronas para processar respostas da API e
+     * acessar o armazenamento local. Por padrão é usado o {@link ForkJoinPool#commonPool()}.
+     *
+     * @param novoExecutor O executor a ser usado.
+     */
+    public void configurarExecutor(Executor novoExecutor) {
+        executor = Objects.requireNonNull(novoExecutor, "O executor não pode ser nulo!");
+    }
 
-        Set<MoedaRecord> listaMoedas = listaMoedaJson();
+    /**
+     * Obtém a matriz de taxas publicada no momento.
+     *
+     * @return A matriz de taxas atual.
+     */
+    MatrizTaxas matrizTaxas() {
+        exigirIniciado();
+        return matriz.get();
+    }
 
+    /**
+     * Fixa as taxas publicadas no momento, para que um lote de conversões use sempre a mesma versão das taxas,
+     * mesmo que novas taxas sejam publicadas durante o lote. A leitura não usa bloqueio.
+     *
+     * @return O instantâneo das taxas atuais.
+     */
+    public InstantaneoTaxas fixarInstantaneo() {
+        exigirIniciado();
+        return new InstantaneoTaxas(matriz.get(), politica.agora());
+    }
+
+    /**
+     * Verifica se o serviço foi iniciado e ainda não foi encerrado.
+     *
+     * @throws IllegalStateException se o serviço não estiver iniciado.
+     */
+    private void exigirIniciado() {
+        if (!iniciado) {
+            throw new IllegalStateException("O serviço de taxas não está iniciado!");
+        }
+    }
+
+    /**
+     * Valida se as moedas de origem e destino foram informadas.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @throws IllegalArgumentException se alguma das moedas for nula.
+     */
+    private static void validarMoedas(Moeda origem, Moeda destino) {
         if (Objects.isNull(origem) || Objects.isNull(destino)) {
             logger.log(Level.SEVERE, "Moeda não pode ser nula!");
             throw new IllegalArgumentException("Verifique os parâmetros, eles não podem ser nulos!");
         }
+    }
+
+    /**
+     * Infere a taxa do par a partir das taxas já em cache, usando taxas inversas e caminhos por moedas
+     * intermediárias, dentro do limite de saltos e da janela de atualidade configurados. O resultado é
+     * guardado até a expiração mais próxima do caminho ou até a publicação de novas taxas, de modo que a taxa
+     * usada por {@link #buscaValoreMoedas(Moeda, Moeda)} e o seu caminho possam ser consultados sem nova busca.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um Optional com a taxa inferida e o caminho usado, ou vazio se a inferência estiver desativada
+     *         ou não houver caminho.
+     */
+    public Optional<TaxaInferidaRecord> inferirTaxa(Moeda origem, Moeda destino) {
+        validarMoedas(origem, destino);
+        exigirIniciado();
+
+        InferenciaTaxas atual = inferencia;
+        if (atual == null) {
+            return Optional.empty();
+        }
+
+        int indice = origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+        MatrizTaxas matrizAtual = matriz.get();
+        long agora = politica.agora();
+        TaxaInferida guardada = inferidas.get(indice);
+        if (guardada != null && guardada.valida(matrizAtual, agora)) {
+            return Optional.of(guardada.taxa());
+        }
+
+        Optional<TaxaInferidaRecord> inferida = atual.inferir(cache, origem, destino, agora);
+        inferida.ifPresent(taxa -> inferidas.set(indice, new TaxaInferida(matrizAtual, taxa)));
+        return inferida;
+    }
+
+    /**
+     * Obtém a taxa já inferida do par, se ela ainda for válida, sem percorrer o grafo de taxas.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param agora O instante atual em segundos Unix.
+     * @return O registro inferido, ou {@code null} se não houver taxa inferida válida.
+     */
+    private MoedaRecord inferidaValida(Moeda origem, Moeda destino, long agora) {
+        TaxaInferida guardada = inferidas.get(origem.ordinal() * TOTAL_MOEDAS + destino.ordinal());
+        return guardada != null && guardada.valida(matriz.get(), agora) ? guardada.taxa().moedaRecord() : null;
+    }
+
+    /**
+     * Obtém a taxa do par na API, conforme o modo de requisição configurado, e publica uma nova matriz
+     * de taxas quando a busca tem sucesso. Antes de usar a API, tenta inferir a taxa a partir das taxas em
+     * cache. Se o planejador da cota recusar a busca, o par é atendido com a última taxa conhecida ou
+     * derivada, sem acessar a API.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord obtido.
+     */
+    private CompletableFuture<Optional<MoedaRecord>> buscaNaFonte(Moeda origem, Moeda destino) {
+        Optional<TaxaInferidaRecord> inferida = inferirTaxa(origem, destino);
+        if (inferida.isPresent()) {
+            logger.log(Level.FINE, "Taxa de " + origem + "/" + destino + " inferida pelo caminho "
+                    + inferida.get().caminho());
+            registrarUso(origem, destino, inferida.get().moedaRecord());
+            return CompletableFuture.completedFuture(Optional.of(inferida.get().moedaRecord()));
+        }
+
+        boolean permitida = modoLote
+                ? planejador.permitirTabela()
+                : planejador.permitirPar(origem, destino, matriz.get().registro(origem, destino) != null);
+
+        if (!permitida) {
+            Optional<MoedaRecord> ultimaConhecida = taxaDesatualizada(origem, destino);
+            ultimaConhecida.ifPresent(record -> planejador.registrarAtendidaSemApi());
+            return CompletableFuture.completedFuture(ultimaConhecida);
+        }
 
-        if (!listaMoedas.isEmpty()) {
-            var moedaJson = listaMoedas.stream()
-                    .filter(moeda -> moeda.baseCode().contains(origem.toString()))
-                    .filter(moeda -> moeda.targetCode().contains(destino.toString()))
-                    .filter(moeda -> converterDataAPI(moeda.timeNextUpdateUtc()).isAfter(LocalDateTime.now()))
-                    .findFirst();
+        CompletableFuture<Optional<MoedaRecord>> busca = modoLote
+                ? buscaPorTabela(origem, destino)
+                : buscaPorPar(origem, destino);
 
-            if (moedaJson.isPresent()) {
-                logger.log(Level.INFO, "Moeda recuperada do JSON!");
-                return moedaJson;
+        return Cancelamentos.propagar(busca.thenApply(moedaRecord -> {
+            if (moedaRecord.isEmpty()) {
+                return taxaDesatualizada(origem, destino);
             }
+            publicarMatriz();
+            registrarUso(origem, destino, moedaRecord.get());
+            return moedaRecord;
+        }), busca);
+    }
+
+    /**
+     * Obtém a última taxa conhecida do par quando a API não pode ser usada, desde que ela não tenha expirado,
+     * segundo a política de expiração, há mais tempo do que o máximo configurado. O registro devolvido mantém o
+     * {@code timeNextUpdateUnix} original, o que permite identificá-lo como desatualizado.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um Optional contendo a última taxa conhecida, ou vazio se não houver taxa aceitável.
+     */
+    private Optional<MoedaRecord> taxaDesatualizada(Moeda origem, Moeda destino) {
+        MoedaRecord ultimaConhecida = matriz.get().registro(origem, destino);
+
+        if (ultimaConhecida == null
+                || politica.expiracao(origem, destino, ultimaConhecida) < politica.agora() - maximoDesatualizacao) {
+            return Optional.empty();
         }
 
-        Optional<MoedaRecord> moedaRecord = requisacaoAPI(origem, destino);
+        logger.log(Level.WARNING, "API indisponível, usando taxa desatualizada de " + origem + "/" + destino
+                + " com próxima atualização em " + ultimaConhecida.timeNextUpdateUtc());
+        return Optional.of(ultimaConhecida);
+    }
 
-        moedaRecord.ifPresent(record -> {
-            gravarJson(record);
-            logger.log(Level.INFO, "Moeda gravada com sucesso no JSON");
-        });
+    /**
+     * Registra que o par está em uso para que o atualizador antecipado busque a taxa novamente pouco antes
+     * da próxima atualização. O registro é feito uma única vez por ciclo de atualização do par; as demais
+     * chamadas custam apenas uma leitura no array de usos. No modo por par, apenas os pares mais acessados
+     * dentro do orçamento diário da cota são agendados.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param moedaRecord O registro usado na consulta.
+     */
+    private void registrarUso(Moeda origem, Moeda destino, MoedaRecord moedaRecord) {
+        AtualizadorAntecipado atual = atualizador;
+        Long proximaAtualizacao = moedaRecord.timeNextUpdateUnix();
+        int indice = origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+
+        if (atual == null || proximaAtualizacao == null || usosRegistrados.get(indice) == proximaAtualizacao
+                || !modoLote && !planejador.quente(origem, destino)) {
+            return;
+        }
+        usosRegistrados.set(indice, proximaAtualizacao);
+
+        if (modoLote) {
+            Moeda base = moedaBase;
+            atual.agendar("/latest/" + base, proximaAtualizacao, () -> atualizarTabelaAntecipada(base));
+        } else {
+            atual.agendar("/pair/" + origem + "/" + destino, proximaAtualizacao,
+                    () -> atualizarParAntecipado(origem, destino));
+        }
+    }
+
+    /**
+     * Busca novamente a tabela da moeda base, mesmo que ela ainda esteja válida, e publica a nova matriz.
+     *
+     * @param base A moeda base da tabela.
+     * @return Um CompletableFuture com o horário da próxima atualização da nova tabela,
+     *         ou {@code null} em caso de erro ou se a cota não permitir a busca.
+     */
+    private CompletableFuture<Long> atualizarTabelaAntecipada(Moeda base) {
+        if (!planejador.permitirTabela()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-        return moedaRecord;
+        return tabelasEmAndamento.executar("/latest/" + base, () -> atualizarTabela(base))
+                .thenApply(registros -> {
+                    if (registros.isEmpty()) {
+                        return null;
+                    }
+                    publicarMatriz();
+                    return registros.get(0).timeNextUpdateUnix();
+                });
     }
 
     /**
-     * Inicializa o sistema, configurando o logger e carregando o arquivo de configuração.
-     * Cria diretórios para logs e JSON se não existirem.
+     * Busca novamente a taxa do par, mesmo que ela ainda esteja válida, e publica a nova matriz.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o horário da próxima atualização do par, ou {@code null} em caso de erro
+     *         ou se a cota não permitir a busca.
      */
-    private static void init() {
-        try {
-            new File("logs").mkdirs();
-            new File("jsons").mkdirs();
+    private CompletableFuture<Long> atualizarParAntecipado(Moeda origem, Moeda destino) {
+        if (!planejador.permitirPar(origem, destino, true)) {
+            return CompletableFuture.completedFuture(null);
+        }
 
-            FileHandler fileHandler = new FileHandler(LOG_PATH, true);
-            fileHandler.setFormatter(new SimpleFormatter());
-            logger.addHandler(fileHandler);
-            logger.setLevel(Level.ALL);
-        } catch (Exception e) {
-            System.err.println("Erro ao configurar Log " + e);
+        return paresEmAndamento.executar("/pair/" + origem + "/" + destino, () -> atualizarPar(origem, destino))
+                .thenApply(moedaRecord -> {
+                    moedaRecord.ifPresent(record -> publicarMatriz());
+                    return moedaRecord.map(MoedaRecord::timeNextUpdateUnix).orElse(null);
+                });
+    }
+
+    /**
+     * Encerra o serviço: o atualizador antecipado e suas threads, o provedor criado pelo serviço, a replicação
+     * entre nós, o diário de taxas, já compactado, o arquivo de taxas e o log. Um provedor injetado não é
+     * encerrado. Depois do encerramento o serviço não atende mais consultas e não pode ser iniciado de novo.
+     */
+    public synchronized void encerrar() {
+        if (encerrado) {
+            return;
         }
+        encerrado = true;
+        iniciado = false;
 
-        try (InputStream file = ConexaoModel.class.getClassLoader().getResourceAsStream("configuracao.properties")) {
-            if (file == null) {
-                throw new FileNotFoundException("Arquivo de configuração não encontrado!");
+        if (atualizador != null) {
+            atualizador.close();
+            atualizador = null;
+        }
+        if (planejador != null) {
+            planejador.close();
+        }
+        if (!provedorInjetado && provedor instanceof ProvedorTaxasRedundante redundante) {
+            redundante.close();
+        }
+        if (replicacao != null) {
+            replicacao.close();
+            replicacao = null;
+        }
+        if (diarioTaxas != null) {
+            diarioTaxas.close();
+            diarioTaxas = null;
+        }
+        coordenador = null;
+        if (arquivoTaxas != null) {
+            arquivoTaxas.close();
+            arquivoTaxas = null;
+        }
+        if (arquivoLog != null) {
+            logger.removeHandler(arquivoLog);
+            arquivoLog.close();
+            arquivoLog = null;
+        }
+    }
+
+    /**
+     * Encerra o serviço, da mesma forma que {@link #encerrar()}.
+     */
+    @Override
+    public void close() {
+        encerrar();
+    }
+
+    /**
+     * Busca a taxa do par diretamente no endpoint {@code /pair/{origem}/{destino}} da API.
+     * Buscas concorrentes pelo mesmo par compartilham uma única requisição e uma única gravação no arquivo.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord retornado pela API.
+     */
+    private CompletableFuture<Optional<MoedaRecord>> buscaPorPar(Moeda origem, Moeda destino) {
+        return paresEmAndamento.executar("/pair/" + origem + "/" + destino, () -> {
+            MoedaRecord emCache = taxaValida(origem, destino, politica.agora());
+            if (emCache != null) {
+                return CompletableFuture.completedFuture(Optional.of(emCache));
             }
 
-            prop.load(file);
+            return atualizarPar(origem, destino);
+        });
+    }
+
+    /**
+     * Obtém a taxa do par na API, armazena no cache e grava no arquivo de taxas. Se outro processo do host já
+     * tiver gravado uma taxa mais recente no arquivo compartilhado, ou estiver buscando o mesmo par, a taxa é
+     * lida do arquivo, sem acessar a API.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord retornado pela API.
+     */
+    private CompletableFuture<Optional<MoedaRecord>> atualizarPar(Moeda origem, Moeda destino) {
+        return coordenar(origem, destino, () -> taxaCompartilhada(origem, destino).map(Optional::of),
+                () -> requisitarPar(origem, destino));
+    }
+
+    private CompletableFuture<Optional<MoedaRecord>> requisitarPar(Moeda origem, Moeda destino) {
+        CompletableFuture<Optional<MoedaRecord>> requisicao = requisacaoAPI(origem, destino);
+        return Cancelamentos.propagar(requisicao.thenApplyAsync(moedaRecord -> {
+            moedaRecord.ifPresent(record -> {
+                cache.atualizar(record);
+                gravarArquivo(List.of(record));
+                difundir(List.of(record));
+                logger.log(Level.INFO, "Moeda gravada com sucesso no arquivo de taxas");
+            });
+            return moedaRecord;
+        }, executor), requisicao);
+    }
 
-            apiKey = prop.getProperty("apikey");
-            url = prop.getProperty("url");
+    /**
+     * Calcula a taxa do par a partir da tabela da moeda base configurada. Se as taxas da base para a origem
+     * e para o destino não estiverem em cache, a tabela inteira é obtida em uma única requisição ao endpoint
+     * {@code /latest/{base}} e gravada, de modo que qualquer outro par possa ser derivado localmente.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord com a taxa cruzada.
+     */
+    private CompletableFuture<Optional<MoedaRecord>> buscaPorTabela(Moeda origem, Moeda destino) {
+        long agoraUnix = politica.agora();
+        MoedaRecord baseOrigem = taxaValida(moedaBase, origem, agoraUnix);
+        MoedaRecord baseDestino = taxaValida(moedaBase, destino, agoraUnix);
 
-        } catch (Exception e) {
-            throw new RuntimeException(e);
+        if (baseOrigem != null && baseDestino != null) {
+            return CompletableFuture.completedFuture(Optional.of(taxaCruzada(origem, baseOrigem, baseDestino)));
         }
+
+        Moeda base = moedaBase;
+        CompletableFuture<List<MoedaRecord>> tabela = tabelasEmAndamento.executar("/latest/" + base,
+                () -> atualizarTabela(base));
+        return Cancelamentos.propagar(tabela.thenApply(registros -> {
+            if (registros.isEmpty()) {
+                return Optional.empty();
+            }
+
+            MoedaRecord tabelaOrigem = cache.registro(base, origem);
+            MoedaRecord tabelaDestino = cache.registro(base, destino);
+
+            if (tabelaOrigem == null || tabelaDestino == null) {
+                logger.log(Level.WARNING, "Par " + origem + "/" + destino + " não consta na tabela de " + base);
+                return Optional.empty();
+            }
+            return Optional.of(taxaCruzada(origem, tabelaOrigem, tabelaDestino));
+        }), tabela);
     }
 
     /**
-     * Grava um MoedaRecord no arquivo JSON. O método lê o JSON atual, adiciona o novo registro
-     * e grava o arquivo atualizado.
+     * Obtém a tabela da moeda base na API, armazena todas as suas taxas no cache e grava no arquivo.
+     * Se a tabela tiver a mesma atualização da que já está no cache, o cache e o arquivo não são alterados.
+     * Buscas concorrentes pela mesma base compartilham uma única execução deste método, e os processos do
+     * host que compartilham o arquivo de taxas, uma única requisição.
      *
-     * @param moedaRecord O registro de moeda a ser adicionado.
+     * @param base A moeda base da tabela.
+     * @return Um CompletableFuture com os registros da tabela, ou uma lista vazia em caso de erro.
+     */
+    private CompletableFuture<List<MoedaRecord>> atualizarTabela(Moeda base) {
+        return coordenar(base, base, () -> tabelaCompartilhada(base), () -> requisitarTabela(base));
+    }
+
+    private CompletableFuture<List<MoedaRecord>> requisitarTabela(Moeda base) {
+        CompletableFuture<Optional<TabelaTaxasRecord>> requisicao = requisicaoTabelaAPI(base);
+        return Cancelamentos.propagar(requisicao.thenApplyAsync(tabela -> {
+            if (tabela.isEmpty()) {
+                return List.of();
+            }
+
+            List<MoedaRecord> registros = TaxasCruzadas.paraRegistros(tabela.get());
+            MoedaRecord atual = cache.registro(base, base);
+            if (atual != null && Objects.equals(atual.timeLastUpdateUnix(), tabela.get().timeLastUpdateUnix())
+                    && Objects.equals(atual.timeNextUpdateUnix(), tabela.get().timeNextUpdateUnix())) {
+                logger.log(Level.FINE, "Tabela de " + base + " sem alterações; arquivo de taxas mantido");
+                return registros;
+            }
+
+            registros.forEach(cache::atualizar);
+            gravarArquivo(registros);
+            difundir(registros);
+            logger.log(Level.INFO, "Tabela de " + base + " gravada com sucesso no arquivo de taxas");
+            return registros;
+        }, executor), requisicao);
+    }
+
+    /**
+     * Executa a atualização por meio do coordenador entre processos, ou diretamente se o arquivo de taxas
+     * compartilhado não estiver disponível.
      */
-    private static void gravarJson(MoedaRecord moedaRecord) {
-        Objects.requireNonNull(moedaRecord, "Verifique o parâmetro, ele não pode ser nulo!");
+    private <T> CompletableFuture<T> coordenar(Moeda origem, Moeda destino,
+                                                      Supplier<Optional<T>> compartilhado,
+                                                      Supplier<CompletableFuture<T>> atualizacao) {
+        CoordenadorAtualizacao atual = coordenador;
+        return atual == null ? atualizacao.get() : atual.executar(origem, destino, compartilhado, atualizacao);
+    }
 
-        moedaRecordSet.addAll(listaMoedaJson());
-        moedaRecordSet.add(moedaRecord);
+    /**
+     * Lê a taxa do par no arquivo compartilhado e a armazena no cache, se ela for válida e tiver a próxima
+     * atualização posterior à da taxa em cache, isto é, se tiver sido gravada por outro processo.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um Optional contendo a taxa lida, ou vazio se o arquivo não tiver uma taxa mais recente.
+     */
+    private Optional<MoedaRecord> taxaCompartilhada(Moeda origem, Moeda destino) {
+        ArquivoTaxas atual = arquivoTaxas;
+        if (atual == null) {
+            return Optional.empty();
+        }
 
-        try (FileWriter fileWriter = new FileWriter(JSON_PATH)) {
-            fileWriter.write(gson.toJson(moedaRecordSet));
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Erro ao gravar JSON: " + e.getMessage());
-            System.err.println("Erro de I/O ao gravar JSON!" + e.getMessage());
+        MoedaRecord registro = atual.registro(origem, destino);
+        if (!maisRecente(origem, destino, registro, cache.registro(origem, destino))) {
+            return Optional.empty();
         }
+        cache.atualizar(registro);
+        return Optional.of(registro);
     }
 
     /**
-     * Lê o arquivo JSON e retorna um conjunto de registros de moedas (MoedaRecord).
+     * Lê a tabela da moeda base no arquivo compartilhado e a armazena no cache, se a taxa da base para ela
+     * mesma for válida e mais recente do que a taxa em cache.
      *
-     * @return Um conjunto de MoedaRecord recuperados do JSON.
+     * @param base A moeda base da tabela.
+     * @return Um Optional contendo os registros da tabela, ou vazio se o arquivo não tiver uma tabela mais recente.
      */
-    private static Set<MoedaRecord> listaMoedaJson() {
-        try (FileReader reader = new FileReader(JSON_PATH)) {
-            Type listType = new TypeToken<HashSet<MoedaRecord>>() {}.getType();
-            Set<MoedaRecord> moedaRecords = gson.fromJson(reader, listType);
+    private Optional<List<MoedaRecord>> tabelaCompartilhada(Moeda base) {
+        ArquivoTaxas atual = arquivoTaxas;
+        if (atual == null || !maisRecente(base, base, atual.registro(base, base), cache.registro(base, base))) {
+            return Optional.empty();
+        }
 
-            return Objects.isNull(moedaRecords) ? Set.of() : moedaRecords;
-        } catch (IOException e) {
-            logger.log(Level.WARNING, "Erro ao ler o arquivo JSON: " + e.getMessage());
+        List<MoedaRecord> registros = atual.registrosDe(base);
+        registros.forEach(cache::atualizar);
+        return Optional.of(registros);
+    }
+
+    private boolean maisRecente(Moeda origem, Moeda destino, MoedaRecord compartilhado, MoedaRecord emCache) {
+        if (!politica.valido(origem, destino, compartilhado, politica.agora())
+                || compartilhado.timeNextUpdateUnix() == null) {
+            return false;
         }
-        return Set.of();
+        return emCache == null || emCache.timeNextUpdateUnix() == null
+                || compartilhado.timeNextUpdateUnix() > emCache.timeNextUpdateUnix();
     }
 
     /**
-     * Faz uma requisição à API para obter a taxa de conversão entre duas moedas.
+     * Obtém a taxa do par em cache, se ela não tiver expirado segundo a política de expiração.
      *
      * @param origem A moeda de origem.
      * @param destino A moeda de destino.
-     * @return Um Optional contendo um MoedaRecord com os dados de conversão da API.
+     * @param agoraUnix O instante atual em segundos desde a época Unix.
+     * @return O registro em cache, ou {@code null} se não houver taxa válida.
+     */
+    private MoedaRecord taxaValida(Moeda origem, Moeda destino, long agoraUnix) {
+        MoedaRecord registro = cache.registro(origem, destino);
+        return politica.valido(origem, destino, registro, agoraUnix) ? registro : null;
+    }
+
+    /**
+     * Obtém o total de buscas na API que foram agrupadas com uma busca já em andamento para o mesmo par
+     * ou para a mesma tabela, em vez de gerar uma nova requisição.
+     *
+     * @return O número de buscas agrupadas.
+     */
+    public long requisicoesAgrupadas() {
+        return paresEmAndamento.agrupadas() + tabelasEmAndamento.agrupadas();
+    }
+
+    /**
+     * Obtém a situação da cota mensal de requisições à API e das decisões do planejador.
+     *
+     * @return As métricas da cota.
+     */
+    public MetricasCotaRecord metricasCota() {
+        exigirIniciado();
+        return planejador.metricas();
+    }
+
+    /**
+     * Obtém a taxa {@code origem -> destino} a partir das taxas da moeda base.
+     *
+     * @param origem A moeda de origem.
+     * @param baseOrigem O registro {@code base -> origem}.
+     * @param baseDestino O registro {@code base -> destino}.
+     * @return O registro da própria tabela, se a origem for a moeda base, ou a taxa cruzada.
+     */
+    private MoedaRecord taxaCruzada(Moeda origem, MoedaRecord baseOrigem, MoedaRecord baseDestino) {
+        return origem == moedaBase ? baseDestino : TaxasCruzadas.derivar(baseOrigem, baseDestino, precisaoTaxa);
+    }
+
+    /**
+     * Reconstrói a matriz de taxas a partir do cache, fora de qualquer bloqueio, e a publica no lugar da
+     * anterior. Construções concorrentes são publicadas por versão, de modo que uma matriz mais antiga nunca
+     * substitua uma mais nova.
+     */
+    private void publicarMatriz() {
+        MatrizTaxas construida = MatrizTaxas.construir(cache, modoLote ? moedaBase : null, precisaoTaxa,
+                politica);
+        matriz.accumulateAndGet(construida, MatrizTaxas::maisRecente);
+    }
+
+    /**
+     * Cria o provedor de taxas, se ele não tiver sido injetado, o planejador da cota, a inferência de taxas,
+     * a replicação entre nós, o disjuntor e o atualizador antecipado, conforme a configuração.
      */
-    private static Optional<MoedaRecord> requisacaoAPI(Moeda origem, Moeda destino) {
-        var urlApiKey = url + apiKey + "/pair/" + origem + "/" + destino;
+    private void iniciarComponentes() {
+        planejador = new PlanejadorAtualizacao(
+                Long.parseLong(prop.getProperty("cota.mensal.requisicoes", "1500").trim()),
+                Duration.ofHours(Long.parseLong(prop.getProperty("cota.meia.vida.horas", "24").trim())),
+                frequencia, diretorio.resolve(COTA_PATH), politica.relogio());
 
-        request = HttpRequest.newBuilder()
-                .GET()
-                .timeout(Duration.ofSeconds(10))
-                .uri(URI.create(urlApiKey))
-                .build();
+        if (provedor == null) {
+            provedor = criarProvedor();
+        }
+
+        if (Boolean.parseBoolean(prop.getProperty("inferencia.ativa", "true").trim())) {
+            inferencia = new InferenciaTaxas(
+                    Integer.parseInt(prop.getProperty("inferencia.maximo.saltos", "3").trim()),
+                    Long.parseLong(prop.getProperty("inferencia.janela.segundos", "86400").trim()),
+                    precisaoTaxa, politica);
+        }
 
+        if (Boolean.parseBoolean(prop.getProperty("replicacao.ativa", "false").trim())) {
+            replicacao = iniciarReplicacao();
+        }
+
+        disjuntor = new DisjuntorCircuito(
+                Integer.parseInt(prop.getProperty("disjuntor.janela", "20").trim()),
+                Integer.parseInt(prop.getProperty("disjuntor.minimo.chamadas", "5").trim()),
+                Integer.parseInt(prop.getProperty("disjuntor.limite.erros.percentual", "50").trim()) / 100.0,
+                Duration.ofSeconds(Long.parseLong(prop.getProperty("disjuntor.aberto.segundos", "30").trim())));
+        maximoDesatualizacao = Long.parseLong(prop.getProperty("taxa.desatualizada.maximo.segundos", "86400").trim());
+
+        if (Boolean.parseBoolean(prop.getProperty("atualizacao.antecipada.ativa", "true").trim())) {
+            long antecedencia = Long.parseLong(prop.getProperty("atualizacao.antecedencia.segundos", "300").trim());
+            long variacao = Long.parseLong(prop.getProperty("atualizacao.variacao.segundos", "60").trim());
+            int simultaneas = Integer.parseInt(prop.getProperty("atualizacao.maximo.simultaneas", "4").trim());
+
+            atualizador = new AtualizadorAntecipado(Duration.ofSeconds(antecedencia), Duration.ofSeconds(variacao),
+                    simultaneas);
+        }
+    }
+
+    /**
+     * Inicia a replicação de taxas entre os nós do cluster no endereço {@code replicacao.endereco}, enviando as
+     * taxas aos nós da lista {@code replicacao.pares}, no formato {@code host:porta}, separados por vírgula. Os
+     * datagramas são assinados com o segredo {@code replicacao.segredo}, que deve ser o mesmo em todos os nós; as
+     * taxas recebidas com horários além de {@code replicacao.tolerancia.relogio.segundos} ou
+     * {@code replicacao.validade.maxima.segundos} a partir do relógio local são recusadas.
+     *
+     * @return A replicação iniciada, ou {@code null} se o endereço ou o segredo não puderem ser usados.
+     */
+    private ReplicacaoTaxas iniciarReplicacao() {
         try {
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-
-            if (response.statusCode() == 200) {
-                logger.log(Level.INFO, "Conexão bem-sucedida!");
-                logger.log(Level.INFO, "Resposta: " + response.body());
-                return Optional.of(gson.fromJson(response.body(), MoedaRecord.class));
-            } else {
-                logger.log(Level.SEVERE, "Erro ao conectar. Código Status: " + response.statusCode());
+            List<InetSocketAddress> pares = new ArrayList<>();
+            for (String par : prop.getProperty("replicacao.pares", "").split(",")) {
+                if (!par.isBlank()) {
+                    pares.add(endereco(par));
+                }
             }
-        } catch (InterruptedException e) {
-            logger.log(Level.SEVERE, "Requisição interrompida: " + e.getMessage());
-            Thread.currentThread().interrupt();
-        } catch (IOException e) {
-            logger.log(Level.SEVERE, "Erro I/O ao tentar conectar: " + e.getMessage());
+            byte[] segredo = prop.getProperty("replicacao.segredo", "").trim().getBytes(StandardCharsets.UTF_8);
+            Duration tolerancia = Duration.ofSeconds(Long.parseLong(
+                    prop.getProperty("replicacao.tolerancia.relogio.segundos", "300").trim()));
+            Duration validade = Duration.ofSeconds(Long.parseLong(
+                    prop.getProperty("replicacao.validade.maxima.segundos", "172800").trim()));
+            return ReplicacaoTaxas.iniciar(endereco(prop.getProperty("replicacao.endereco", "0.0.0.0:47800")),
+                    pares, segredo, politica.relogio(), tolerancia, validade, this::receberReplicadas);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.SEVERE, "Erro ao iniciar a replicação de taxas: " + e.getMessage());
+            return null;
         }
-        return Optional.empty();
+    }
+
+    private static InetSocketAddress endereco(String texto) {
+        String valor = texto.trim();
+        int separador = valor.lastIndexOf(':');
+        if (separador < 1) {
+            throw new IllegalArgumentException("Endereço inválido: " + valor);
+        }
+        return new InetSocketAddress(valor.substring(0, separador), Integer.parseInt(valor.substring(separador + 1)));
     }
 
     /**
-     * Converte uma string de data no formato da API para um LocalDateTime.
+     * Cria o provedor de taxas a partir da configuração. Com {@code provedor.tipo=arquivo}, as tabelas são lidas
+     * do diretório {@code provedor.arquivo.diretorio}. Caso contrário, o provedor primário usa as propriedades
+     * {@code url} e {@code apikey}; se {@code secundario.url} estiver preenchida, as buscas passam a usar
+     * requisições redundantes entre o primário e o secundário.
      *
-     * @param data A string de data no formato "EEE, dd MMM yyyy HH:mm:ss Z".
-     * @return O objeto LocalDateTime correspondente à string de data.
-     * @throws IllegalArgumentException Se a data for nula ou vazia, ou se o formato estiver incorreto.
+     * @return O provedor de taxas configurado.
+     */
+    private ProvedorTaxas criarProvedor() {
+        if ("arquivo".equalsIgnoreCase(prop.getProperty("provedor.tipo", "http").trim())) {
+            return new ProvedorTaxasArquivo(
+                    diretorio.resolve(prop.getProperty("provedor.arquivo.diretorio", "tabelas").trim()));
+        }
+
+        Executor executorRespostas = tarefa -> executor.execute(tarefa);
+        Duration tempoLimite = Duration.ofSeconds(
+                Long.parseLong(prop.getProperty("provedor.tempo.limite.segundos", "10").trim()));
+
+        ProvedorTaxas primario = new ProvedorTaxasHttp("primário", prop.getProperty("url"), prop.getProperty("apikey"),
+                tempoLimite, executorRespostas, () -> planejador.registrarRequisicao("primário"));
+        contagemNoEnvio = true;
+
+        String urlSecundario = prop.getProperty("secundario.url", "").trim();
+        if (urlSecundario.isEmpty()) {
+            return primario;
+        }
+
+        ProvedorTaxas secundario = new ProvedorTaxasHttp("secundário", urlSecundario,
+                prop.getProperty("secundario.apikey"), tempoLimite, executorRespostas,
+                () -> planejador.registrarRequisicao("secundário"));
+
+        return new ProvedorTaxasRedundante(primario, secundario,
+                Double.parseDouble(prop.getProperty("redundancia.percentil", "95").trim()),
+                Duration.ofMillis(Long.parseLong(prop.getProperty("redundancia.atraso.inicial.ms", "500").trim())),
+                Integer.parseInt(prop.getProperty("redundancia.amostras", "100").trim()));
+    }
+
+    /**
+     * Abre o arquivo binário de taxas e o seu diário, reaplicando ao arquivo as entradas que ficaram no diário,
+     * e cria o coordenador das buscas na API entre os processos que compartilham o arquivo.
+     * Se o antigo arquivo JSON ainda existir, o seu conteúdo é lido em fluxo e gravado em lotes no arquivo
+     * binário, e o JSON é renomeado com a extensão {@code .migrado}, de modo que a migração ocorra uma única
+     * vez. Se o arquivo não puder ser aberto, as taxas passam a ser mantidas apenas em memória.
      */
-    private static LocalDateTime converterDataAPI(String data) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
+    private void abrirArquivoTaxas() {
+        try {
+            arquivoTaxas = ArquivoTaxas.abrir(diretorio.resolve(ARQUIVO_TAXAS_PATH));
+            diarioTaxas = DiarioTaxas.abrir(diretorio.resolve(DIARIO_TAXAS_PATH), arquivoTaxas,
+                    Duration.ofMillis(Long.parseLong(prop.getProperty("diario.sincronizacao.ms", "200").trim())),
+                    Integer.parseInt(prop.getProperty("diario.compactacao.entradas", "1000").trim()));
+            coordenador = new CoordenadorAtualizacao(arquivoTaxas,
+                    Duration.ofMillis(Long.parseLong(prop.getProperty("compartilhamento.espera.ms", "5000").trim())),
+                    Duration.ofMillis(Long.parseLong(prop.getProperty("compartilhamento.intervalo.ms", "50").trim())));
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Erro ao abrir o arquivo de taxas: " + e.getMessage());
+            return;
+        }
 
-        if (Objects.isNull(data) || data.trim().isEmpty()) {
-            logger.log(Level.SEVERE, "A data fornecida é nula ou está vazia.");
-            throw new IllegalArgumentException("A string de data não pode ser nula ou vazia.");
+        File json = diretorio.resolve(JSON_PATH).toFile();
+        if (!json.exists()) {
+            return;
         }
 
+        int migradas;
         try {
-            return OffsetDateTime.parse(data, formatter).toLocalDateTime();
-        } catch (DateTimeParseException e) {
-            logger.log(Level.SEVERE, "Erro ao converter a string de data: " + data + " - " + e.getMessage());
-            throw new IllegalArgumentException("Formato de data inválido. A data fornecida deve estar no formato correto.");
+            migradas = new LeitorJsonTaxas(json.toPath(), gson).percorrer(LOTE_MIGRACAO, arquivoTaxas::gravar);
+        } catch (IOException | RuntimeException e) {
+            logger.log(Level.WARNING, "Erro ao ler o arquivo JSON: " + e.getMessage());
+            return;
+        }
+        if (json.renameTo(new File(json.getPath() + ".migrado"))) {
+            logger.log(Level.INFO, migradas + " taxas migradas do JSON para o arquivo de taxas");
+        }
+    }
+
+    /**
+     * Grava registros de moeda no diário de taxas. Cada registro é acrescentado ao fim do diário, com custo
+     * constante; a sincronização com o disco e a compactação no arquivo de taxas são feitas em segundo plano.
+     *
+     * @param moedaRecords Os registros de moeda a serem gravados.
+     */
+    private void gravarArquivo(Collection<MoedaRecord> moedaRecords) {
+        Objects.requireNonNull(moedaRecords, "Verifique o parâmetro, ele não pode ser nulo!");
+
+        DiarioTaxas atual = diarioTaxas;
+        if (atual != null) {
+            atual.registrar(moedaRecords);
+        }
+    }
+
+    /**
+     * Envia aos outros nós do cluster as taxas obtidas na API, se a replicação estiver ativa.
+     *
+     * @param moedaRecords Os registros de moeda obtidos na API.
+     */
+    private void difundir(Collection<MoedaRecord> moedaRecords) {
+        ReplicacaoTaxas atual = replicacao;
+        if (atual != null) {
+            atual.difundir(moedaRecords);
+        }
+    }
+
+    /**
+     * Armazena no cache e no arquivo de taxas as taxas recebidas de outro nó do cluster e publica uma nova
+     * matriz, de modo que os pares recebidos sejam atendidos sem acessar a API.
+     *
+     * @param moedaRecords As taxas recebidas, já filtradas pela replicação para as mais recentes.
+     */
+    private void receberReplicadas(List<MoedaRecord> moedaRecords) {
+        moedaRecords.forEach(cache::atualizar);
+        gravarArquivo(moedaRecords);
+        publicarMatriz();
+        logger.log(Level.FINE, moedaRecords.size() + " taxas recebidas de outro nó");
+    }
+
+    /**
+     * Exporta as taxas gravadas no arquivo binário para um arquivo JSON legível, para depuração.
+     *
+     * @param destino O arquivo JSON a ser criado.
+     * @throws IOException se o arquivo não puder ser gravado.
+     */
+    public void exportarJson(Path destino) throws IOException {
+        Objects.requireNonNull(destino, "O destino não pode ser nulo!");
+        exigirIniciado();
+
+        ArquivoTaxas atual = arquivoTaxas;
+        if (atual == null) {
+            throw new IOException("Arquivo de taxas indisponível!");
+        }
+        if (diarioTaxas != null) {
+            diarioTaxas.compactar();
+        }
+        atual.exportarJson(destino, gson);
+    }
+
+    /**
+     * Faz uma requisição ao provedor de taxas para obter a taxa de conversão entre duas moedas.
+     * Com o disjuntor aberto a requisição não é feita e o resultado vazio é devolvido imediatamente.
+     * Os provedores HTTP criados pela configuração descontam da cota de cada provedor as requisições que
+     * realmente enviam; os demais provedores têm cada busca descontada aqui, da cota do primário.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo um MoedaRecord com os dados de conversão da API.
+     */
+    private CompletableFuture<Optional<MoedaRecord>> requisacaoAPI(Moeda origem, Moeda destino) {
+        return disjuntor.executar(() -> {
+            if (!contagemNoEnvio) {
+                planejador.registrarRequisicao();
+            }
+            return provedor.buscarPar(origem, destino);
+        });
+    }
+
+    /**
+     * Faz uma única requisição ao provedor de taxas para obter as taxas de conversão da moeda base para todas
+     * as moedas. Com o disjuntor aberto a requisição não é feita e o resultado vazio é devolvido imediatamente.
+     * Os provedores HTTP criados pela configuração descontam da cota de cada provedor as requisições que
+     * realmente enviam; os demais provedores têm cada busca descontada aqui, da cota do primário.
+     *
+     * @param base A moeda base da tabela.
+     * @return Um CompletableFuture com o Optional contendo a tabela de taxas da API.
+     */
+    private CompletableFuture<Optional<TabelaTaxasRecord>> requisicaoTabelaAPI(Moeda base) {
+        return disjuntor.executar(() -> {
+            if (!contagemNoEnvio) {
+                planejador.registrarRequisicao();
+            }
+            return provedor.buscarTabela(base);
+        });
+    }
+
+    /**
+     * Taxa inferida guardada junto com a matriz vigente quando foi calculada.
+     */
+    private record TaxaInferida(MatrizTaxas matriz, TaxaInferidaRecord taxa) {
+
+        boolean valida(MatrizTaxas matrizAtual, long agora) {
+            Long expiracao = taxa.moedaRecord().timeNextUpdateUnix();
+            return matriz == matrizAtual && expiracao != null && expiracao > agora;
         }
     }
 }
@@ -0,0 +1,346 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.PedidoConversaoRecord;
+import br.dev.andersonandrade.moedaOne.records.ResumoConversaoArquivoRecord;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Conversão de arquivos CSV de transações em três etapas, leitura, conversão e gravação, cada uma na sua thread
+ * e ligadas por filas limitadas, de modo que a memória usada não depende do tamanho do arquivo. As linhas inválidas
+ * ou sem taxa não interrompem a conversão e são informadas ao consumidor de rejeições.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class ConversaoArquivoCsv {
+
+    static final String CABECALHO_SAIDA = "quantidade,origem,destino,valor_convertido";
+
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    private static final int TAMANHO_MAXIMO_LINHA = 4096;
+    private static final int LINHAS_POR_BLOCO = 4096;
+    private static final int BLOCOS_EM_FILA = 4;
+    private static final Bloco FIM_LEITURA = new Bloco(0, List.of());
+    private static final String FIM_CONVERSAO = "";
+    private static final Map<String, Moeda> CODIGOS = new HashMap<>();
+
+    static {
+        for (Moeda moeda : Moeda.values()) {
+            CODIGOS.put(moeda.name(), moeda);
+        }
+    }
+
+    private final ConversaoModel conversao;
+    private final int linhasPorBloco;
+
+    public ConversaoArquivoCsv(ConversaoModel conversao) {
+        this.conversao = Objects.requireNonNull(conversao, "O modelo de conversão não pode ser nulo!");
+        this.linhasPorBloco = Math.min(LINHAS_POR_BLOCO, conversao.limiteLote());
+    }
+
+    /**
+     * Linhas consecutivas do arquivo de entrada.
+     *
+     * @param primeiraLinha O número da primeira linha do bloco no arquivo, a partir de um.
+     * @param linhas As linhas, sem o terminador.
+     */
+    private record Bloco(long primeiraLinha, List<String> linhas) {
+    }
+
+    /**
+     * Contadores da etapa de conversão, lidos apenas depois que ela termina.
+     */
+    private static final class Contadores {
+        long linhas;
+        long convertidas;
+        long invalidas;
+        long semTaxa;
+    }
+
+    /**
+     * Converte um arquivo CSV de transações.
+     *
+     * @param entrada O arquivo de entrada.
+     * @param saida O arquivo de saída, substituído se existir.
+     * @param rejeicoes Recebe a descrição de cada linha rejeitada, chamado pela thread da etapa de conversão.
+     * @return O resumo da conversão.
+     * @throws IOException se não for possível ler a entrada ou gravar a saída.
+     */
+    public ResumoConversaoArquivoRecord converter(Path entrada, Path saida, Consumer<String> rejeicoes)
+            throws IOException {
+        Objects.requireNonNull(entrada, "O arquivo de entrada não pode ser nulo!");
+        Objects.requireNonNull(saida, "O arquivo de saída não pode ser nulo!");
+        Objects.requireNonNull(rejeicoes, "O consumidor de rejeições não pode ser nulo!");
+
+        long inicio = System.nanoTime();
+        Path parcial = saida.resolveSibling(saida.getFileName() + ".parcial");
+        BlockingQueue<Bloco> lidos = new ArrayBlockingQueue<>(BLOCOS_EM_FILA);
+        BlockingQueue<String> convertidos = new ArrayBlockingQueue<>(BLOCOS_EM_FILA);
+        Contadores contadores = new Contadores();
+
+        ExecutorService etapas = Executors.newThreadPerTaskExecutor(
+                Thread.ofPlatform().name("conversao-csv-", 0).daemon().factory());
+        ExecutorCompletionService<Void> conclusoes = new ExecutorCompletionService<>(etapas);
+        boolean concluido = false;
+        try {
+            conclusoes.submit(() -> {
+                ler(entrada, lidos);
+                return null;
+            });
+            conclusoes.submit(() -> {
+                converterBlocos(lidos, convertidos, rejeicoes, contadores);
+                return null;
+            });
+            conclusoes.submit(() -> {
+                gravar(parcial, convertidos);
+                return null;
+            });
+            // A primeira etapa que falhar interrompe as demais, que podem estar esperando nas filas.
+            for (int i = 0; i < 3; i++) {
+                conclusoes.take().get();
+            }
+            concluido = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("A conversão do arquivo foi interrompida.");
+        } catch (ExecutionException e) {
+            Throwable causa = e.getCause();
+            if (causa instanceof IOException falhaIo) {
+                throw falhaIo;
+            }
+            if (causa instanceof RuntimeException falha) {
+                throw falha;
+            }
+            if (causa instanceof Error erro) {
+                throw erro;
+            }
+            throw new IOException(causa);
+        } finally {
+            etapas.shutdownNow();
+            etapas.close();
+            if (!concluido) {
+                Files.deleteIfExists(parcial);
+            }
+        }
+
+        Files.move(parcial, saida, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new ResumoConversaoArquivoRecord(contadores.linhas, contadores.convertidas, contadores.invalidas,
+                contadores.semTaxa, Duration.ofNanos(System.nanoTime() - inicio));
+    }
+
+    /**
+     * Lê o arquivo em blocos de linhas. As linhas mais longas que o limite são truncadas logo após ele, para que
+     * a etapa de conversão as rejeite sem que uma linha sem terminador ocupe memória sem limite.
+     */
+    private void ler(Path entrada, BlockingQueue<Bloco> lidos) throws IOException, InterruptedException {
+        try (FileChannel canal = FileChannel.open(entrada, StandardOpenOption.READ)) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            CharBuffer caracteres = CharBuffer.allocate(TAMANHO_BUFFER);
+            CharsetDecoder decodificador = StandardCharsets.UTF_8.newDecoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            StringBuilder linha = new StringBuilder();
+            List<String> linhas = new ArrayList<>(linhasPorBloco);
+            long primeiraLinha = 1;
+
+            boolean fim = false;
+            while (!fim) {
+                fim = canal.read(bytes) < 0;
+                bytes.flip();
+                decodificador.decode(bytes, caracteres, fim);
+                if (fim) {
+                    decodificador.flush(caracteres);
+                }
+                bytes.compact();
+
+                caracteres.flip();
+                while (caracteres.hasRemaining()) {
+                    char caractere = caracteres.get();
+                    if (caractere == '\n') {
+                        linhas.add(linha.toString());
+                        linha.setLength(0);
+                        if (linhas.size() == linhasPorBloco) {
+                            lidos.put(new Bloco(primeiraLinha, linhas));
+                            primeiraLinha += linhas.size();
+                            linhas = new ArrayList<>(linhasPorBloco);
+                        }
+                    } else if (caractere != '\r' && linha.length() <= TAMANHO_MAXIMO_LINHA) {
+                        linha.append(caractere);
+                    }
+                }
+                caracteres.clear();
+            }
+
+            if (!linha.isEmpty()) {
+                linhas.add(linha.toString());
+            }
+            if (!linhas.isEmpty()) {
+                lidos.put(new Bloco(primeiraLinha, linhas));
+            }
+        }
+        lidos.put(FIM_LEITURA);
+    }
+
+    private void converterBlocos(BlockingQueue<Bloco> lidos, BlockingQueue<String> convertidos,
+                                 Consumer<String> rejeicoes, Contadores contadores) throws InterruptedException {
+        for (Bloco bloco = lidos.take(); bloco != FIM_LEITURA; bloco = lidos.take()) {
+            List<PedidoConversaoRecord> pedidos = new ArrayList<>(bloco.linhas().size());
+            long[] numeros = new long[bloco.linhas().size()];
+
+            for (int i = 0; i < bloco.linhas().size(); i++) {
+                long numero = bloco.primeiraLinha() + i;
+                String linha = bloco.linhas().get(i);
+                if (numero == 1 && linha.startsWith("\uFEFF")) {
+                    linha = linha.substring(1);
+                }
+                if (linha.isBlank()) {
+                    continue;
+                }
+                try {
+                    PedidoConversaoRecord pedido = lerPedido(linha);
+                    numeros[pedidos.size()] = numero;
+                    pedidos.add(pedido);
+                } catch (IllegalArgumentException e) {
+                    if (numero == 1 && !primeiroCampoNumerico(linha)) {
+                        continue;
+                    }
+                    contadores.invalidas++;
+                    rejeicoes.accept("Linha " + numero + ": " + e.getMessage());
+                }
+                contadores.linhas++;
+            }
+
+            List<Optional<Cambio>> cambios = conversao.converterLote(pedidos);
+            StringBuilder saida = new StringBuilder(pedidos.size() * 40);
+            for (int i = 0; i < pedidos.size(); i++) {
+                PedidoConversaoRecord pedido = pedidos.get(i);
+                Optional<Cambio> cambio = cambios.get(i);
+                if (cambio.isEmpty()) {
+                    contadores.semTaxa++;
+                    rejeicoes.accept("Linha " + numeros[i] + ": sem taxa para " + pedido.origem() + "/"
+                            + pedido.destino() + ".");
+                    continue;
+                }
+                contadores.convertidas++;
+                saida.append(pedido.quantidade().toPlainString()).append(',')
+                        .append(pedido.origem()).append(',')
+                        .append(pedido.destino()).append(',')
+                        .append(cambio.get().getQuantidadeMoedasDestino().toPlainString()).append('\n');
+            }
+            if (!saida.isEmpty()) {
+                convertidos.put(saida.toString());
+            }
+        }
+        convertidos.put(FIM_CONVERSAO);
+    }
+
+    private static void gravar(Path saida, BlockingQueue<String> convertidos) throws IOException, InterruptedException {
+        try (FileChannel canal = FileChannel.open(saida, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocateDirect(TAMANHO_BUFFER);
+            CharsetEncoder codificador = StandardCharsets.UTF_8.newEncoder();
+
+            escrever(canal, bytes, codificador, CharBuffer.wrap(CABECALHO_SAIDA + "\n"), false);
+            for (String bloco = convertidos.take(); !bloco.isEmpty(); bloco = convertidos.take()) {
+                escrever(canal, bytes, codificador, CharBuffer.wrap(bloco), false);
+            }
+            escrever(canal, bytes, codificador, CharBuffer.allocate(0), true);
+            codificador.flush(bytes);
+            descarregar(canal, bytes);
+        }
+    }
+
+    private static void escrever(FileChannel canal, ByteBuffer bytes, CharsetEncoder codificador,
+                                 CharBuffer texto, boolean fim) throws IOException {
+        while (true) {
+            CoderResult resultado = codificador.encode(texto, bytes, fim);
+            if (resultado.isOverflow()) {
+                descarregar(canal, bytes);
+            } else if (resultado.isUnderflow()) {
+                return;
+            } else {
+                resultado.throwException();
+            }
+        }
+    }
+
+    private static void descarregar(FileChannel canal, ByteBuffer bytes) throws IOException {
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            canal.write(bytes);
+        }
+        bytes.clear();
+    }
+
+    static PedidoConversaoRecord lerPedido(String linha) {
+        if (linha.length() > TAMANHO_MAXIMO_LINHA) {
+            throw new IllegalArgumentException("a linha tem mais de " + TAMANHO_MAXIMO_LINHA + " caracteres.");
+        }
+        String[] campos = linha.split(",", -1);
+        if (campos.length != 3) {
+            throw new IllegalArgumentException("esperados 3 campos, encontrados " + campos.length + ".");
+        }
+
+        BigDecimal quantidade;
+        try {
+            quantidade = new BigDecimal(campos[0].strip());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("valor inválido: " + campos[0].strip());
+        }
+        Moeda origem = moeda(campos[1], "origem");
+        Moeda destino = moeda(campos[2], "destino");
+        return new PedidoConversaoRecord(quantidade, origem, destino);
+    }
+
+    private static Moeda moeda(String campo, String papel) {
+        String codigo = campo.strip();
+        Moeda moeda = CODIGOS.get(codigo.toUpperCase(Locale.ROOT));
+        if (moeda == null) {
+            throw new IllegalArgumentException("moeda de " + papel + " inválida: " + codigo);
+        }
+        return moeda;
+    }
+
+    private static boolean primeiroCampoNumerico(String linha) {
+        int separador = linha.indexOf(',');
+        String campo = (separador < 0 ? linha : linha.substring(0, separador)).strip();
+        try {
+            new BigDecimal(campo);
+            return true;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Conversões em colunas de valores, sem criar um {@link Cambio} por valor. As conversões em ponto fixo,
+ * {@code converter}, dão o mesmo resultado de {@link Cambio}; as estimativas em {@code double}, {@code estimar},
+ * servem apenas para exibição. Usa a API de vetores quando o módulo {@code jdk.incubator.vector} está disponível.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class ConversaoColunar {
+
+    private static final Logger logger = Logger.getLogger(ConversaoColunar.class.getName());
+    private static final String MODULO_VETORES = "jdk.incubator.vector";
+    private static final Multiplicador MULTIPLICADOR = escolherMultiplicador();
+
+    private ConversaoColunar() {
+    }
+
+    /**
+     * Multiplicação de um array por um fator, com uma implementação vetorial e uma escalar.
+     */
+    interface Multiplicador {
+
+        /**
+         * Grava em {@code resultados[i]} o produto {@code valores[i] * fator}, para {@code i} de zero a
+         * {@code tamanho - 1}.
+         */
+        void multiplicar(double[] valores, double fator, double[] resultados, int tamanho);
+
+        /**
+         * Grava em {@code resultados[i]} o produto escalado de {@code valores[i]} pela taxa, arredondado para
+         * {@link Cambio#ESCALA} casas com {@link Cambio#ARREDONDAMENTO}, como
+         * {@link AritmeticaPontoFixo#multiplicarEscalado(long, int, long, int, int, java.math.RoundingMode)}.
+         *
+         * @throws ArithmeticException se algum resultado não couber em um {@code long}.
+         */
+        void multiplicarEscalado(long[] valores, int escalaValores, long taxa, int escalaTaxa, long[] resultados,
+                                 int tamanho);
+    }
+
+    /**
+     * Estima, em {@code double}, um valor da moeda de origem em todas as moedas.
+     *
+     * @param quantidade O valor na moeda de origem.
+     * @param taxasPorMoeda As taxas da moeda de origem para cada moeda, indexadas por {@code destino.ordinal()},
+     *                      como as preenchidas por {@link InstantaneoTaxas#taxasRapidas(Moeda, double[])}.
+     * @param resultados O array que recebe o valor em cada moeda, com o mesmo índice das taxas.
+     * @throws IllegalArgumentException se o array de resultados for menor que o de taxas.
+     */
+    public static void estimarEmTodasMoedas(double quantidade, double[] taxasPorMoeda, double[] resultados) {
+        Objects.requireNonNull(taxasPorMoeda, "O array de taxas não pode ser nulo!");
+        verificarResultados(resultados, taxasPorMoeda.length);
+        MULTIPLICADOR.multiplicar(taxasPorMoeda, quantidade, resultados, taxasPorMoeda.length);
+    }
+
+    /**
+     * Estima, em {@code double}, todos os valores de um array pela taxa de um único par.
+     *
+     * @param quantidades Os valores na moeda de origem.
+     * @param taxa A taxa do par.
+     * @param resultados O array que recebe os valores convertidos, na mesma ordem.
+     * @throws IllegalArgumentException se o array de resultados for menor que o de valores.
+     */
+    public static void estimar(double[] quantidades, double taxa, double[] resultados) {
+        Objects.requireNonNull(quantidades, "O array de valores não pode ser nulo!");
+        verificarResultados(resultados, quantidades.length);
+        MULTIPLICADOR.multiplicar(quantidades, taxa, resultados, quantidades.length);
+    }
+
+    /**
+     * Estima, em {@code double}, todos os valores de um array pela taxa do par no instantâneo.
+     *
+     * @param instantaneo O instantâneo das taxas.
+     * @param quantidades Os valores na moeda de origem.
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param resultados O array que recebe os valores convertidos, na mesma ordem.
+     * @return {@code true} se o par tiver taxa válida no instantâneo; caso contrário os resultados não são alterados.
+     * @throws IllegalArgumentException se o array de resultados for menor que o de valores.
+     */
+    public static boolean estimar(InstantaneoTaxas instantaneo, double[] quantidades, Moeda origem, Moeda destino,
+                                  double[] resultados) {
+        Objects.requireNonNull(instantaneo, "O instantâneo não pode ser nulo!");
+        double taxa = instantaneo.taxaRapida(origem, destino);
+        if (Double.isNaN(taxa)) {
+            return false;
+        }
+        estimar(quantidades, taxa, resultados);
+        return true;
+    }
+
+    /**
+     * Converte todos os valores de um array, em ponto fixo, pela taxa de um único par.
+     *
+     * @param quantidades Os valores inteiros das quantidades na moeda de origem.
+     * @param escala As casas decimais comuns às quantidades, como em {@link BigDecimal#scale()}.
+     * @param taxaEscalada O valor inteiro da taxa, como obtido por {@link AritmeticaPontoFixo#valorEscalado(BigDecimal)}.
+     * @param escalaTaxa As casas decimais da taxa.
+     * @param resultados O array que recebe os valores convertidos, em centésimos, na mesma ordem.
+     * @throws IllegalArgumentException se o array de resultados for menor que o de valores.
+     * @throws ArithmeticException se algum valor convertido não couber em um {@code long}.
+     */
+    public static void converter(long[] quantidades, int escala, long taxaEscalada, int escalaTaxa,
+                                 long[] resultados) {
+        Objects.requireNonNull(quantidades, "O array de valores não pode ser nulo!");
+        verificarResultados(resultados, quantidades.length);
+        MULTIPLICADOR.multiplicarEscalado(quantidades, escala, taxaEscalada, escalaTaxa, resultados,
+                quantidades.length);
+    }
+
+    /**
+     * Converte todos os valores de um array, em ponto fixo, pela taxa do par no instantâneo. Cada resultado é
+     * igual ao de {@link InstantaneoTaxas#converter(BigDecimal, Moeda, Moeda)} para a mesma quantidade.
+     *
+     * @param instantaneo O instantâneo das taxas.
+     * @param quantidades Os valores inteiros das quantidades na moeda de origem.
+     * @param escala As casas decimais comuns às quantidades.
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param resultados O array que recebe os valores convertidos, em centésimos, na mesma ordem.
+     * @return {@code true} se o par tiver taxa válida no instantâneo; caso contrário os resultados não são alterados.
+     * @throws IllegalArgumentException se o array de resultados for menor que o de valores.
+     * @throws ArithmeticException se algum valor convertido não couber em um {@code long}.
+     */
+    public static boolean converter(InstantaneoTaxas instantaneo, long[] quantidades, int escala, Moeda origem,
+                                    Moeda destino, long[] resultados) {
+        Objects.requireNonNull(instantaneo, "O instantâneo não pode ser nulo!");
+        Optional<MoedaRecord> registro = instantaneo.buscar(origem, destino);
+        if (registro.isEmpty()) {
+            return false;
+        }
+
+        int escalaTaxa = instantaneo.escalaTaxa(origem, destino);
+        if (escalaTaxa != Cambio.SEM_PONTO_FIXO) {
+            converter(quantidades, escala, instantaneo.taxaEscalada(origem, destino), escalaTaxa, resultados);
+            return true;
+        }
+
+        Objects.requireNonNull(quantidades, "O array de valores não pode ser nulo!");
+        verificarResultados(resultados, quantidades.length);
+        BigDecimal taxa = registro.get().conversionRate();
+        for (int i = 0; i < quantidades.length; i++) {
+            resultados[i] = BigDecimal.valueOf(quantidades[i], escala).multiply(taxa)
+                    .setScale(Cambio.ESCALA, Cambio.ARREDONDAMENTO).unscaledValue().longValueExact();
+        }
+        return true;
+    }
+
+    /**
+     * Indica se as conversões usam a API de vetores.
+     *
+     * @return {@code true} se o módulo {@code jdk.incubator.vector} estiver disponível.
+     */
+    public static boolean vetorial() {
+        return !(MULTIPLICADOR instanceof MultiplicadorEscalar);
+    }
+
+    private static void verificarResultados(double[] resultados, int tamanho) {
+        Objects.requireNonNull(resultados, "O array de resultados não pode ser nulo!");
+        verificarTamanho(resultados.length, tamanho);
+    }
+
+    private static void verificarResultados(long[] resultados, int tamanho) {
+        Objects.requireNonNull(resultados, "O array de resultados não pode ser nulo!");
+        verificarTamanho(resultados.length, tamanho);
+    }
+
+    private static void verificarTamanho(int posicoes, int tamanho) {
+        if (posicoes < tamanho) {
+            throw new IllegalArgumentException("O array de resultados deve ter pelo menos " + tamanho + " posições.");
+        }
+    }
+
+    /**
+     * Usa a implementação vetorial se o módulo estiver na camada de boot; a classe vetorial só é carregada nesse
+     * caso, de modo que a ausência do módulo não impede o uso da implementação escalar.
+     */
+    private static Multiplicador escolherMultiplicador() {
+        if (ModuleLayer.boot().findModule(MODULO_VETORES).isPresent()) {
+            try {
+                return (Multiplicador) Class.forName(ConversaoColunar.class.getPackageName() + ".MultiplicadorVetorial")
+                        .getDeclaredConstructor().newInstance();
+            } catch (ReflectiveOperationException | LinkageError e) {
+                logger.log(Level.WARNING, "API de vetores indisponível, usando conversão escalar: " + e);
+            }
+        }
+        return new MultiplicadorEscalar();
+    }
+
+    /**
+     * Implementação escalar, usada quando o módulo de vetores não está disponível.
+     */
+    static final class MultiplicadorEscalar implements Multiplicador {
+
+        @Override
+        public void multiplicar(double[] valores, double fator, double[] resultados, int tamanho) {
+            for (int i = 0; i < tamanho; i++) {
+                resultados[i] = valores[i] * fator;
+            }
+        }
+
+        @Override
+        public void multiplicarEscalado(long[] valores, int escalaValores, long taxa, int escalaTaxa,
+                                        long[] resultados, int tamanho) {
+            for (int i = 0; i < tamanho; i++) {
+                resultados[i] = AritmeticaPontoFixo.multiplicarEscalado(valores[i], escalaValores, taxa, escalaTaxa,
+                        Cambio.ESCALA, Cambio.ARREDONDAMENTO);
+            }
+        }
+    }
+}
@@ -3,9 +3,22 @@ package br.dev.andersonandrade.moedaOne.model;
 import br.dev.andersonandrade.moedaOne.beans.Cambio;
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
 import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.PedidoConversaoRecord;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * @author Anderson Andrade Dev
@@ -13,15 +26,163 @@ import java.util.Optional;
  */
 public class ConversaoModel {
 
+    public static final int LIMITE_LOTE = 100_000;
+    private static final int LIMITE_SEQUENCIAL = 1_000;
+    private static final Moeda[] MOEDAS = Moeda.values();
+    private static final int TOTAL_MOEDAS = MOEDAS.length;
+
+    private final ConexaoModel conexaoModel;
+    private final int limiteLote;
+
+    public ConversaoModel(){
+        this(ConexaoModel.padrao());
+    }
+
+    public ConversaoModel(ConexaoModel conexaoModel){
+        this(conexaoModel, LIMITE_LOTE);
+    }
+
+    public ConversaoModel(ConexaoModel conexaoModel, int limiteLote){
+        this.conexaoModel = Objects.requireNonNull(conexaoModel, "O serviço de taxas não pode ser nulo!");
+        if(limiteLote < 1){
+            throw new IllegalArgumentException("O limite do lote deve ser positivo.");
+        }
+        this.limiteLote = limiteLote;
+    }
+
+    public int limiteLote(){
+        return limiteLote;
+    }
+
     public Optional<Cambio> converter(BigDecimal quantidade, Moeda origem, Moeda destino){
 
-        Optional<MoedaRecord> moedaAConverter = ConexaoModel.buscaValoreMoedas(origem,destino);
+        Optional<MoedaRecord> moedaAConverter = conexaoModel.buscaValoreMoedas(origem,destino);
 
         if(moedaAConverter.isPresent()){
-          return Optional.of(new Cambio(quantidade, moedaAConverter.get()));
+          return Optional.of(new Cambio(quantidade, moedaAConverter.get(),
+                  conexaoModel.expirada(origem, destino, moedaAConverter.get())));
         }
 
         return Optional.empty();
     }
 
+    public Optional<Cambio> converter(InstantaneoTaxas instantaneo, BigDecimal quantidade, Moeda origem, Moeda destino){
+
+        return instantaneo.converter(quantidade, origem, destino);
+    }
+
+    public CompletableFuture<Optional<Cambio>> converterAsync(BigDecimal quantidade, Moeda origem, Moeda destino){
+
+        CompletableFuture<Optional<MoedaRecord>> busca = conexaoModel.buscaValoreMoedasAsync(origem, destino);
+        return Cancelamentos.propagar(busca
+                .thenApply(moedaAConverter -> moedaAConverter.map(moedaRecord -> new Cambio(quantidade, moedaRecord,
+                        conexaoModel.expirada(origem, destino, moedaRecord)))), busca);
+    }
+
+    /**
+     * Converte um lote de pedidos com as taxas de um único instantâneo. Cada par distinto é resolvido uma só vez,
+     * pelo instantâneo ou, se não tiver taxa válida nele, pelo serviço de taxas. Acima de mil pedidos as conversões
+     * são feitas em paralelo.
+     *
+     * @param pedidos Os pedidos de conversão, no máximo o limite do lote.
+     * @return O resultado de cada pedido, na mesma ordem dos pedidos; vazio para os pares sem taxa.
+     * @throws IllegalArgumentException se o lote tiver mais pedidos do que o limite.
+     */
+    public List<Optional<Cambio>> converterLote(Collection<PedidoConversaoRecord> pedidos){
+        Objects.requireNonNull(pedidos, "Os pedidos não podem ser nulos!");
+        if(pedidos.size() > limiteLote){
+            throw new IllegalArgumentException("O lote deve ter no máximo " + limiteLote + " pedidos.");
+        }
+
+        List<PedidoConversaoRecord> lote = List.copyOf(pedidos);
+        TaxaResolvida[] taxas = resolverTaxas(lote);
+
+        IntStream indices = IntStream.range(0, lote.size());
+        if(lote.size() > LIMITE_SEQUENCIAL){
+            indices = indices.parallel();
+        }
+        return indices
+                .mapToObj(i -> {
+                    TaxaResolvida taxa = taxas[i];
+                    return taxa == null ? Optional.<Cambio>empty()
+                            : Optional.of(new Cambio(lote.get(i).quantidade(), taxa.moedaRecord(),
+                                    taxa.taxaEscalada(), taxa.escalaTaxa(), taxa.desatualizada()));
+                })
+                .toList();
+    }
+
+    /**
+     * Converte uma sequência de pedidos de tamanho arbitrário em lotes de até o limite do lote, de modo que apenas
+     * um lote fique em memória por vez. Cada lote usa o seu próprio instantâneo das taxas.
+     *
+     * @param pedidos Os pedidos de conversão.
+     * @param resultados Recebe o resultado de cada pedido, na mesma ordem dos pedidos.
+     * @return O número de pedidos convertidos.
+     */
+    public long converterLote(Stream<PedidoConversaoRecord> pedidos, Consumer<Optional<Cambio>> resultados){
+        Objects.requireNonNull(pedidos, "Os pedidos não podem ser nulos!");
+        Objects.requireNonNull(resultados, "O consumidor dos resultados não pode ser nulo!");
+
+        Iterator<PedidoConversaoRecord> iterador = pedidos.iterator();
+        List<PedidoConversaoRecord> lote = new ArrayList<>();
+        long convertidos = 0;
+        while(iterador.hasNext()){
+            lote.clear();
+            while(iterador.hasNext() && lote.size() < limiteLote){
+                lote.add(iterador.next());
+            }
+            converterLote(lote).forEach(resultados);
+            convertidos += lote.size();
+        }
+        return convertidos;
+    }
+
+    private TaxaResolvida[] resolverTaxas(List<PedidoConversaoRecord> lote){
+        InstantaneoTaxas instantaneo = conexaoModel.fixarInstantaneo();
+        Map<Integer, TaxaResolvida> resolvidas = new HashMap<>();
+        Map<Integer, CompletableFuture<Optional<MoedaRecord>>> pendentes = new HashMap<>();
+
+        for(PedidoConversaoRecord pedido : lote){
+            int indice = indice(pedido.origem(), pedido.destino());
+            if(resolvidas.containsKey(indice) || pendentes.containsKey(indice)){
+                continue;
+            }
+            Optional<MoedaRecord> fixada = instantaneo.buscar(pedido.origem(), pedido.destino());
+            if(fixada.isPresent()){
+                resolvidas.put(indice, resolver(pedido.origem(), pedido.destino(), fixada.get()));
+            }else{
+                pendentes.put(indice, conexaoModel.buscaValoreMoedasAsync(pedido.origem(), pedido.destino()));
+            }
+        }
+
+        pendentes.forEach((indice, busca) -> busca.join().ifPresent(moedaRecord -> resolvidas.put(indice,
+                resolver(MOEDAS[indice / TOTAL_MOEDAS], MOEDAS[indice % TOTAL_MOEDAS], moedaRecord))));
+
+        TaxaResolvida[] taxas = new TaxaResolvida[lote.size()];
+        for(int i = 0; i < taxas.length; i++){
+            PedidoConversaoRecord pedido = lote.get(i);
+            taxas[i] = resolvidas.get(indice(pedido.origem(), pedido.destino()));
+        }
+        return taxas;
+    }
+
+    private TaxaResolvida resolver(Moeda origem, Moeda destino, MoedaRecord moedaRecord){
+        BigDecimal taxa = moedaRecord.conversionRate();
+        boolean pontoFixo = taxa != null && AritmeticaPontoFixo.cabeEmLong(taxa);
+        return new TaxaResolvida(moedaRecord, pontoFixo ? AritmeticaPontoFixo.valorEscalado(taxa) : 0L,
+                pontoFixo ? taxa.scale() : Cambio.SEM_PONTO_FIXO,
+                conexaoModel.expirada(origem, destino, moedaRecord));
+    }
+
+    private static int indice(Moeda origem, Moeda destino){
+        return origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+    }
+
+    /**
+     * Taxa de um par do lote, já decomposta em ponto fixo e com a marcação de desatualizada.
+     */
+    private record TaxaResolvida(MoedaRecord moedaRecord, long taxaEscalada, int escalaTaxa,
+                                 boolean desatualizada){
+    }
+
 }
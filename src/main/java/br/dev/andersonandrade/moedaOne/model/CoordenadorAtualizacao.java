@@ -0,0 +1,150 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+
+import java.io.IOException;
+import java.nio.channels.FileLock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Coordena, entre os processos que compartilham o mesmo {@link ArquivoTaxas}, a busca de taxas na API, para que
+ * apenas o processo que reservar o par o busque e os demais aguardem a taxa gravada no arquivo.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class CoordenadorAtualizacao {
+
+    private static final Logger logger = Logger.getLogger(CoordenadorAtualizacao.class.getName());
+
+    private final ArquivoTaxas arquivo;
+    private final long esperaMaximaNanos;
+    private final Executor intervaloConsulta;
+    private final LongAdder atendidasPorOutroProcesso = new LongAdder();
+    private final LongAdder esperasEsgotadas = new LongAdder();
+
+    /**
+     * Cria o coordenador.
+     *
+     * @param arquivo O arquivo de taxas compartilhado.
+     * @param esperaMaxima O tempo máximo de espera pela taxa buscada por outro processo.
+     * @param intervalo O intervalo entre as consultas ao arquivo durante a espera.
+     */
+    CoordenadorAtualizacao(ArquivoTaxas arquivo, Duration esperaMaxima, Duration intervalo) {
+        this.arquivo = Objects.requireNonNull(arquivo, "O arquivo de taxas não pode ser nulo!");
+        if (esperaMaxima.isNegative() || intervalo.isNegative() || intervalo.isZero()) {
+            throw new IllegalArgumentException("Verifique a configuração do compartilhamento de taxas.");
+        }
+        this.esperaMaximaNanos = esperaMaxima.toNanos();
+        this.intervaloConsulta = CompletableFuture.delayedExecutor(intervalo.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Obtém o resultado a partir do arquivo compartilhado ou executa a atualização, conforme a reserva do par.
+     *
+     * @param origem A moeda de origem do par reservado.
+     * @param destino A moeda de destino do par reservado.
+     * @param compartilhado Lê o resultado do arquivo compartilhado, vazio se ele não tiver uma taxa mais recente.
+     * @param atualizacao Busca a taxa na API e a grava no arquivo compartilhado.
+     * @return Um CompletableFuture com o resultado lido do arquivo ou obtido pela atualização. Cancelá-lo
+     *         interrompe a espera pelo outro processo ou cancela a atualização em andamento.
+     */
+    <T> CompletableFuture<T> executar(Moeda origem, Moeda destino, Supplier<Optional<T>> compartilhado,
+                                      Supplier<CompletableFuture<T>> atualizacao) {
+        Optional<T> pronto = compartilhado.get();
+        if (pronto.isPresent()) {
+            atendidasPorOutroProcesso.increment();
+            return CompletableFuture.completedFuture(pronto.get());
+        }
+        return tentar(origem, destino, compartilhado, atualizacao, System.nanoTime() + esperaMaximaNanos);
+    }
+
+    /**
+     * Obtém o total de buscas atendidas por taxas que outro processo gravou no arquivo compartilhado.
+     *
+     * @return O número de buscas atendidas pelo arquivo compartilhado.
+     */
+    long atendidasPorOutroProcesso() {
+        return atendidasPorOutroProcesso.sum();
+    }
+
+    /**
+     * Obtém o total de esperas que passaram do limite e terminaram com a busca feita pelo próprio processo.
+     *
+     * @return O número de esperas esgotadas.
+     */
+    long esperasEsgotadas() {
+        return esperasEsgotadas.sum();
+    }
+
+    private <T> CompletableFuture<T> tentar(Moeda origem, Moeda destino, Supplier<Optional<T>> compartilhado,
+                                            Supplier<CompletableFuture<T>> atualizacao, long limite) {
+        FileLock reserva;
+        try {
+            reserva = arquivo.reservarAtualizacao(origem, destino);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Erro ao reservar a atualização de " + origem + "/" + destino + ": "
+                    + e.getMessage());
+            return atualizacao.get();
+        }
+
+        if (reserva != null) {
+            Optional<T> pronto = compartilhado.get();
+            if (pronto.isPresent()) {
+                liberar(reserva);
+                atendidasPorOutroProcesso.increment();
+                return CompletableFuture.completedFuture(pronto.get());
+            }
+
+            try {
+                CompletableFuture<T> busca = atualizacao.get();
+                return Cancelamentos.propagar(busca.whenComplete((resultado, erro) -> liberar(reserva)), busca);
+            } catch (RuntimeException e) {
+                liberar(reserva);
+                throw e;
+            }
+        }
+
+        if (System.nanoTime() - limite >= 0) {
+            esperasEsgotadas.increment();
+            logger.log(Level.WARNING, "Tempo de espera esgotado pela atualização de " + origem + "/" + destino
+                    + " em outro processo");
+            return atualizacao.get();
+        }
+
+        CompletableFuture<CompletableFuture<T>> proxima = CompletableFuture.runAsync(() -> {}, intervaloConsulta)
+                .thenApply(ignorado -> {
+                    Optional<T> pronto = compartilhado.get();
+                    if (pronto.isPresent()) {
+                        atendidasPorOutroProcesso.increment();
+                        return CompletableFuture.completedFuture(pronto.get());
+                    }
+                    return tentar(origem, destino, compartilhado, atualizacao, limite);
+                });
+        CompletableFuture<T> resultado = proxima.thenCompose(tentativa -> tentativa);
+        resultado.whenComplete((valor, erro) -> {
+            if (resultado.isCancelled()) {
+                proxima.cancel(true);
+                proxima.thenAccept(tentativa -> tentativa.cancel(true));
+            }
+        });
+        return resultado;
+    }
+
+    private static void liberar(FileLock reserva) {
+        try {
+            reserva.release();
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Erro ao liberar a reserva de atualização: " + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,394 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Diário de atualizações de taxas, gravado apenas no fim do arquivo, na frente do {@link ArquivoTaxas}. Cada
+ * entrada tem CRC32; as entradas válidas são reaplicadas na abertura e o diário é compactado no arquivo de taxas
+ * quando acumula entradas suficientes.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class DiarioTaxas implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(DiarioTaxas.class.getName());
+
+    private static final int MAGICO = 0x4D444941;
+    private static final short VERSAO = 1;
+    private static final int TAMANHO_CABECALHO = 8;
+    private static final int TAMANHO_ENTRADA = 36;
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+
+    private final Path caminho;
+    private final boolean doProcesso;
+    private final FileChannel canal;
+    private final ArquivoTaxas instantaneo;
+    private final int limiteCompactacao;
+    private final MoedaRecord[] pendentes = new MoedaRecord[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final ScheduledExecutorService agendador;
+    private final AtomicBoolean compactacaoAgendada = new AtomicBoolean();
+
+    private int entradas;
+    private boolean sujo;
+
+    private DiarioTaxas(Path caminho, boolean doProcesso, FileChannel canal, ArquivoTaxas instantaneo,
+                        Duration intervaloSincronizacao, int limiteCompactacao) {
+        this.caminho = caminho;
+        this.doProcesso = doProcesso;
+        this.canal = canal;
+        this.instantaneo = instantaneo;
+        this.limiteCompactacao = limiteCompactacao;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "diario-taxas-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervaloMs = Math.max(1, intervaloSincronizacao.toMillis());
+        agendador.scheduleWithFixedDelay(this::sincronizar, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Abre o diário, reaplica as entradas válidas ao arquivo de taxas e esvazia o diário.
+     *
+     * @param caminho O caminho do diário.
+     * @param instantaneo O arquivo de taxas em que as entradas são compactadas.
+     * @param intervaloSincronizacao O intervalo entre as sincronizações do diário com o disco.
+     * @param limiteCompactacao O número de entradas que dispara a compactação.
+     * @return O diário aberto.
+     * @throws IOException se o diário não puder ser aberto ou recuperado.
+     */
+    static DiarioTaxas abrir(Path caminho, ArquivoTaxas instantaneo, Duration intervaloSincronizacao,
+                             int limiteCompactacao) throws IOException {
+        Objects.requireNonNull(caminho, "O caminho do diário não pode ser nulo!");
+        Objects.requireNonNull(instantaneo, "O arquivo de taxas não pode ser nulo!");
+        if (intervaloSincronizacao.isNegative() || limiteCompactacao < 1) {
+            throw new IllegalArgumentException("Verifique a configuração do diário de taxas.");
+        }
+
+        Path proprio = caminho;
+        FileChannel canal = abrirExclusivo(caminho);
+        if (canal == null) {
+            proprio = caminho.resolveSibling(caminho.getFileName() + "." + ProcessHandle.current().pid());
+            canal = abrirExclusivo(proprio);
+            if (canal == null) {
+                throw new IOException("O diário de taxas " + proprio + " já está em uso!");
+            }
+            logger.log(Level.INFO, "Diário de taxas em uso por outro processo, usando " + proprio);
+        }
+
+        try {
+            if (canal.size() > 0 && !compativel(canal)) {
+                Path invalido = proprio.resolveSibling(proprio.getFileName() + ".invalido");
+                Files.copy(proprio, invalido, StandardCopyOption.REPLACE_EXISTING);
+                logger.log(Level.WARNING, "Diário de taxas incompatível preservado em " + invalido);
+            } else {
+                aplicar(proprio, recuperar(canal), instantaneo);
+            }
+            reiniciar(canal);
+            recuperarAbandonados(caminho, proprio, instantaneo);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        return new DiarioTaxas(proprio, !proprio.equals(caminho), canal, instantaneo, intervaloSincronizacao,
+                limiteCompactacao);
+    }
+
+    /**
+     * Abre o arquivo e o bloqueia com exclusividade.
+     *
+     * @return O canal do arquivo bloqueado, ou {@code null} se o arquivo já estiver bloqueado.
+     */
+    private static FileChannel abrirExclusivo(Path caminho) throws IOException {
+        FileChannel canal = FileChannel.open(caminho, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            if (canal.tryLock() != null) {
+                return canal;
+            }
+        } catch (OverlappingFileLockException e) {
+            // bloqueado por outro diário deste mesmo processo
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+        canal.close();
+        return null;
+    }
+
+    /**
+     * Reaplica e remove os diários com PID de processos que terminaram sem compactá-los. Os diários ainda
+     * bloqueados pertencem a processos em execução e são mantidos.
+     */
+    private static void recuperarAbandonados(Path caminho, Path proprio, ArquivoTaxas instantaneo)
+            throws IOException {
+        Path diretorio = caminho.toAbsolutePath().getParent();
+        String prefixo = caminho.getFileName() + ".";
+        List<Path> abandonados;
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            abandonados = arquivos
+                    .filter(arquivo -> {
+                        String nome = arquivo.getFileName().toString();
+                        return nome.startsWith(prefixo) && nome.length() > prefixo.length()
+                                && nome.substring(prefixo.length()).chars().allMatch(Character::isDigit);
+                    })
+                    .filter(arquivo -> !arquivo.getFileName().equals(proprio.getFileName()))
+                    .toList();
+        }
+
+        for (Path abandonado : abandonados) {
+            FileChannel canal = abrirExclusivo(abandonado);
+            if (canal == null) {
+                continue;
+            }
+            try (canal) {
+                if (canal.size() > 0 && compativel(canal)) {
+                    aplicar(abandonado, recuperar(canal), instantaneo);
+                }
+                Files.delete(abandonado);
+            }
+        }
+    }
+
+    private static void aplicar(Path caminho, List<MoedaRecord> recuperados, ArquivoTaxas instantaneo) {
+        if (!recuperados.isEmpty()) {
+            instantaneo.gravar(recuperados);
+            logger.log(Level.INFO, recuperados.size() + " taxas recuperadas do diário " + caminho);
+        }
+    }
+
+    /**
+     * Acrescenta os registros ao fim do diário e os publica no arquivo de taxas. O custo de cada registro não
+     * depende do tamanho do diário nem do arquivo de taxas. Registros com moedas que não pertencem ao enum
+     * {@link Moeda} ou sem taxa são ignorados.
+     *
+     * @param registros Os registros a serem gravados.
+     */
+    void registrar(Collection<MoedaRecord> registros) {
+        Objects.requireNonNull(registros, "Verifique o parâmetro, ele não pode ser nulo!");
+
+        ByteBuffer lote = ByteBuffer.allocate(registros.size() * TAMANHO_ENTRADA);
+        List<MoedaRecord> validos = new ArrayList<>(registros.size());
+        List<Integer> indices = new ArrayList<>(registros.size());
+
+        for (MoedaRecord registro : registros) {
+            Optional<Moeda> origem = Moeda.buscarOpcional(registro.baseCode());
+            Optional<Moeda> destino = Moeda.buscarOpcional(registro.targetCode());
+            if (origem.isEmpty() || destino.isEmpty() || registro.conversionRate() == null
+                    || registro.conversionRate().signum() <= 0) {
+                continue;
+            }
+            codificar(lote, origem.get(), destino.get(), registro);
+            validos.add(registro);
+            indices.add(origem.get().ordinal() * TOTAL_MOEDAS + destino.get().ordinal());
+        }
+        if (validos.isEmpty()) {
+            return;
+        }
+        lote.flip();
+
+        boolean compactar;
+        synchronized (this) {
+            try {
+                while (lote.hasRemaining()) {
+                    canal.write(lote);
+                }
+            } catch (IOException e) {
+                logger.log(Level.SEVERE, "Erro ao gravar no diário de taxas: " + e.getMessage());
+                return;
+            }
+            for (int i = 0; i < validos.size(); i++) {
+                pendentes[indices.get(i)] = validos.get(i);
+            }
+            instantaneo.publicar(validos);
+            entradas += validos.size();
+            sujo = true;
+            compactar = entradas >= limiteCompactacao;
+        }
+
+        if (compactar && compactacaoAgendada.compareAndSet(false, true)) {
+            try {
+                agendador.execute(() -> {
+                    compactacaoAgendada.set(false);
+                    compactar();
+                });
+            } catch (RejectedExecutionException e) {
+                compactacaoAgendada.set(false);
+            }
+        }
+    }
+
+    /**
+     * Força a gravação no disco das entradas acrescentadas desde a última sincronização.
+     */
+    synchronized void sincronizar() {
+        if (!sujo || !canal.isOpen()) {
+            return;
+        }
+        try {
+            canal.force(false);
+            sujo = false;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Erro ao sincronizar o diário de taxas: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Aplica as taxas pendentes ao arquivo de taxas e esvazia o diário.
+     */
+    synchronized void compactar() {
+        if (entradas == 0 || !canal.isOpen()) {
+            return;
+        }
+
+        List<MoedaRecord> registros = new ArrayList<>();
+        for (int i = 0; i < pendentes.length; i++) {
+            if (pendentes[i] != null) {
+                registros.add(pendentes[i]);
+                pendentes[i] = null;
+            }
+        }
+
+        try {
+            sincronizar();
+            instantaneo.gravar(registros);
+            reiniciar(canal);
+            logger.log(Level.FINE, entradas + " entradas do diário compactadas em " + registros.size() + " taxas");
+            entradas = 0;
+            sujo = false;
+        } catch (IOException e) {
+            logger.log(Level.SEVERE, "Erro ao compactar o diário de taxas " + caminho + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Obtém o número de entradas no diário ainda não compactadas.
+     *
+     * @return O número de entradas.
+     */
+    synchronized int entradas() {
+        return entradas;
+    }
+
+    /**
+     * Compacta o diário, encerra a thread de sincronização e fecha o arquivo. O diário próprio do processo,
+     * criado quando o diário principal estava em uso, é removido.
+     */
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+        synchronized (this) {
+            compactar();
+            sincronizar();
+            try {
+                if (doProcesso && entradas == 0) {
+                    Files.deleteIfExists(caminho);
+                }
+                canal.close();
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Erro ao fechar o diário de taxas " + caminho + ": " + e.getMessage());
+            }
+        }
+    }
+
+    private static void codificar(ByteBuffer lote, Moeda origem, Moeda destino, MoedaRecord registro) {
+        BigDecimal taxa = ArquivoTaxas.pontoFixo(registro.conversionRate());
+        int inicio = lote.position();
+
+        lote.putShort((short) origem.ordinal());
+        lote.putShort((short) destino.ordinal());
+        lote.putInt(taxa.scale());
+        lote.putLong(taxa.unscaledValue().longValueExact());
+        lote.putLong(ArquivoTaxas.paraArquivo(registro.timeLastUpdateUnix()));
+        lote.putLong(ArquivoTaxas.paraArquivo(registro.timeNextUpdateUnix()));
+
+        CRC32 crc = new CRC32();
+        crc.update(lote.array(), inicio, TAMANHO_ENTRADA - Integer.BYTES);
+        lote.putInt((int) crc.getValue());
+    }
+
+    private static List<MoedaRecord> recuperar(FileChannel canal) throws IOException {
+        List<MoedaRecord> registros = new ArrayList<>();
+        long tamanho = canal.size();
+        if (tamanho <= TAMANHO_CABECALHO) {
+            return registros;
+        }
+
+        Moeda[] moedas = Moeda.values();
+        ByteBuffer entrada = ByteBuffer.allocate(TAMANHO_ENTRADA);
+        CRC32 crc = new CRC32();
+
+        for (long posicao = TAMANHO_CABECALHO; posicao + TAMANHO_ENTRADA <= tamanho; posicao += TAMANHO_ENTRADA) {
+            entrada.clear();
+            while (entrada.hasRemaining() && canal.read(entrada, posicao + entrada.position()) > 0) {
+                // lê a entrada inteira
+            }
+
+            crc.reset();
+            crc.update(entrada.array(), 0, TAMANHO_ENTRADA - Integer.BYTES);
+            int origem = entrada.getShort(0);
+            int destino = entrada.getShort(2);
+            if (entrada.hasRemaining() || (int) crc.getValue() != entrada.getInt(TAMANHO_ENTRADA - Integer.BYTES)
+                    || origem < 0 || origem >= TOTAL_MOEDAS || destino < 0 || destino >= TOTAL_MOEDAS) {
+                logger.log(Level.WARNING, "Entrada inválida no diário na posição " + posicao
+                        + ", descartando o restante do diário.");
+                break;
+            }
+
+            registros.add(ArquivoTaxas.montar(moedas[origem], moedas[destino], entrada.getLong(8),
+                    entrada.getInt(4), entrada.getLong(16), entrada.getLong(24)));
+        }
+        return registros;
+    }
+
+    private static void reiniciar(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        cabecalho.putInt(MAGICO).putShort(VERSAO).putShort((short) TOTAL_MOEDAS).flip();
+
+        canal.truncate(0);
+        while (cabecalho.hasRemaining()) {
+            canal.write(cabecalho, cabecalho.position());
+        }
+        canal.position(TAMANHO_CABECALHO);
+        canal.force(false);
+    }
+
+    private static boolean compativel(FileChannel canal) throws IOException {
+        ByteBuffer cabecalho = ByteBuffer.allocate(TAMANHO_CABECALHO);
+        while (cabecalho.hasRemaining() && canal.read(cabecalho, cabecalho.position()) > 0) {
+            // lê o cabeçalho inteiro
+        }
+        return !cabecalho.hasRemaining() && cabecalho.getInt(0) == MAGICO && cabecalho.getShort(4) == VERSAO
+                && cabecalho.getShort(6) == TOTAL_MOEDAS;
+    }
+}
@@ -0,0 +1,228 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Disjuntor (circuit breaker) para as chamadas ao provedor de taxas. Quando a proporção de erros nas últimas
+ * chamadas atinge o limite, as chamadas falham imediatamente até o fim do tempo de abertura, quando uma única
+ * chamada de teste decide se o disjuntor fecha ou volta a abrir.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class DisjuntorCircuito {
+
+    private static final Logger logger = Logger.getLogger(DisjuntorCircuito.class.getName());
+
+    /**
+     * Estados possíveis do disjuntor.
+     */
+    enum Estado {
+        FECHADO, ABERTO, MEIO_ABERTO
+    }
+
+    private final boolean[] janela;
+    private final int minimoChamadas;
+    private final double limiteErros;
+    private final long tempoAbertoMs;
+    private final LongSupplier relogio;
+
+    private Estado estado = Estado.FECHADO;
+    private int posicao;
+    private int registradas;
+    private int erros;
+    private long abertoDesde;
+    private boolean testeEmAndamento;
+
+    /**
+     * Cria o disjuntor usando o relógio do sistema.
+     *
+     * @param tamanhoJanela O número de chamadas consideradas no cálculo da proporção de erros.
+     * @param minimoChamadas O número mínimo de chamadas na janela antes que o disjuntor possa abrir.
+     * @param limiteErros A proporção de erros, entre 0 e 1, que abre o disjuntor.
+     * @param tempoAberto Quanto tempo o disjuntor permanece aberto antes de testar o provedor novamente.
+     */
+    DisjuntorCircuito(int tamanhoJanela, int minimoChamadas, double limiteErros, Duration tempoAberto) {
+        this(tamanhoJanela, minimoChamadas, limiteErros, tempoAberto, System::currentTimeMillis);
+    }
+
+    /**
+     * Cria o disjuntor com um relógio em milissegundos informado, usado nos testes.
+     *
+     * @param tamanhoJanela O número de chamadas consideradas no cálculo da proporção de erros.
+     * @param minimoChamadas O número mínimo de chamadas na janela antes que o disjuntor possa abrir.
+     * @param limiteErros A proporção de erros, entre 0 e 1, que abre o disjuntor.
+     * @param tempoAberto Quanto tempo o disjuntor permanece aberto antes de testar o provedor novamente.
+     * @param relogio A fonte do instante atual em milissegundos.
+     */
+    DisjuntorCircuito(int tamanhoJanela, int minimoChamadas, double limiteErros, Duration tempoAberto,
+                      LongSupplier relogio) {
+        if (tamanhoJanela < 1 || minimoChamadas < 1 || limiteErros <= 0 || limiteErros > 1 || tempoAberto.isNegative()) {
+            throw new IllegalArgumentException("Verifique a configuração do disjuntor.");
+        }
+
+        this.janela = new boolean[tamanhoJanela];
+        this.minimoChamadas = Math.min(minimoChamadas, tamanhoJanela);
+        this.limiteErros = limiteErros;
+        this.tempoAbertoMs = tempoAberto.toMillis();
+        this.relogio = Objects.requireNonNull(relogio, "O relógio não pode ser nulo!");
+    }
+
+    /**
+     * Executa a chamada se o disjuntor permitir, registrando o resultado. Um Optional vazio ou uma exceção
+     * contam como erro; uma chamada cancelada não conta como sucesso nem como erro. Com o disjuntor aberto,
+     * devolve imediatamente um Optional vazio. Cancelar o resultado cancela a chamada.
+     *
+     * @param chamada A chamada ao provedor.
+     * @return Um CompletableFuture com o resultado da chamada, ou vazio se ela não foi permitida ou falhou.
+     */
+    <T> CompletableFuture<Optional<T>> executar(Supplier<CompletableFuture<Optional<T>>> chamada) {
+        if (!permitir()) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+
+        CompletableFuture<Optional<T>> resultado;
+        try {
+            resultado = chamada.get();
+        } catch (RuntimeException e) {
+            resultado = CompletableFuture.failedFuture(e);
+        }
+
+        CompletableFuture<Optional<T>> chamadaFeita = resultado;
+        CompletableFuture<Optional<T>> registrado = resultado.handle((valor, erro) -> {
+            if (erro == null && valor != null && valor.isPresent()) {
+                registrarSucesso();
+                return valor;
+            }
+            if (cancelada(erro)) {
+                registrarCancelamento();
+            } else {
+                registrarErro();
+            }
+            return Optional.empty();
+        });
+        registrado.whenComplete((valor, erro) -> {
+            if (registrado.isCancelled()) {
+                registrarCancelamento();
+                chamadaFeita.cancel(true);
+            }
+        });
+        return registrado;
+    }
+
+    private static boolean cancelada(Throwable erro) {
+        return erro instanceof CancellationException
+                || erro instanceof CompletionException && erro.getCause() instanceof CancellationException;
+    }
+
+    /**
+     * Informa se uma chamada pode ser feita agora. No estado meio aberto, apenas a primeira chamada é permitida
+     * até que o seu resultado seja registrado.
+     *
+     * @return {@code true} se a chamada pode ser feita.
+     */
+    synchronized boolean permitir() {
+        if (estado == Estado.ABERTO && relogio.getAsLong() - abertoDesde >= tempoAbertoMs) {
+            estado = Estado.MEIO_ABERTO;
+            testeEmAndamento = false;
+            logger.log(Level.INFO, "Disjuntor meio aberto, testando o provedor de taxas.");
+        }
+
+        return switch (estado) {
+            case FECHADO -> true;
+            case ABERTO -> false;
+            case MEIO_ABERTO -> {
+                if (testeEmAndamento) {
+                    yield false;
+                }
+                testeEmAndamento = true;
+                yield true;
+            }
+        };
+    }
+
+    /**
+     * Registra uma chamada bem-sucedida.
+     */
+    synchronized void registrarSucesso() {
+        if (estado == Estado.MEIO_ABERTO) {
+            fechar();
+            return;
+        }
+        registrar(false);
+    }
+
+    /**
+     * Registra uma chamada com erro, abrindo o disjuntor se o limite de erros for atingido.
+     */
+    synchronized void registrarErro() {
+        if (estado == Estado.MEIO_ABERTO) {
+            abrir();
+            return;
+        }
+        registrar(true);
+
+        if (estado == Estado.FECHADO && registradas >= minimoChamadas
+                && (double) erros / registradas >= limiteErros) {
+            abrir();
+        }
+    }
+
+    /**
+     * Registra uma chamada cancelada. No estado meio aberto, libera o teste para a próxima chamada.
+     */
+    synchronized void registrarCancelamento() {
+        if (estado == Estado.MEIO_ABERTO) {
+            testeEmAndamento = false;
+        }
+    }
+
+    /**
+     * Obtém o estado atual do disjuntor.
+     *
+     * @return O estado atual.
+     */
+    synchronized Estado estado() {
+        return estado;
+    }
+
+    private void registrar(boolean erro) {
+        if (registradas == janela.length) {
+            if (janela[posicao]) {
+                erros--;
+            }
+        } else {
+            registradas++;
+        }
+
+        janela[posicao] = erro;
+        if (erro) {
+            erros++;
+        }
+        posicao = (posicao + 1) % janela.length;
+    }
+
+    private void abrir() {
+        estado = Estado.ABERTO;
+        abertoDesde = relogio.getAsLong();
+        logger.log(Level.WARNING, "Disjuntor aberto, o provedor de taxas não será chamado por "
+                + tempoAbertoMs + " ms.");
+    }
+
+    private void fechar() {
+        estado = Estado.FECHADO;
+        posicao = 0;
+        registradas = 0;
+        erros = 0;
+        logger.log(Level.INFO, "Disjuntor fechado, o provedor de taxas voltou a responder.");
+    }
+}
@@ -0,0 +1,152 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Contadores de acesso por par de moedas, divididos em faixas por thread, separadas por uma linha de cache,
+ * para que acessos concorrentes ao mesmo par não disputem a mesma linha. Os contadores são reduzidos à metade a
+ * cada {@link #decair()}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class FrequenciaAcessos {
+
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final int TOTAL_PARES = TOTAL_MOEDAS * TOTAL_MOEDAS;
+    /**
+     * Espaçamento, em posições de {@code long}, que mantém faixas vizinhas em linhas de cache diferentes.
+     */
+    private static final int ESPACAMENTO = 16;
+    private static final int DISTANCIA_FAIXAS = ((TOTAL_PARES + 7) & ~7) + ESPACAMENTO;
+    private static final int MAXIMO_FAIXAS = 64;
+
+    private final int mascaraFaixas;
+    private final AtomicLongArray contagens;
+
+    /**
+     * Cria os contadores com uma faixa por processador disponível, arredondado para a potência de dois acima.
+     */
+    FrequenciaAcessos() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Cria os contadores com o número de faixas informado, arredondado para a potência de dois acima e limitado
+     * a {@value #MAXIMO_FAIXAS}.
+     *
+     * @param faixas O número desejado de faixas.
+     */
+    FrequenciaAcessos(int faixas) {
+        int total = Integer.highestOneBit(Math.max(1, Math.min(MAXIMO_FAIXAS, faixas)) * 2 - 1);
+        this.mascaraFaixas = total - 1;
+        this.contagens = new AtomicLongArray(ESPACAMENTO + total * DISTANCIA_FAIXAS);
+    }
+
+    /**
+     * Registra um acesso ao par.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     */
+    void registrar(Moeda origem, Moeda destino) {
+        contagens.getAndIncrement(inicioFaixa(faixaAtual()) + indice(origem, destino));
+    }
+
+    /**
+     * Obtém a contagem atual do par.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A contagem de acessos com o decaimento já aplicado.
+     */
+    long contagem(Moeda origem, Moeda destino) {
+        return contagem(indice(origem, destino));
+    }
+
+    private long contagem(int par) {
+        long total = 0;
+        for (int faixa = 0; faixa <= mascaraFaixas; faixa++) {
+            total += contagens.get(inicioFaixa(faixa) + par);
+        }
+        return total;
+    }
+
+    /**
+     * Reduz todas as contagens à metade.
+     */
+    void decair() {
+        for (int faixa = 0; faixa <= mascaraFaixas; faixa++) {
+            for (int par = 0; par < TOTAL_PARES; par++) {
+                int i = inicioFaixa(faixa) + par;
+                long atual;
+                do {
+                    atual = contagens.get(i);
+                } while (atual != 0 && !contagens.compareAndSet(i, atual, atual >>> 1));
+            }
+        }
+    }
+
+    /**
+     * Calcula a menor contagem entre os {@code quantidade} pares mais acessados.
+     *
+     * @param quantidade O número de pares considerados.
+     * @return A contagem mínima para um par estar entre os mais acessados, ou {@link Long#MAX_VALUE}
+     *         se a quantidade for zero.
+     */
+    long limiteMaisAcessados(int quantidade) {
+        if (quantidade <= 0) {
+            return Long.MAX_VALUE;
+        }
+
+        long[] acessados = new long[TOTAL_PARES];
+        int total = 0;
+        for (int par = 0; par < TOTAL_PARES; par++) {
+            long contagem = contagem(par);
+            if (contagem > 0) {
+                acessados[total++] = contagem;
+            }
+        }
+
+        if (total <= quantidade) {
+            return 1;
+        }
+        Arrays.sort(acessados, 0, total);
+        return acessados[total - quantidade];
+    }
+
+    /**
+     * Conta os pares com contagem maior ou igual ao limite informado.
+     *
+     * @param limite A contagem mínima.
+     * @return O número de pares.
+     */
+    int paresAcima(long limite) {
+        int total = 0;
+        for (int par = 0; par < TOTAL_PARES; par++) {
+            if (contagem(par) >= limite) {
+                total++;
+            }
+        }
+        return total;
+    }
+
+    /**
+     * Escolhe a faixa da thread atual pelo seu identificador, espalhado para que threads criadas em sequência
+     * caiam em faixas diferentes.
+     */
+    private int faixaAtual() {
+        return (int) ((Thread.currentThread().threadId() * 0x9E3779B97F4A7C15L) >>> 40) & mascaraFaixas;
+    }
+
+    private static int inicioFaixa(int faixa) {
+        return ESPACAMENTO + faixa * DISTANCIA_FAIXAS;
+    }
+
+    private static int indice(Moeda origem, Moeda destino) {
+        return origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+    }
+}
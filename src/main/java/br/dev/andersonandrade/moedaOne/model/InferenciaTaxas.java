@@ -0,0 +1,198 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TaxaInferidaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.ConversorDatas;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Infere a taxa de um par a partir dos registros em cache, tratando-os como um grafo de moedas com arestas
+ * diretas e inversas. A busca em largura respeita o limite de saltos, a janela de atualidade e a
+ * {@link PoliticaExpiracao}, e o registro resultante expira junto com a primeira taxa do caminho.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class InferenciaTaxas {
+
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+
+    private final int maximoSaltos;
+    private final long janelaSegundos;
+    private final MathContext precisao;
+    private final PoliticaExpiracao politica;
+
+    /**
+     * Cria a inferência de taxas, com as taxas expirando no {@code timeNextUpdateUnix} de cada registro.
+     *
+     * @param maximoSaltos O número máximo de taxas combinadas em um caminho.
+     * @param janelaSegundos A idade máxima, em segundos, da última atualização de uma taxa usada.
+     * @param precisao A precisão usada nas multiplicações e inversões.
+     */
+    InferenciaTaxas(int maximoSaltos, long janelaSegundos, MathContext precisao) {
+        this(maximoSaltos, janelaSegundos, precisao, PoliticaExpiracao.semRestricoes(Clock.systemUTC()));
+    }
+
+    /**
+     * Cria a inferência de taxas.
+     *
+     * @param maximoSaltos O número máximo de taxas combinadas em um caminho.
+     * @param janelaSegundos A idade máxima, em segundos, da última atualização de uma taxa usada.
+     * @param precisao A precisão usada nas multiplicações e inversões.
+     * @param politica A política que define a validade e a expiração de cada taxa usada.
+     */
+    InferenciaTaxas(int maximoSaltos, long janelaSegundos, MathContext precisao, PoliticaExpiracao politica) {
+        if (maximoSaltos < 1 || janelaSegundos < 0) {
+            throw new IllegalArgumentException("Verifique a configuração da inferência de taxas.");
+        }
+
+        this.maximoSaltos = maximoSaltos;
+        this.janelaSegundos = janelaSegundos;
+        this.precisao = Objects.requireNonNull(precisao, "A precisão não pode ser nula!");
+        this.politica = Objects.requireNonNull(politica, "A política de expiração não pode ser nula!");
+    }
+
+    /**
+     * Busca um caminho entre as moedas usando as taxas em cache e calcula a taxa composta.
+     *
+     * @param cache O cache com os registros diretos.
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param agoraUnix O instante atual em segundos desde a época Unix.
+     * @return A taxa inferida com o caminho usado, ou vazio se não houver caminho dentro dos limites.
+     */
+    Optional<TaxaInferidaRecord> inferir(CacheTaxas cache, Moeda origem, Moeda destino, long agoraUnix) {
+        if (origem == destino) {
+            return Optional.empty();
+        }
+
+        Moeda[] moedas = Moeda.values();
+        Aresta[] arestas = new Aresta[TOTAL_MOEDAS];
+        Moeda[] anteriores = new Moeda[TOTAL_MOEDAS];
+        long[] expiracoes = new long[TOTAL_MOEDAS];
+        boolean[] visitadas = new boolean[TOTAL_MOEDAS];
+
+        List<Moeda> fronteira = List.of(origem);
+        visitadas[origem.ordinal()] = true;
+        expiracoes[origem.ordinal()] = Long.MAX_VALUE;
+
+        for (int salto = 0; salto < maximoSaltos && !fronteira.isEmpty() && !visitadas[destino.ordinal()]; salto++) {
+            List<Moeda> proxima = new ArrayList<>();
+            boolean[] naProxima = new boolean[TOTAL_MOEDAS];
+
+            for (Moeda atual : fronteira) {
+                for (Moeda vizinha : moedas) {
+                    if (visitadas[vizinha.ordinal()] && !naProxima[vizinha.ordinal()]) {
+                        continue;
+                    }
+
+                    Aresta aresta = aresta(cache, atual, vizinha, agoraUnix);
+                    if (aresta == null) {
+                        continue;
+                    }
+
+                    long expiracao = Math.min(expiracoes[atual.ordinal()], aresta.expiracao());
+                    if (!visitadas[vizinha.ordinal()]) {
+                        visitadas[vizinha.ordinal()] = true;
+                        naProxima[vizinha.ordinal()] = true;
+                        proxima.add(vizinha);
+                    } else if (expiracao <= expiracoes[vizinha.ordinal()]) {
+                        continue;
+                    }
+
+                    arestas[vizinha.ordinal()] = aresta;
+                    anteriores[vizinha.ordinal()] = atual;
+                    expiracoes[vizinha.ordinal()] = expiracao;
+                }
+            }
+            fronteira = proxima;
+        }
+
+        if (!visitadas[destino.ordinal()]) {
+            return Optional.empty();
+        }
+        return Optional.of(compor(origem, destino, arestas, anteriores));
+    }
+
+    /**
+     * Obtém a aresta {@code de -> para}, usando o registro direto ou o inverso do registro {@code para -> de}.
+     * A validade e a expiração são calculadas pela política para o par do registro guardado no cache.
+     *
+     * @return A aresta utilizável, possivelmente invertida, ou {@code null} se não houver aresta válida.
+     */
+    private Aresta aresta(CacheTaxas cache, Moeda de, Moeda para, long agoraUnix) {
+        if (de == para) {
+            return null;
+        }
+
+        MoedaRecord direto = cache.registro(de, para);
+        if (utilizavel(de, para, direto, agoraUnix)) {
+            return new Aresta(direto, politica.expiracao(de, para, direto));
+        }
+
+        MoedaRecord inverso = cache.registro(para, de);
+        if (utilizavel(para, de, inverso, agoraUnix)) {
+            return new Aresta(new MoedaRecord(inverso.result(), inverso.documentation(), inverso.termsOfUse(),
+                    inverso.timeLastUpdateUnix(), inverso.timeLastUpdateUtc(), inverso.timeNextUpdateUnix(),
+                    inverso.timeNextUpdateUtc(), de.name(), para.name(),
+                    BigDecimal.ONE.divide(inverso.conversionRate(), precisao), null),
+                    politica.expiracao(para, de, inverso));
+        }
+        return null;
+    }
+
+    private boolean utilizavel(Moeda origem, Moeda destino, MoedaRecord registro, long agoraUnix) {
+        return registro != null
+                && registro.conversionRate() != null && registro.conversionRate().signum() > 0
+                && politica.valido(origem, destino, registro, agoraUnix)
+                && registro.timeLastUpdateUnix() != null && agoraUnix - registro.timeLastUpdateUnix() <= janelaSegundos;
+    }
+
+    private TaxaInferidaRecord compor(Moeda origem, Moeda destino, Aresta[] arestas, Moeda[] anteriores) {
+        List<Moeda> caminho = new ArrayList<>();
+        BigDecimal taxa = BigDecimal.ONE;
+        MoedaRecord ultimaAtualizacao = null;
+        Aresta proximaExpiracao = null;
+
+        for (Moeda atual = destino; atual != origem; atual = anteriores[atual.ordinal()]) {
+            Aresta aresta = arestas[atual.ordinal()];
+            caminho.add(atual);
+            taxa = taxa.multiply(aresta.registro().conversionRate(), precisao);
+
+            if (ultimaAtualizacao == null
+                    || aresta.registro().timeLastUpdateUnix() < ultimaAtualizacao.timeLastUpdateUnix()) {
+                ultimaAtualizacao = aresta.registro();
+            }
+            if (proximaExpiracao == null || aresta.expiracao() < proximaExpiracao.expiracao()) {
+                proximaExpiracao = aresta;
+            }
+        }
+        caminho.add(origem);
+        Collections.reverse(caminho);
+
+        MoedaRecord limitante = proximaExpiracao.registro();
+        long expiracao = proximaExpiracao.expiracao();
+        String expiracaoUtc = Objects.equals(limitante.timeNextUpdateUnix(), expiracao)
+                ? limitante.timeNextUpdateUtc() : ConversorDatas.formatarDataAPI(expiracao);
+        MoedaRecord registro = new MoedaRecord(limitante.result(), limitante.documentation(),
+                limitante.termsOfUse(), ultimaAtualizacao.timeLastUpdateUnix(),
+                ultimaAtualizacao.timeLastUpdateUtc(), expiracao, expiracaoUtc, origem.name(), destino.name(), taxa,
+                null);
+        return new TaxaInferidaRecord(registro, caminho);
+    }
+
+    /**
+     * Uma taxa usada no caminho, já na direção percorrida, e o instante da sua expiração pela política.
+     */
+    private record Aresta(MoedaRecord registro, long expiracao) {
+    }
+}
@@ -0,0 +1,119 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Instantâneo fixo das taxas de conversão, para que um lote de conversões use sempre a mesma matriz e o
+ * mesmo instante de validade, mesmo que novas taxas sejam publicadas durante o lote.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class InstantaneoTaxas {
+
+    private final MatrizTaxas matriz;
+    private final long instanteUnix;
+
+    InstantaneoTaxas(MatrizTaxas matriz, long instanteUnix) {
+        this.matriz = Objects.requireNonNull(matriz, "A matriz não pode ser nula!");
+        this.instanteUnix = instanteUnix;
+    }
+
+    /**
+     * Busca a taxa do par no instantâneo, sem acessar a API.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um Optional contendo o registro, ou vazio se o par não tiver taxa válida no instante do instantâneo.
+     */
+    public Optional<MoedaRecord> buscar(Moeda origem, Moeda destino) {
+        Objects.requireNonNull(origem, "A moeda de origem não pode ser nula!");
+        Objects.requireNonNull(destino, "A moeda de destino não pode ser nula!");
+        return Optional.ofNullable(matriz.registro(origem, destino, instanteUnix));
+    }
+
+    /**
+     * Converte a quantidade com a taxa do par no instantâneo, usando a taxa em ponto fixo guardada na matriz.
+     * Como o instantâneo só devolve taxas válidas no seu instante, o câmbio nunca é marcado como desatualizado.
+     *
+     * @param quantidade A quantidade de moedas de origem.
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um Optional contendo o câmbio, ou vazio se o par não tiver taxa válida no instante do instantâneo.
+     */
+    public Optional<Cambio> converter(BigDecimal quantidade, Moeda origem, Moeda destino) {
+        return buscar(origem, destino).map(registro -> new Cambio(quantidade, registro,
+                matriz.taxaEscalada(origem, destino), matriz.escalaTaxa(origem, destino), false));
+    }
+
+    /**
+     * Obtém o valor inteiro da taxa do par guardado na matriz, sem verificar a validade.
+     */
+    long taxaEscalada(Moeda origem, Moeda destino) {
+        return matriz.taxaEscalada(origem, destino);
+    }
+
+    /**
+     * Obtém a escala da taxa do par guardada na matriz, ou {@link Cambio#SEM_PONTO_FIXO}, sem verificar a validade.
+     */
+    int escalaTaxa(Moeda origem, Moeda destino) {
+        return matriz.escalaTaxa(origem, destino);
+    }
+
+    /**
+     * Preenche as taxas da moeda de origem para todas as moedas, em {@code double}, indexadas por
+     * {@code destino.ordinal()}, para as estimativas de {@link ConversaoColunar}.
+     *
+     * @param origem A moeda de origem.
+     * @param taxas O array a ser preenchido, com pelo menos uma posição por moeda. Os destinos sem taxa válida no
+     *              instante do instantâneo recebem {@link Double#NaN}.
+     * @throws IllegalArgumentException se o array tiver menos posições do que moedas.
+     */
+    public void taxasRapidas(Moeda origem, double[] taxas) {
+        Objects.requireNonNull(origem, "A moeda de origem não pode ser nula!");
+        Objects.requireNonNull(taxas, "O array de taxas não pode ser nulo!");
+        Moeda[] moedas = Moeda.values();
+        if (taxas.length < moedas.length) {
+            throw new IllegalArgumentException("O array de taxas deve ter uma posição por moeda.");
+        }
+
+        for (Moeda destino : moedas) {
+            taxas[destino.ordinal()] = taxaRapida(origem, destino);
+        }
+    }
+
+    /**
+     * Obtém a taxa do par em {@code double}.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A taxa, ou {@link Double#NaN} se o par não tiver taxa válida no instante do instantâneo.
+     */
+    public double taxaRapida(Moeda origem, Moeda destino) {
+        return matriz.valida(origem, destino, instanteUnix) ? matriz.taxaRapida(origem, destino) : Double.NaN;
+    }
+
+    /**
+     * Obtém a versão das taxas do instantâneo. Dois instantâneos com a mesma versão têm as mesmas taxas.
+     *
+     * @return A versão das taxas.
+     */
+    public long versao() {
+        return matriz.versao();
+    }
+
+    /**
+     * Obtém o instante em que o instantâneo foi obtido.
+     *
+     * @return O instante em segundos desde a época Unix.
+     */
+    public long instanteUnix() {
+        return instanteUnix;
+    }
+}
@@ -0,0 +1,95 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Leitura em fluxo do antigo arquivo JSON de taxas, com {@link JsonReader}, usada na migração para o arquivo
+ * binário sem carregar o arquivo inteiro em memória.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class LeitorJsonTaxas {
+
+    private final Path arquivo;
+    private final Gson gson;
+
+    /**
+     * Cria o leitor.
+     *
+     * @param arquivo O arquivo JSON com uma lista de registros.
+     * @param gson O Gson configurado com a política de nomes do arquivo.
+     */
+    LeitorJsonTaxas(Path arquivo, Gson gson) {
+        this.arquivo = Objects.requireNonNull(arquivo, "O arquivo não pode ser nulo!");
+        this.gson = Objects.requireNonNull(gson, "O Gson não pode ser nulo!");
+    }
+
+    /**
+     * Percorre todos os registros do arquivo, entregando-os em lotes de tamanho limitado.
+     *
+     * @param tamanhoLote O número máximo de registros por lote.
+     * @param consumidor O destino de cada lote.
+     * @return O total de registros lidos.
+     * @throws IOException se o arquivo não puder ser lido.
+     */
+    int percorrer(int tamanhoLote, Consumer<List<MoedaRecord>> consumidor) throws IOException {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("O tamanho do lote deve ser positivo.");
+        }
+
+        int total = 0;
+        List<MoedaRecord> lote = new ArrayList<>(tamanhoLote);
+        try (JsonReader reader = abrirLista()) {
+            while (reader.hasNext()) {
+                MoedaRecord registro = lerRegistro(reader);
+                if (registro == null) {
+                    continue;
+                }
+                lote.add(registro);
+                total++;
+                if (lote.size() == tamanhoLote) {
+                    consumidor.accept(lote);
+                    lote = new ArrayList<>(tamanhoLote);
+                }
+            }
+        }
+        if (!lote.isEmpty()) {
+            consumidor.accept(lote);
+        }
+        return total;
+    }
+
+    private JsonReader abrirLista() throws IOException {
+        Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8);
+        JsonReader reader = new JsonReader(leitor);
+        try {
+            reader.beginArray();
+        } catch (IOException | RuntimeException e) {
+            reader.close();
+            throw e;
+        }
+        return reader;
+    }
+
+    private MoedaRecord lerRegistro(JsonReader reader) throws IOException {
+        if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+            reader.skipValue();
+            return null;
+        }
+        return gson.fromJson(reader, MoedaRecord.class);
+    }
+}
@@ -0,0 +1,216 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Clock;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Matriz densa e imutável de taxas de conversão, indexada pela origem e pelo destino, com a taxa em
+ * {@link BigDecimal}, em ponto fixo e em {@code double} e a expiração já calculada. Cada matriz tem uma versão
+ * crescente, e uma nova matriz substitui a anterior por inteiro.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class MatrizTaxas {
+
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final AtomicLong proximaVersao = new AtomicLong(1);
+    private static final MatrizTaxas VAZIA = new MatrizTaxas(0);
+    private static final PoliticaExpiracao SEM_RESTRICOES = PoliticaExpiracao.semRestricoes(Clock.systemUTC());
+
+    private final long versao;
+    private final MoedaRecord[] registros = new MoedaRecord[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final BigDecimal[] taxas = new BigDecimal[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final long[] taxasEscaladas = new long[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final int[] escalasTaxas = new int[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final double[] taxasRapidas = new double[TOTAL_MOEDAS * TOTAL_MOEDAS];
+    private final long[] expiracoes = new long[TOTAL_MOEDAS * TOTAL_MOEDAS];
+
+    private MatrizTaxas(long versao) {
+        this.versao = versao;
+        Arrays.fill(escalasTaxas, Cambio.SEM_PONTO_FIXO);
+        Arrays.fill(taxasRapidas, Double.NaN);
+        Arrays.fill(expiracoes, Long.MIN_VALUE);
+    }
+
+    /**
+     * Retorna uma matriz sem nenhuma taxa.
+     *
+     * @return A matriz vazia compartilhada.
+     */
+    static MatrizTaxas vazia() {
+        return VAZIA;
+    }
+
+    /**
+     * Constrói a matriz a partir dos registros em cache, com as taxas expirando no {@code timeNextUpdateUnix}
+     * de cada registro.
+     *
+     * @param cache O cache com os registros diretos.
+     * @param base A moeda base usada para derivar taxas cruzadas, ou {@code null} para não derivar.
+     * @param precisao A precisão usada nas taxas cruzadas.
+     * @return A nova matriz.
+     */
+    static MatrizTaxas construir(CacheTaxas cache, Moeda base, MathContext precisao) {
+        return construir(cache, base, precisao, SEM_RESTRICOES);
+    }
+
+    /**
+     * Constrói a matriz a partir dos registros em cache. Os pares sem registro direto são preenchidos com a
+     * taxa cruzada derivada das taxas da moeda base, quando ela for informada e ambas as taxas existirem.
+     *
+     * @param cache O cache com os registros diretos.
+     * @param base A moeda base usada para derivar taxas cruzadas, ou {@code null} para não derivar.
+     * @param precisao A precisão usada nas taxas cruzadas.
+     * @param politica A política que define o instante de expiração de cada taxa.
+     * @return A nova matriz.
+     */
+    static MatrizTaxas construir(CacheTaxas cache, Moeda base, MathContext precisao, PoliticaExpiracao politica) {
+        MatrizTaxas matriz = new MatrizTaxas(proximaVersao.getAndIncrement());
+
+        for (Moeda origem : Moeda.values()) {
+            for (Moeda destino : Moeda.values()) {
+                MoedaRecord registro = cache.registro(origem, destino);
+
+                if (registro == null && base != null) {
+                    MoedaRecord baseOrigem = cache.registro(base, origem);
+                    MoedaRecord baseDestino = cache.registro(base, destino);
+                    if (baseOrigem != null && baseDestino != null) {
+                        registro = TaxasCruzadas.derivar(baseOrigem, baseDestino, precisao);
+                    }
+                }
+
+                if (registro != null) {
+                    long expiracao = politica.expiracao(origem, destino, registro);
+                    matriz.preencher(indice(origem, destino), registro, expiracao);
+                }
+            }
+        }
+        return matriz;
+    }
+
+    /**
+     * Escolhe, entre a matriz publicada e a recém-construída, a de versão maior. Usado como função de
+     * acumulação na publicação através de {@link java.util.concurrent.atomic.AtomicReference#accumulateAndGet}.
+     *
+     * @param publicada A matriz publicada no momento.
+     * @param construida A matriz recém-construída.
+     * @return A matriz de versão maior.
+     */
+    static MatrizTaxas maisRecente(MatrizTaxas publicada, MatrizTaxas construida) {
+        return construida.versao > publicada.versao ? construida : publicada;
+    }
+
+    /**
+     * Obtém a versão da matriz. Versões maiores foram construídas depois.
+     *
+     * @return A versão da matriz, zero para a matriz vazia.
+     */
+    long versao() {
+        return versao;
+    }
+
+    /**
+     * Busca o registro válido para o par informado.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param agoraUnix O instante atual em segundos desde a época Unix.
+     * @return O registro ou {@code null} se não houver taxa ou se ela estiver expirada.
+     */
+    MoedaRecord registro(Moeda origem, Moeda destino, long agoraUnix) {
+        int indice = indice(origem, destino);
+        return expiracoes[indice] > agoraUnix ? registros[indice] : null;
+    }
+
+    /**
+     * Obtém o registro do par, sem verificar a validade.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return O registro ou {@code null} se não houver taxa para o par.
+     */
+    MoedaRecord registro(Moeda origem, Moeda destino) {
+        return registros[indice(origem, destino)];
+    }
+
+    /**
+     * Obtém a taxa exata do par, sem verificar a validade.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A taxa ou {@code null} se não houver taxa para o par.
+     */
+    BigDecimal taxa(Moeda origem, Moeda destino) {
+        return taxas[indice(origem, destino)];
+    }
+
+    /**
+     * Obtém o valor inteiro da taxa exata do par, sem verificar a validade.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return O valor inteiro da taxa, com a escala de {@link #escalaTaxa(Moeda, Moeda)}.
+     */
+    long taxaEscalada(Moeda origem, Moeda destino) {
+        return taxasEscaladas[indice(origem, destino)];
+    }
+
+    /**
+     * Obtém a escala da taxa exata do par, sem verificar a validade.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A escala, ou {@link Cambio#SEM_PONTO_FIXO} se não houver taxa ou se ela não couber em um
+     *         {@code long}.
+     */
+    int escalaTaxa(Moeda origem, Moeda destino) {
+        return escalasTaxas[indice(origem, destino)];
+    }
+
+    /**
+     * Obtém a taxa do par em {@code double}, sem verificar a validade.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return A taxa ou {@link Double#NaN} se não houver taxa para o par.
+     */
+    double taxaRapida(Moeda origem, Moeda destino) {
+        return taxasRapidas[indice(origem, destino)];
+    }
+
+    /**
+     * Verifica se o par possui uma taxa válida no instante informado.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param agoraUnix O instante atual em segundos desde a época Unix.
+     * @return {@code true} se a taxa existir e não estiver expirada.
+     */
+    boolean valida(Moeda origem, Moeda destino, long agoraUnix) {
+        return expiracoes[indice(origem, destino)] > agoraUnix;
+    }
+
+    private void preencher(int indice, MoedaRecord registro, long expiracao) {
+        registros[indice] = registro;
+        taxas[indice] = registro.conversionRate();
+        if (AritmeticaPontoFixo.cabeEmLong(registro.conversionRate())) {
+            taxasEscaladas[indice] = AritmeticaPontoFixo.valorEscalado(registro.conversionRate());
+            escalasTaxas[indice] = registro.conversionRate().scale();
+        }
+        taxasRapidas[indice] = registro.conversionRate().doubleValue();
+        expiracoes[indice] = expiracao;
+    }
+
+    private static int indice(Moeda origem, Moeda destino) {
+        return origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+    }
+}
@@ -0,0 +1,79 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.math.RoundingMode;
+
+/**
+ * Implementação de {@link ConversaoColunar.Multiplicador} com a API de vetores. Os blocos cujo produto não
+ * cabe em um {@code long} e as sobras no fim do array são calculados por {@link AritmeticaPontoFixo}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class MultiplicadorVetorial implements ConversaoColunar.Multiplicador {
+
+    private static final VectorSpecies<Double> ESPECIE = DoubleVector.SPECIES_PREFERRED;
+    private static final VectorSpecies<Long> ESPECIE_LONGA = LongVector.SPECIES_PREFERRED;
+    private static final int MAXIMO_DIGITOS = 18;
+
+    @Override
+    public void multiplicar(double[] valores, double fator, double[] resultados, int tamanho) {
+        int i = 0;
+        for (int limite = ESPECIE.loopBound(tamanho); i < limite; i += ESPECIE.length()) {
+            DoubleVector.fromArray(ESPECIE, valores, i).mul(fator).intoArray(resultados, i);
+        }
+        for (; i < tamanho; i++) {
+            resultados[i] = valores[i] * fator;
+        }
+    }
+
+    @Override
+    public void multiplicarEscalado(long[] valores, int escalaValores, long taxa, int escalaTaxa, long[] resultados,
+                                   int tamanho) {
+        long diferenca = (long) escalaValores + escalaTaxa - Cambio.ESCALA;
+        int i = 0;
+        if (Cambio.ARREDONDAMENTO == RoundingMode.HALF_DOWN && diferenca > 0 && diferenca <= MAXIMO_DIGITOS) {
+            long divisor = potenciaDez((int) diferenca);
+            long limite = taxa == 0 ? Long.MAX_VALUE : taxa == Long.MIN_VALUE ? 0L : Long.MAX_VALUE / Math.abs(taxa);
+            for (int fim = ESPECIE_LONGA.loopBound(tamanho); i < fim; i += ESPECIE_LONGA.length()) {
+                LongVector valor = LongVector.fromArray(ESPECIE_LONGA, valores, i);
+                if (valor.compare(VectorOperators.GT, limite).or(valor.compare(VectorOperators.LT, -limite))
+                        .anyTrue()) {
+                    escalar(valores, escalaValores, taxa, escalaTaxa, resultados, i, i + ESPECIE_LONGA.length());
+                    continue;
+                }
+                LongVector produto = valor.mul(taxa);
+                LongVector quociente = produto.div(divisor);
+                LongVector resto = produto.sub(quociente.mul(divisor)).abs();
+                VectorMask<Long> acima = resto.compare(VectorOperators.GT, resto.neg().add(divisor));
+                VectorMask<Long> negativo = produto.compare(VectorOperators.LT, 0L);
+                quociente.add(LongVector.broadcast(ESPECIE_LONGA, 1L).blend(-1L, negativo), acima)
+                        .intoArray(resultados, i);
+            }
+        }
+        escalar(valores, escalaValores, taxa, escalaTaxa, resultados, i, tamanho);
+    }
+
+    private static void escalar(long[] valores, int escalaValores, long taxa, int escalaTaxa, long[] resultados,
+                                int inicio, int fim) {
+        for (int i = inicio; i < fim; i++) {
+            resultados[i] = AritmeticaPontoFixo.multiplicarEscalado(valores[i], escalaValores, taxa, escalaTaxa,
+                    Cambio.ESCALA, Cambio.ARREDONDAMENTO);
+        }
+    }
+
+    private static long potenciaDez(int expoente) {
+        long potencia = 1L;
+        for (int i = 0; i < expoente; i++) {
+            potencia *= 10L;
+        }
+        return potencia;
+    }
+}
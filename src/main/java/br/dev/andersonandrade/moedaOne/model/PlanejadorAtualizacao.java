@@ -0,0 +1,328 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MetricasCotaRecord;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Distribui a cota mensal de requisições ao provedor de taxas entre os pares mais acessados, com um orçamento
+ * diário contado por provedor. O uso da cota é gravado em arquivo, fora do caminho das requisições.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class PlanejadorAtualizacao implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(PlanejadorAtualizacao.class.getName());
+    private static final Duration INTERVALO_PLANEJAMENTO = Duration.ofMinutes(1);
+    private static final Duration INTERVALO_GRAVACAO = Duration.ofSeconds(1);
+    private static final String PREFIXO_USADAS = "usadas.";
+
+    /**
+     * Nome do provedor usado quando as requisições não são contadas por provedor.
+     */
+    static final String PROVEDOR_PRIMARIO = "primário";
+
+    private final long cotaMensal;
+    private final Duration meiaVida;
+    private final FrequenciaAcessos frequencia;
+    private final Path arquivoCota;
+    private final Clock relogio;
+    private final ScheduledExecutorService agendador;
+    private final Object gravacao = new Object();
+
+    private final LongAdder permitidas = new LongAdder();
+    private final LongAdder negadas = new LongAdder();
+    private final LongAdder atendidasSemApi = new LongAdder();
+
+    private YearMonth mes;
+    private final Map<String, Long> usadasPorProvedor = new TreeMap<>();
+    private Instant ultimoPlanejamento = Instant.MIN;
+    private Instant ultimoDecaimento;
+    private volatile long limiteQuente = Long.MAX_VALUE;
+    private int paresQuentes;
+    private boolean sujo;
+
+    /**
+     * Cria o planejador.
+     *
+     * @param cotaMensal O número de requisições permitidas por mês.
+     * @param meiaVida O intervalo em que as contagens de acesso são reduzidas à metade.
+     * @param frequencia Os contadores de acesso por par.
+     * @param arquivoCota O arquivo onde o uso da cota é gravado, ou {@code null} para não gravar.
+     * @param relogio O relógio usado para o mês corrente e os intervalos.
+     */
+    PlanejadorAtualizacao(long cotaMensal, Duration meiaVida, FrequenciaAcessos frequencia, Path arquivoCota,
+                          Clock relogio) {
+        this(cotaMensal, meiaVida, frequencia, arquivoCota, relogio, INTERVALO_GRAVACAO);
+    }
+
+    /**
+     * Cria o planejador, gravando o uso da cota no intervalo informado.
+     *
+     * @param cotaMensal O número de requisições permitidas por mês.
+     * @param meiaVida O intervalo em que as contagens de acesso são reduzidas à metade.
+     * @param frequencia Os contadores de acesso por par.
+     * @param arquivoCota O arquivo onde o uso da cota é gravado, ou {@code null} para não gravar.
+     * @param relogio O relógio usado para o mês corrente e os intervalos.
+     * @param intervaloGravacao O intervalo entre as gravações do uso da cota, quando ele muda.
+     */
+    PlanejadorAtualizacao(long cotaMensal, Duration meiaVida, FrequenciaAcessos frequencia, Path arquivoCota,
+                          Clock relogio, Duration intervaloGravacao) {
+        if (cotaMensal < 0 || meiaVida.isNegative() || meiaVida.isZero() || intervaloGravacao.isNegative()
+                || intervaloGravacao.isZero()) {
+            throw new IllegalArgumentException("Verifique a configuração da cota de requisições.");
+        }
+
+        this.cotaMensal = cotaMensal;
+        this.meiaVida = meiaVida;
+        this.frequencia = Objects.requireNonNull(frequencia, "A frequência de acessos não pode ser nula!");
+        this.arquivoCota = arquivoCota;
+        this.relogio = Objects.requireNonNull(relogio, "O relógio não pode ser nulo!");
+        this.mes = YearMonth.now(relogio.withZone(ZoneOffset.UTC));
+        this.ultimoDecaimento = relogio.instant();
+        carregarCota();
+
+        if (arquivoCota == null) {
+            this.agendador = null;
+        } else {
+            AtomicInteger contador = new AtomicInteger();
+            this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+                Thread thread = new Thread(tarefa, "cota-requisicoes-" + contador.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervaloMs = intervaloGravacao.toMillis();
+            agendador.scheduleWithFixedDelay(this::gravarCota, intervaloMs, intervaloMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Decide se a busca do par pode ir à API.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param possuiAlternativa Se já existe uma taxa conhecida, ainda que desatualizada, para atender o par.
+     * @return {@code true} se a busca pode usar a cota.
+     */
+    synchronized boolean permitirPar(Moeda origem, Moeda destino, boolean possuiAlternativa) {
+        planejar();
+        return decidir(restantes() > 0 && (!possuiAlternativa || quente(origem, destino)));
+    }
+
+    /**
+     * Decide se a tabela da moeda base pode ser buscada na API. Uma tabela atende todos os pares,
+     * então basta haver cota disponível.
+     *
+     * @return {@code true} se a busca pode usar a cota.
+     */
+    synchronized boolean permitirTabela() {
+        planejar();
+        return decidir(restantes() > 0);
+    }
+
+    /**
+     * Informa se o par está entre os mais acessados dentro do orçamento diário.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return {@code true} se o par for considerado quente.
+     */
+    boolean quente(Moeda origem, Moeda destino) {
+        return frequencia.contagem(origem, destino) >= limiteQuente;
+    }
+
+    /**
+     * Registra uma requisição feita ao provedor primário, descontando-a da cota do mês.
+     */
+    void registrarRequisicao() {
+        registrarRequisicao(PROVEDOR_PRIMARIO);
+    }
+
+    /**
+     * Registra uma requisição enviada ao provedor informado, descontando-a da cota do mês desse provedor.
+     *
+     * @param provedor O nome do provedor.
+     */
+    synchronized void registrarRequisicao(String provedor) {
+        Objects.requireNonNull(provedor, "O nome do provedor não pode ser nulo!");
+        virarMes();
+        usadasPorProvedor.merge(provedor, 1L, Long::sum);
+        sujo = true;
+    }
+
+    /**
+     * Registra uma busca recusada que foi atendida com uma taxa já conhecida.
+     */
+    void registrarAtendidaSemApi() {
+        atendidasSemApi.increment();
+    }
+
+    /**
+     * Obtém a situação atual da cota e das decisões do planejador.
+     *
+     * @return As métricas da cota.
+     */
+    synchronized MetricasCotaRecord metricas() {
+        planejar();
+        long usadas = usadasPorProvedor.values().stream().mapToLong(Long::longValue).sum();
+        return new MetricasCotaRecord(cotaMensal, usadas, restantes(), orcamentoDiario(), paresQuentes,
+                permitidas.sum(), negadas.sum(), atendidasSemApi.sum(), Map.copyOf(usadasPorProvedor));
+    }
+
+    private boolean decidir(boolean permitida) {
+        (permitida ? permitidas : negadas).increment();
+        return permitida;
+    }
+
+    private long restantes() {
+        virarMes();
+        long maisUsado = usadasPorProvedor.values().stream().mapToLong(Long::longValue).max().orElse(0L);
+        return Math.max(0, cotaMensal - maisUsado);
+    }
+
+    private long orcamentoDiario() {
+        int hoje = relogio.instant().atZone(ZoneOffset.UTC).getDayOfMonth();
+        long diasRestantes = mes.lengthOfMonth() - hoje + 1L;
+        return restantes() / Math.max(1, diasRestantes);
+    }
+
+    private void planejar() {
+        Instant agora = relogio.instant();
+        if (Duration.between(ultimoPlanejamento, agora).compareTo(INTERVALO_PLANEJAMENTO) < 0) {
+            return;
+        }
+        ultimoPlanejamento = agora;
+
+        long meiasVidas = Duration.between(ultimoDecaimento, agora).dividedBy(meiaVida);
+        for (long i = 0; i < Math.min(meiasVidas, Long.SIZE); i++) {
+            frequencia.decair();
+        }
+        if (meiasVidas > 0) {
+            ultimoDecaimento = agora;
+        }
+
+        limiteQuente = frequencia.limiteMaisAcessados((int) Math.min(Integer.MAX_VALUE, orcamentoDiario()));
+        paresQuentes = limiteQuente == Long.MAX_VALUE ? 0 : frequencia.paresAcima(limiteQuente);
+    }
+
+    private void virarMes() {
+        YearMonth atual = YearMonth.now(relogio.withZone(ZoneOffset.UTC));
+        if (!atual.equals(mes)) {
+            mes = atual;
+            usadasPorProvedor.clear();
+            ultimoPlanejamento = Instant.MIN;
+            sujo = true;
+        }
+    }
+
+    /**
+     * Encerra a thread de gravação e grava o uso da cota pendente.
+     */
+    @Override
+    public void close() {
+        if (agendador != null) {
+            agendador.shutdownNow();
+            gravarCota();
+        }
+    }
+
+    /**
+     * Lê o uso da cota gravado. Um arquivo que não pode ser interpretado é registrado como erro grave e
+     * renomeado com a extensão {@code .corrompido}, para que não seja sobrescrito sem que alguém o examine.
+     */
+    private void carregarCota() {
+        if (arquivoCota == null || !Files.exists(arquivoCota)) {
+            return;
+        }
+
+        Properties cota = new Properties();
+        try (InputStream entrada = Files.newInputStream(arquivoCota)) {
+            cota.load(entrada);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.log(Level.SEVERE, "Erro ao ler o uso da cota em " + arquivoCota + ": " + e.getMessage());
+            return;
+        }
+
+        try {
+            if (mes.toString().equals(cota.getProperty("mes"))) {
+                for (String chave : cota.stringPropertyNames()) {
+                    if (chave.startsWith(PREFIXO_USADAS)) {
+                        usadasPorProvedor.put(chave.substring(PREFIXO_USADAS.length()),
+                                Long.parseLong(cota.getProperty(chave).trim()));
+                    }
+                }
+                if (usadasPorProvedor.isEmpty() && cota.getProperty("usadas") != null) {
+                    usadasPorProvedor.put(PROVEDOR_PRIMARIO, Long.parseLong(cota.getProperty("usadas").trim()));
+                }
+            }
+        } catch (NumberFormatException e) {
+            usadasPorProvedor.clear();
+            logger.log(Level.SEVERE, "Arquivo de uso da cota corrompido em " + arquivoCota
+                    + ", a contagem do mês recomeça do zero: " + e.getMessage());
+            try {
+                Files.move(arquivoCota, arquivoCota.resolveSibling(arquivoCota.getFileName() + ".corrompido"),
+                        StandardCopyOption.REPLACE_EXISTING);
+            } catch (IOException erroMover) {
+                logger.log(Level.SEVERE, "Erro ao preservar o arquivo de uso da cota corrompido: "
+                        + erroMover.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Grava o uso da cota, se ele mudou desde a última gravação. O estado é copiado sob o bloqueio do planejador
+     * e gravado fora dele, em um arquivo temporário que depois substitui o anterior com um movimento atômico.
+     * As gravações são serializadas entre si, de modo que uma cópia mais antiga nunca sobrescreva uma mais nova.
+     */
+    private void gravarCota() {
+        synchronized (gravacao) {
+            Properties cota = new Properties();
+            synchronized (this) {
+                if (!sujo) {
+                    return;
+                }
+                sujo = false;
+                cota.setProperty("mes", mes.toString());
+                usadasPorProvedor.forEach((provedor, usadas) -> cota.setProperty(PREFIXO_USADAS + provedor,
+                        Long.toString(usadas)));
+            }
+
+            Path parcial = arquivoCota.resolveSibling(arquivoCota.getFileName() + ".parcial");
+            try {
+                try (OutputStream saida = Files.newOutputStream(parcial)) {
+                    cota.store(saida, "Uso da cota de requisicoes ao provedor de taxas");
+                }
+                Files.move(parcial, arquivoCota, StandardCopyOption.REPLACE_EXISTING,
+                        StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                logger.log(Level.WARNING, "Erro ao gravar o uso da cota: " + e.getMessage());
+                synchronized (this) {
+                    sujo = true;
+                }
+            }
+        }
+    }
+}
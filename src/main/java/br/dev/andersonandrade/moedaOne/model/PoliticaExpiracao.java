@@ -0,0 +1,187 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Properties;
+
+/**
+ * Política de expiração das taxas, calculada com instantes em segundos Unix. Por padrão vale o
+ * {@code timeNextUpdateUnix} do provedor; tempos de vida por moeda ou por par, limitados pelos tempos mínimo e
+ * máximo, contam a partir de {@code timeLastUpdateUnix}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class PoliticaExpiracao {
+
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final long SEM_TEMPO_PROPRIO = -1L;
+
+    private final Clock relogio;
+    private final long minimoSegundos;
+    private final long maximoSegundos;
+    private final long[] tempoPorPar = new long[TOTAL_MOEDAS * TOTAL_MOEDAS];
+
+    /**
+     * Cria a política.
+     *
+     * @param relogio O relógio usado para obter o instante atual.
+     * @param minimo O tempo de vida mínimo de uma taxa.
+     * @param maximo O tempo de vida máximo de uma taxa, ou {@code null} para não limitar.
+     * @param porMoeda Os tempos de vida próprios dos pares que envolvem cada moeda.
+     * @param porPar Os tempos de vida próprios de pares, com a chave no formato {@code ORIGEM/DESTINO}.
+     * @throws IllegalArgumentException se algum tempo for negativo, se o máximo for menor que o mínimo ou se
+     *         a chave de um par for inválida.
+     */
+    PoliticaExpiracao(Clock relogio, Duration minimo, Duration maximo, Map<Moeda, Duration> porMoeda,
+                      Map<String, Duration> porPar) {
+        this.relogio = Objects.requireNonNull(relogio, "O relógio não pode ser nulo!");
+        this.minimoSegundos = segundos(minimo);
+        this.maximoSegundos = maximo == null ? Long.MAX_VALUE : segundos(maximo);
+        if (maximoSegundos < minimoSegundos) {
+            throw new IllegalArgumentException("O tempo de vida máximo não pode ser menor que o mínimo.");
+        }
+
+        Arrays.fill(tempoPorPar, SEM_TEMPO_PROPRIO);
+        for (Map.Entry<Moeda, Duration> entrada : porMoeda.entrySet()) {
+            long tempo = segundos(entrada.getValue());
+            for (Moeda outra : Moeda.values()) {
+                reduzir(indice(entrada.getKey(), outra), tempo);
+                reduzir(indice(outra, entrada.getKey()), tempo);
+            }
+        }
+        for (Map.Entry<String, Duration> entrada : porPar.entrySet()) {
+            String[] moedas = entrada.getKey().split("/");
+            if (moedas.length != 2) {
+                throw new IllegalArgumentException("Par inválido: " + entrada.getKey());
+            }
+            Moeda origem = Moeda.buscarPorCodigo(moedas[0].trim());
+            Moeda destino = Moeda.buscarPorCodigo(moedas[1].trim());
+            tempoPorPar[indice(origem, destino)] = segundos(entrada.getValue());
+        }
+    }
+
+    /**
+     * Cria a política que usa o {@code timeNextUpdateUnix} de cada taxa, sem tempos próprios nem limites.
+     *
+     * @param relogio O relógio usado para obter o instante atual.
+     * @return A política criada.
+     */
+    static PoliticaExpiracao semRestricoes(Clock relogio) {
+        return new PoliticaExpiracao(relogio, Duration.ZERO, null, Map.of(), Map.of());
+    }
+
+    /**
+     * Cria a política a partir das propriedades {@code expiracao.ttl.minimo.segundos},
+     * {@code expiracao.ttl.maximo.segundos} (zero para não limitar), {@code expiracao.ttl.moeda.{MOEDA}} e
+     * {@code expiracao.ttl.par.{ORIGEM}.{DESTINO}}, todas em segundos.
+     *
+     * @param prop As propriedades de configuração.
+     * @param relogio O relógio usado para obter o instante atual.
+     * @return A política configurada.
+     */
+    static PoliticaExpiracao daConfiguracao(Properties prop, Clock relogio) {
+        Map<Moeda, Duration> porMoeda = new EnumMap<>(Moeda.class);
+        Map<String, Duration> porPar = new HashMap<>();
+
+        for (String chave : prop.stringPropertyNames()) {
+            if (chave.startsWith("expiracao.ttl.moeda.")) {
+                porMoeda.put(Moeda.buscarPorCodigo(chave.substring("expiracao.ttl.moeda.".length())),
+                        Duration.ofSeconds(Long.parseLong(prop.getProperty(chave).trim())));
+            } else if (chave.startsWith("expiracao.ttl.par.")) {
+                porPar.put(chave.substring("expiracao.ttl.par.".length()).replace('.', '/'),
+                        Duration.ofSeconds(Long.parseLong(prop.getProperty(chave).trim())));
+            }
+        }
+
+        long maximo = Long.parseLong(prop.getProperty("expiracao.ttl.maximo.segundos", "0").trim());
+        return new PoliticaExpiracao(relogio,
+                Duration.ofSeconds(Long.parseLong(prop.getProperty("expiracao.ttl.minimo.segundos", "0").trim())),
+                maximo == 0 ? null : Duration.ofSeconds(maximo), porMoeda, porPar);
+    }
+
+    /**
+     * Obtém o instante atual do relógio da política.
+     *
+     * @return O instante atual em segundos desde a época Unix.
+     */
+    long agora() {
+        return relogio.millis() / 1000L;
+    }
+
+    /**
+     * Obtém o relógio da política.
+     *
+     * @return O relógio usado para obter o instante atual.
+     */
+    Clock relogio() {
+        return relogio;
+    }
+
+    /**
+     * Calcula o instante em que a taxa do par expira.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param registro O registro da taxa.
+     * @return O instante da expiração em segundos desde a época Unix, ou {@link Long#MIN_VALUE} se o registro
+     *         não informar quando foi atualizado nem quando será a próxima atualização.
+     */
+    long expiracao(Moeda origem, Moeda destino, MoedaRecord registro) {
+        Long ultima = registro.timeLastUpdateUnix();
+        Long proxima = registro.timeNextUpdateUnix();
+
+        if (ultima == null) {
+            return proxima == null ? Long.MIN_VALUE : proxima;
+        }
+
+        long tempoProprio = tempoPorPar[indice(origem, destino)];
+        long expiracao = tempoProprio != SEM_TEMPO_PROPRIO ? somar(ultima, tempoProprio)
+                : proxima == null ? ultima : proxima;
+
+        return Math.min(Math.max(expiracao, somar(ultima, minimoSegundos)), somar(ultima, maximoSegundos));
+    }
+
+    /**
+     * Verifica se a taxa do par ainda não expirou no instante informado.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @param registro O registro da taxa, ou {@code null}.
+     * @param agoraUnix O instante atual em segundos desde a época Unix.
+     * @return {@code true} se o registro existir e não tiver expirado.
+     */
+    boolean valido(Moeda origem, Moeda destino, MoedaRecord registro, long agoraUnix) {
+        return registro != null && expiracao(origem, destino, registro) > agoraUnix;
+    }
+
+    private void reduzir(int indice, long tempo) {
+        if (tempoPorPar[indice] == SEM_TEMPO_PROPRIO || tempo < tempoPorPar[indice]) {
+            tempoPorPar[indice] = tempo;
+        }
+    }
+
+    private static long somar(long instante, long segundos) {
+        long soma = instante + segundos;
+        return segundos > 0 && soma < instante ? Long.MAX_VALUE : soma;
+    }
+
+    private static long segundos(Duration tempo) {
+        if (tempo == null || tempo.isNegative()) {
+            throw new IllegalArgumentException("Verifique a configuração da expiração das taxas.");
+        }
+        return tempo.getSeconds();
+    }
+
+    private static int indice(Moeda origem, Moeda destino) {
+        return origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+    }
+}
@@ -0,0 +1,36 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Fonte das taxas de câmbio usada pelo {@link ConexaoModel}, que pode ser a API HTTP, arquivos locais, a memória
+ * ou um provedor de teste. As implementações não devem lançar exceções para erros de comunicação: uma busca que
+ * falha completa com um Optional vazio.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public interface ProvedorTaxas {
+
+    /**
+     * Busca a taxa de conversão entre duas moedas.
+     *
+     * @param origem A moeda de origem.
+     * @param destino A moeda de destino.
+     * @return Um CompletableFuture com o Optional contendo o MoedaRecord, ou vazio em caso de erro.
+     */
+    CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino);
+
+    /**
+     * Busca as taxas de conversão da moeda base para todas as moedas.
+     *
+     * @param base A moeda base da tabela.
+     * @return Um CompletableFuture com o Optional contendo a tabela de taxas, ou vazio em caso de erro.
+     */
+    CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base);
+}
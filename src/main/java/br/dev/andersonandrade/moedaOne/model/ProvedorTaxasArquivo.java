@@ -0,0 +1,78 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provedor de taxas que lê as tabelas de arquivos JSON locais, no mesmo formato da resposta do endpoint
+ * {@code /latest/{base}} da API. A tabela de cada moeda base fica no arquivo {@code {BASE}.json} do diretório
+ * informado, e a taxa de um par é obtida da tabela da moeda de origem.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class ProvedorTaxasArquivo implements ProvedorTaxas {
+
+    private static final Logger logger = Logger.getLogger(ProvedorTaxasArquivo.class.getName());
+    private static final Gson gson = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private final Path diretorio;
+
+    /**
+     * Cria o provedor.
+     *
+     * @param diretorio O diretório com os arquivos das tabelas.
+     */
+    public ProvedorTaxasArquivo(Path diretorio) {
+        this.diretorio = Objects.requireNonNull(diretorio, "O diretório das tabelas não pode ser nulo!");
+    }
+
+    @Override
+    public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+        return CompletableFuture.completedFuture(ler(origem)
+                .flatMap(tabela -> TaxasCruzadas.registroDe(tabela, destino)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+        return CompletableFuture.completedFuture(ler(base));
+    }
+
+    /**
+     * Lê a tabela da moeda base. Um arquivo inexistente ou inválido resulta em um Optional vazio.
+     *
+     * @param base A moeda base da tabela.
+     * @return Um Optional contendo a tabela lida.
+     */
+    private Optional<TabelaTaxasRecord> ler(Moeda base) {
+        Path arquivo = diretorio.resolve(base.name() + ".json");
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            return Optional.ofNullable(gson.fromJson(leitor, TabelaTaxasRecord.class));
+        } catch (NoSuchFileException e) {
+            logger.log(Level.FINE, "Tabela de " + base + " não encontrada em " + diretorio);
+            return Optional.empty();
+        } catch (IOException | JsonParseException e) {
+            logger.log(Level.WARNING, "Erro ao ler a tabela " + arquivo + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonParseException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Provedor de taxas que consulta uma API no formato da ExchangeRate-API, pelos endpoints {@code /pair} e
+ * {@code /latest}, com {@link HttpClient#sendAsync}. Cancelar o CompletableFuture devolvido cancela a requisição.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class ProvedorTaxasHttp implements ProvedorTaxas {
+
+    private static final Logger logger = Logger.getLogger(ProvedorTaxasHttp.class.getName());
+    private static final Gson gson = new GsonBuilder()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private final String nome;
+    private final String url;
+    private final String apiKey;
+    private final Duration tempoLimite;
+    private final Executor executor;
+    private final Runnable aoEnviar;
+    private final HttpClient client;
+    private final ConcurrentMap<String, Validacao> validacoes = new ConcurrentHashMap<>();
+    private final LongAdder reaproveitadas = new LongAdder();
+
+    /**
+     * Cria o provedor.
+     *
+     * @param nome O nome do provedor, usado nos logs.
+     * @param url A URL base da API, terminada em barra.
+     * @param apiKey A chave de acesso à API.
+     * @param tempoLimite O tempo máximo de espera por uma resposta.
+     * @param executor O executor usado para converter as respostas.
+     */
+    ProvedorTaxasHttp(String nome, String url, String apiKey, Duration tempoLimite, Executor executor) {
+        this(nome, url, apiKey, tempoLimite, executor, () -> {
+        });
+    }
+
+    /**
+     * Cria o provedor, informando cada requisição enviada ao callback.
+     *
+     * @param nome O nome do provedor, usado nos logs.
+     * @param url A URL base da API, terminada em barra.
+     * @param apiKey A chave de acesso à API.
+     * @param tempoLimite O tempo máximo de espera por uma resposta.
+     * @param executor O executor usado para converter as respostas.
+     * @param aoEnviar Chamado uma vez para cada requisição, imediatamente antes do envio.
+     */
+    ProvedorTaxasHttp(String nome, String url, String apiKey, Duration tempoLimite, Executor executor,
+                      Runnable aoEnviar) {
+        this.nome = Objects.requireNonNull(nome, "O nome do provedor não pode ser nulo!");
+        this.url = Objects.requireNonNull(url, "A URL do provedor não pode ser nula!");
+        this.apiKey = Objects.requireNonNullElse(apiKey, "");
+        this.tempoLimite = Objects.requireNonNull(tempoLimite, "O tempo limite não pode ser nulo!");
+        this.executor = Objects.requireNonNull(executor, "O executor não pode ser nulo!");
+        this.aoEnviar = Objects.requireNonNull(aoEnviar, "O callback de envio não pode ser nulo!");
+        this.client = HttpClient.newBuilder().connectTimeout(tempoLimite).build();
+    }
+
+    @Override
+    public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+        return requisitar("/pair/" + origem + "/" + destino, MoedaRecord.class, MoedaRecord::timeLastUpdateUnix);
+    }
+
+    @Override
+    public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+        return requisitar("/latest/" + base, TabelaTaxasRecord.class, TabelaTaxasRecord::timeLastUpdateUnix);
+    }
+
+    @Override
+    public String toString() {
+        return nome;
+    }
+
+    /**
+     * Obtém o total de respostas em que a API informou que os dados não mudaram desde a última requisição,
+     * ou devolveu dados com a mesma última atualização, e a resposta anterior foi reaproveitada.
+     *
+     * @return O número de respostas reaproveitadas.
+     */
+    long respostasReaproveitadas() {
+        return reaproveitadas.sum();
+    }
+
+    /**
+     * Executa uma requisição GET assíncrona no caminho informado da API e converte a resposta
+     * para o tipo indicado no executor configurado.
+     * <p>
+     * A requisição aceita resposta compactada com gzip, que é descompactada e convertida em fluxo, sem montar
+     * o corpo inteiro em memória. Se já houver uma resposta anterior para o caminho, são enviados os
+     * validadores {@code If-None-Match} e {@code If-Modified-Since}, este último a partir do
+     * {@code Last-Modified} da resposta anterior ou, na sua falta, do {@code time_last_update_unix}. Quando a
+     * API responde {@code 304} ou devolve dados com a mesma última atualização, a resposta anterior é reaproveitada.
+     *
+     * @param caminho O caminho do endpoint, a partir da chave da API.
+     * @param tipo A classe da resposta esperada.
+     * @param ultimaAtualizacao Obtém o {@code time_last_update_unix} da resposta.
+     * @return Um CompletableFuture com o Optional contendo a resposta convertida, ou vazio em caso de erro.
+     */
+    private <T> CompletableFuture<Optional<T>> requisitar(String caminho, Class<T> tipo,
+                                                          Function<T, Long> ultimaAtualizacao) {
+        var urlApiKey = url + apiKey + caminho;
+        Validacao anterior = validacoes.get(caminho);
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder()
+                .GET()
+                .timeout(tempoLimite)
+                .uri(URI.create(urlApiKey))
+                .header("Accept-Encoding", "gzip");
+
+        if (anterior != null) {
+            if (anterior.etag() != null) {
+                builder.header("If-None-Match", anterior.etag());
+            }
+            if (anterior.ultimaModificacao() != null) {
+                builder.header("If-Modified-Since", anterior.ultimaModificacao());
+            } else if (anterior.ultimaAtualizacaoUnix() != null) {
+                builder.header("If-Modified-Since", DateTimeFormatter.RFC_1123_DATE_TIME
+                        .format(Instant.ofEpochSecond(anterior.ultimaAtualizacaoUnix()).atOffset(ZoneOffset.UTC)));
+            }
+        }
+
+        aoEnviar.run();
+        CompletableFuture<HttpResponse<InputStream>> envio =
+                client.sendAsync(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        return Cancelamentos.propagar(envio
+                .thenApplyAsync(response -> converter(caminho, tipo, ultimaAtualizacao, anterior, response), executor)
+                .exceptionally(e -> {
+                    logger.log(Level.SEVERE, "Erro I/O ao tentar conectar em " + nome + ": " + e.getMessage());
+                    return Optional.empty();
+                }), envio);
+    }
+
+    /**
+     * Converte a resposta HTTP e guarda os seus validadores para a próxima requisição ao mesmo caminho.
+     */
+    private <T> Optional<T> converter(String caminho, Class<T> tipo, Function<T, Long> ultimaAtualizacao,
+                                      Validacao anterior, HttpResponse<InputStream> response) {
+        try (InputStream corpo = descompactar(response)) {
+            if (response.statusCode() == 304 && anterior != null) {
+                logger.log(Level.FINE, "Dados de " + caminho + " sem alterações em " + nome);
+                reaproveitadas.increment();
+                return Optional.of(tipo.cast(anterior.resposta()));
+            }
+
+            if (response.statusCode() != 200) {
+                logger.log(Level.SEVERE, "Erro ao conectar em " + nome + ". Código Status: " + response.statusCode());
+                return Optional.empty();
+            }
+
+            logger.log(Level.INFO, "Conexão bem-sucedida com " + nome + "!");
+            T convertido = gson.fromJson(new InputStreamReader(corpo, StandardCharsets.UTF_8), tipo);
+            if (convertido == null) {
+                return Optional.empty();
+            }
+
+            Long atualizacao = ultimaAtualizacao.apply(convertido);
+            if (anterior != null && atualizacao != null && atualizacao.equals(anterior.ultimaAtualizacaoUnix())) {
+                reaproveitadas.increment();
+                convertido = tipo.cast(anterior.resposta());
+            }
+
+            validacoes.put(caminho, new Validacao(response.headers().firstValue("ETag").orElse(null),
+                    response.headers().firstValue("Last-Modified").orElse(null), atualizacao, convertido));
+            return Optional.of(convertido);
+        } catch (IOException | JsonParseException e) {
+            logger.log(Level.SEVERE, "Erro ao ler a resposta de " + nome + ": " + e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static InputStream descompactar(HttpResponse<InputStream> response) throws IOException {
+        boolean gzip = response.headers().firstValue("Content-Encoding")
+                .filter("gzip"::equalsIgnoreCase)
+                .isPresent();
+        return gzip ? new GZIPInputStream(response.body()) : response.body();
+    }
+
+    /**
+     * Validadores e conteúdo da última resposta recebida para um caminho.
+     */
+    private record Validacao(String etag, String ultimaModificacao, Long ultimaAtualizacaoUnix, Object resposta) {
+    }
+}
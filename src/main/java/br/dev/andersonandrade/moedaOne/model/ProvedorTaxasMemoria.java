@@ -0,0 +1,58 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Provedor de taxas mantido em memória, para testes e para uso sem acesso à rede. As tabelas são definidas por
+ * {@link #definirTabela(TabelaTaxasRecord)} e a taxa de um par é obtida da tabela da moeda de origem.
+ * Todas as buscas completam imediatamente, na thread chamadora.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class ProvedorTaxasMemoria implements ProvedorTaxas {
+
+    private final Map<Moeda, TabelaTaxasRecord> tabelas = new ConcurrentHashMap<>();
+    private final LongAdder buscas = new LongAdder();
+
+    /**
+     * Define a tabela de taxas da sua moeda base, substituindo a anterior.
+     *
+     * @param tabela A tabela de taxas.
+     */
+    public void definirTabela(TabelaTaxasRecord tabela) {
+        Objects.requireNonNull(tabela, "A tabela de taxas não pode ser nula!");
+        tabelas.put(Moeda.buscarPorCodigo(tabela.baseCode()), tabela);
+    }
+
+    /**
+     * Obtém o total de buscas de pares e tabelas recebidas pelo provedor.
+     *
+     * @return O número de buscas.
+     */
+    public long buscas() {
+        return buscas.sum();
+    }
+
+    @Override
+    public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+        buscas.increment();
+        return CompletableFuture.completedFuture(Optional.ofNullable(tabelas.get(origem))
+                .flatMap(tabela -> TaxasCruzadas.registroDe(tabela, destino)));
+    }
+
+    @Override
+    public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+        buscas.increment();
+        return CompletableFuture.completedFuture(Optional.ofNullable(tabelas.get(base)));
+    }
+}
@@ -0,0 +1,201 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Provedor que combina um provedor primário e um secundário com requisições redundantes (hedged requests): se
+ * o primário não responder dentro do percentil configurado das suas latências recentes, a busca também é enviada
+ * ao secundário e vale a primeira resposta com sucesso.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class ProvedorTaxasRedundante implements ProvedorTaxas, AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ProvedorTaxasRedundante.class.getName());
+    private static final int AMOSTRAS_MINIMAS = 10;
+
+    private final ProvedorTaxas primario;
+    private final ProvedorTaxas secundario;
+    private final double percentil;
+    private final long atrasoInicialMs;
+    private final long[] latencias;
+    private int proximaLatencia;
+    private int totalLatencias;
+    private final LongAdder redundantes = new LongAdder();
+    private final LongAdder vitoriasSecundario = new LongAdder();
+    private final ScheduledExecutorService agendador;
+
+    /**
+     * Cria o provedor redundante.
+     *
+     * @param primario O provedor consultado primeiro.
+     * @param secundario O provedor consultado quando o primário demora ou falha.
+     * @param percentil O percentil, entre 0 e 100, das latências do primário usado como prazo de espera.
+     * @param atrasoInicial O prazo de espera usado enquanto não houver amostras suficientes.
+     * @param amostras O número de latências recentes do primário consideradas no percentil.
+     */
+    ProvedorTaxasRedundante(ProvedorTaxas primario, ProvedorTaxas secundario, double percentil,
+                            Duration atrasoInicial, int amostras) {
+        if (percentil <= 0 || percentil > 100 || amostras < 1 || atrasoInicial.isNegative()) {
+            throw new IllegalArgumentException("Verifique a configuração do provedor redundante.");
+        }
+
+        this.primario = Objects.requireNonNull(primario, "O provedor primário não pode ser nulo!");
+        this.secundario = Objects.requireNonNull(secundario, "O provedor secundário não pode ser nulo!");
+        this.percentil = percentil;
+        this.atrasoInicialMs = atrasoInicial.toMillis();
+        this.latencias = new long[amostras];
+
+        AtomicInteger contador = new AtomicInteger();
+        this.agendador = Executors.newSingleThreadScheduledExecutor(tarefa -> {
+            Thread thread = new Thread(tarefa, "provedor-redundante-" + contador.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+        return executar(provedor -> provedor.buscarPar(origem, destino));
+    }
+
+    @Override
+    public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+        return executar(provedor -> provedor.buscarTabela(base));
+    }
+
+    /**
+     * Obtém o total de buscas em que a requisição redundante ao secundário foi enviada.
+     *
+     * @return O número de requisições redundantes.
+     */
+    long requisicoesRedundantes() {
+        return redundantes.sum();
+    }
+
+    /**
+     * Obtém o total de buscas respondidas pelo secundário.
+     *
+     * @return O número de respostas do secundário.
+     */
+    long respostasSecundario() {
+        return vitoriasSecundario.sum();
+    }
+
+    /**
+     * Calcula o prazo de espera pelo primário antes de enviar a requisição redundante.
+     *
+     * @return O prazo em milissegundos.
+     */
+    synchronized long atrasoRedundancia() {
+        if (totalLatencias < Math.min(AMOSTRAS_MINIMAS, latencias.length)) {
+            return atrasoInicialMs;
+        }
+
+        long[] ordenadas = Arrays.copyOf(latencias, totalLatencias);
+        Arrays.sort(ordenadas);
+        int posicao = (int) Math.ceil(percentil / 100.0 * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, posicao)];
+    }
+
+    /**
+     * Encerra a thread usada para agendar as requisições redundantes.
+     */
+    @Override
+    public void close() {
+        agendador.shutdownNow();
+    }
+
+    private synchronized void registrarLatencia(long latenciaMs) {
+        latencias[proximaLatencia] = latenciaMs;
+        proximaLatencia = (proximaLatencia + 1) % latencias.length;
+        totalLatencias = Math.min(totalLatencias + 1, latencias.length);
+    }
+
+    private <T> CompletableFuture<Optional<T>> executar(Function<ProvedorTaxas, CompletableFuture<Optional<T>>> busca) {
+        CompletableFuture<Optional<T>> resultado = new CompletableFuture<>();
+        AtomicReference<CompletableFuture<Optional<T>>> redundante = new AtomicReference<>();
+        AtomicBoolean respondida = new AtomicBoolean();
+        long inicio = System.nanoTime();
+
+        CompletableFuture<Optional<T>> principal = busca.apply(primario);
+
+        Runnable iniciarRedundante = () -> {
+            CompletableFuture<Optional<T>> marcador = new CompletableFuture<>();
+            if (resultado.isDone() || !redundante.compareAndSet(null, marcador)) {
+                return;
+            }
+            redundantes.increment();
+            logger.log(Level.FINE, "Enviando requisição redundante ao provedor " + secundario);
+
+            CompletableFuture<Optional<T>> secundaria = busca.apply(secundario);
+            marcador.whenComplete((valor, erro) -> {
+                if (marcador.isCancelled()) {
+                    secundaria.cancel(true);
+                }
+            });
+            secundaria.whenComplete((valor, erro) -> {
+                boolean sucesso = erro == null && valor != null && valor.isPresent();
+                marcador.complete(sucesso ? valor : Optional.empty());
+
+                if (sucesso && respondida.compareAndSet(false, true)) {
+                    vitoriasSecundario.increment();
+                    resultado.complete(valor);
+                } else if (principal.isDone()) {
+                    resultado.complete(Optional.empty());
+                }
+            });
+        };
+
+        principal.whenComplete((valor, erro) -> {
+            if (erro == null && valor != null && valor.isPresent()) {
+                registrarLatencia(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio));
+                if (respondida.compareAndSet(false, true)) {
+                    resultado.complete(valor);
+                }
+                return;
+            }
+
+            iniciarRedundante.run();
+            CompletableFuture<Optional<T>> marcador = redundante.get();
+            if (marcador == null || marcador.isDone()) {
+                resultado.complete(Optional.empty());
+            }
+        });
+
+        long atraso = atrasoRedundancia();
+        ScheduledFuture<?> agendada = agendador.schedule(iniciarRedundante, atraso, TimeUnit.MILLISECONDS);
+
+        resultado.whenComplete((valor, erro) -> {
+            agendada.cancel(false);
+            if (principal.cancel(true)) {
+                registrarLatencia(Math.max(atraso, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - inicio)));
+            }
+            CompletableFuture<Optional<T>> marcador = redundante.get();
+            if (marcador != null) {
+                marcador.cancel(true);
+            }
+        });
+        return resultado;
+    }
+}
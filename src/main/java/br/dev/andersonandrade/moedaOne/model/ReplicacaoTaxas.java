@@ -0,0 +1,395 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.SocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.DatagramChannel;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * Replicação das taxas obtidas na API entre os nós de um cluster, por datagramas UDP assinados com
+ * HMAC-SHA256. Uma taxa recebida só é entregue se for mais recente do que a última taxa conhecida do par e se os
+ * seus horários estiverem dentro da tolerância do relógio local.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class ReplicacaoTaxas implements AutoCloseable {
+
+    private static final Logger logger = Logger.getLogger(ReplicacaoTaxas.class.getName());
+
+    private static final int MAGICO = 0x4D524550;
+    private static final short VERSAO = 2;
+    private static final int TAMANHO_CABECALHO = 16;
+    private static final int TAMANHO_TAXA = 32;
+    private static final int TAMANHO_ASSINATURA = 32;
+    private static final int TAMANHO_MAXIMO = 65_507;
+    private static final int TAXAS_POR_DATAGRAMA =
+            (TAMANHO_MAXIMO - TAMANHO_CABECALHO - TAMANHO_ASSINATURA) / TAMANHO_TAXA;
+    private static final int TOTAL_MOEDAS = Moeda.values().length;
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final int TAMANHO_MINIMO_SEGREDO = 16;
+    static final Duration TOLERANCIA_RELOGIO = Duration.ofMinutes(5);
+    static final Duration VALIDADE_MAXIMA = Duration.ofDays(2);
+
+    private final DatagramChannel canal;
+    private final SecretKeySpec chave;
+    private final Mac verificador;
+    private final Clock relogio;
+    private final long toleranciaRelogio;
+    private final long validadeMaxima;
+    private final long identificador = ThreadLocalRandom.current().nextLong();
+    private final Set<InetSocketAddress> pares = new CopyOnWriteArraySet<>();
+    private final AtomicLongArray versoes = new AtomicLongArray(TOTAL_MOEDAS * TOTAL_MOEDAS);
+    private final Consumer<List<MoedaRecord>> receptor;
+    private final Thread recepcao;
+    private final LongAdder enviadas = new LongAdder();
+    private final LongAdder recebidas = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+
+    private ReplicacaoTaxas(DatagramChannel canal, Collection<InetSocketAddress> pares, SecretKeySpec chave,
+                            Clock relogio, Duration toleranciaRelogio, Duration validadeMaxima,
+                            Consumer<List<MoedaRecord>> receptor) {
+        this.canal = canal;
+        this.chave = chave;
+        this.verificador = novoMac(chave);
+        this.relogio = relogio;
+        this.toleranciaRelogio = toleranciaRelogio.toSeconds();
+        this.validadeMaxima = validadeMaxima.toSeconds();
+        this.receptor = receptor;
+        for (int i = 0; i < versoes.length(); i++) {
+            versoes.set(i, Long.MIN_VALUE);
+        }
+        pares.forEach(this::adicionarPar);
+
+        this.recepcao = new Thread(this::receber, "replicacao-taxas");
+        this.recepcao.setDaemon(true);
+    }
+
+    /**
+     * Abre o canal no endereço informado e inicia a thread de recepção, com a tolerância de relógio e a validade
+     * máxima padrão.
+     *
+     * @see #iniciar(InetSocketAddress, Collection, byte[], Clock, Duration, Duration, Consumer)
+     */
+    static ReplicacaoTaxas iniciar(InetSocketAddress endereco, Collection<InetSocketAddress> pares, byte[] segredo,
+                                   Clock relogio, Consumer<List<MoedaRecord>> receptor) throws IOException {
+        return iniciar(endereco, pares, segredo, relogio, TOLERANCIA_RELOGIO, VALIDADE_MAXIMA, receptor);
+    }
+
+    /**
+     * Abre o canal no endereço informado e inicia a thread de recepção.
+     *
+     * @param endereco O endereço local em que o nó recebe as taxas. A porta {@code 0} escolhe uma porta livre.
+     * @param pares Os endereços dos outros nós.
+     * @param segredo O segredo compartilhado pelos nós, com pelo menos {@value #TAMANHO_MINIMO_SEGREDO} bytes.
+     * @param relogio O relógio usado para recusar taxas com horários no futuro.
+     * @param toleranciaRelogio O quanto a última atualização de uma taxa recebida pode estar no futuro.
+     * @param validadeMaxima O quanto a próxima atualização de uma taxa recebida pode estar no futuro.
+     * @param receptor Recebe as taxas mais recentes enviadas pelos pares.
+     * @return A replicação iniciada.
+     * @throws IOException se o canal não puder ser aberto.
+     * @throws IllegalArgumentException se o segredo for curto demais.
+     */
+    static ReplicacaoTaxas iniciar(InetSocketAddress endereco, Collection<InetSocketAddress> pares, byte[] segredo,
+                                   Clock relogio, Duration toleranciaRelogio, Duration validadeMaxima,
+                                   Consumer<List<MoedaRecord>> receptor) throws IOException {
+        Objects.requireNonNull(endereco, "O endereço não pode ser nulo!");
+        Objects.requireNonNull(pares, "Os pares não podem ser nulos!");
+        Objects.requireNonNull(segredo, "O segredo não pode ser nulo!");
+        Objects.requireNonNull(relogio, "O relógio não pode ser nulo!");
+        Objects.requireNonNull(toleranciaRelogio, "A tolerância de relógio não pode ser nula!");
+        Objects.requireNonNull(validadeMaxima, "A validade máxima não pode ser nula!");
+        Objects.requireNonNull(receptor, "O receptor não pode ser nulo!");
+        if (segredo.length < TAMANHO_MINIMO_SEGREDO) {
+            throw new IllegalArgumentException("O segredo da replicação deve ter pelo menos "
+                    + TAMANHO_MINIMO_SEGREDO + " bytes.");
+        }
+        SecretKeySpec chave = new SecretKeySpec(segredo, ALGORITMO);
+
+        DatagramChannel canal = DatagramChannel.open();
+        try {
+            canal.setOption(StandardSocketOptions.SO_REUSEADDR, true);
+            canal.bind(endereco);
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+
+        ReplicacaoTaxas replicacao = new ReplicacaoTaxas(canal, pares, chave, relogio, toleranciaRelogio,
+                validadeMaxima, receptor);
+        replicacao.recepcao.start();
+        logger.log(Level.INFO, "Replicação de taxas iniciada em " + replicacao.endereco());
+        return replicacao;
+    }
+
+    /**
+     * Adiciona um nó que passa a receber as taxas deste nó e cujas taxas passam a ser aceitas.
+     *
+     * @param par O endereço do nó.
+     */
+    void adicionarPar(InetSocketAddress par) {
+        pares.add(Objects.requireNonNull(par, "O par não pode ser nulo!"));
+    }
+
+    /**
+     * Obtém o endereço local em que o nó recebe as taxas.
+     *
+     * @return O endereço local.
+     */
+    InetSocketAddress endereco() {
+        try {
+            return (InetSocketAddress) canal.getLocalAddress();
+        } catch (IOException e) {
+            throw new IllegalStateException("Canal de replicação fechado!", e);
+        }
+    }
+
+    /**
+     * Envia as taxas a todos os pares. Taxas com moedas que não pertencem ao enum {@link Moeda}, sem taxa ou
+     * não mais recentes do que a última taxa do par conhecida por este nó não são enviadas.
+     *
+     * @param registros As taxas obtidas na API.
+     */
+    void difundir(Collection<MoedaRecord> registros) {
+        Objects.requireNonNull(registros, "Verifique o parâmetro, ele não pode ser nulo!");
+
+        List<MoedaRecord> novas = new ArrayList<>(registros.size());
+        for (MoedaRecord registro : registros) {
+            Optional<Moeda> origem = Moeda.buscarOpcional(registro.baseCode());
+            Optional<Moeda> destino = Moeda.buscarOpcional(registro.targetCode());
+            if (origem.isPresent() && destino.isPresent() && registro.conversionRate() != null
+                    && registro.conversionRate().signum() > 0
+                    && registrarVersao(origem.get(), destino.get(), registro)) {
+                novas.add(registro);
+            }
+        }
+
+        Mac assinador = novoMac(chave);
+        for (int inicio = 0; inicio < novas.size(); inicio += TAXAS_POR_DATAGRAMA) {
+            int fim = Math.min(novas.size(), inicio + TAXAS_POR_DATAGRAMA);
+            ByteBuffer datagrama = codificar(novas.subList(inicio, fim), assinador);
+            for (InetSocketAddress par : pares) {
+                try {
+                    canal.send(datagrama.duplicate(), par);
+                    enviadas.increment();
+                } catch (IOException e) {
+                    logger.log(Level.WARNING, "Erro ao enviar taxas para " + par + ": " + e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Obtém o total de datagramas enviados aos pares.
+     *
+     * @return O número de datagramas enviados.
+     */
+    long enviadas() {
+        return enviadas.sum();
+    }
+
+    /**
+     * Obtém o total de taxas recebidas dos pares e entregues ao receptor.
+     *
+     * @return O número de taxas recebidas.
+     */
+    long recebidas() {
+        return recebidas.sum();
+    }
+
+    /**
+     * Obtém o total de datagramas descartados, por origem desconhecida, formato ou assinatura inválida.
+     *
+     * @return O número de datagramas descartados.
+     */
+    long descartadas() {
+        return descartadas.sum();
+    }
+
+    /**
+     * Fecha o canal, o que encerra a thread de recepção.
+     */
+    @Override
+    public void close() {
+        try {
+            canal.close();
+            recepcao.join(1000);
+        } catch (IOException e) {
+            logger.log(Level.WARNING, "Erro ao fechar a replicação de taxas: " + e.getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void receber() {
+        ByteBuffer datagrama = ByteBuffer.allocate(TAMANHO_MAXIMO);
+        while (canal.isOpen()) {
+            try {
+                datagrama.clear();
+                SocketAddress remetente = canal.receive(datagrama);
+                datagrama.flip();
+
+                List<MoedaRecord> registros = remetente instanceof InetSocketAddress endereco
+                        && pares.contains(endereco) ? decodificar(datagrama) : null;
+                if (registros == null) {
+                    descartadas.increment();
+                    continue;
+                }
+                if (!registros.isEmpty()) {
+                    recebidas.add(registros.size());
+                    receptor.accept(registros);
+                }
+            } catch (ClosedChannelException e) {
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.log(Level.WARNING, "Erro ao receber taxas replicadas: " + e.getMessage());
+            }
+        }
+    }
+
+    private ByteBuffer codificar(List<MoedaRecord> registros, Mac assinador) {
+        ByteBuffer datagrama =
+                ByteBuffer.allocate(TAMANHO_CABECALHO + registros.size() * TAMANHO_TAXA + TAMANHO_ASSINATURA);
+        datagrama.putInt(MAGICO).putShort(VERSAO).putShort((short) registros.size()).putLong(identificador);
+
+        for (MoedaRecord registro : registros) {
+            BigDecimal taxa = ArquivoTaxas.pontoFixo(registro.conversionRate());
+            datagrama.putShort((short) Moeda.buscarPorCodigo(registro.baseCode()).ordinal());
+            datagrama.putShort((short) Moeda.buscarPorCodigo(registro.targetCode()).ordinal());
+            datagrama.putInt(taxa.scale());
+            datagrama.putLong(taxa.unscaledValue().longValueExact());
+            datagrama.putLong(ArquivoTaxas.paraArquivo(registro.timeLastUpdateUnix()));
+            datagrama.putLong(ArquivoTaxas.paraArquivo(registro.timeNextUpdateUnix()));
+        }
+
+        assinador.update(datagrama.array(), 0, datagrama.position());
+        datagrama.put(assinador.doFinal());
+        return datagrama.flip();
+    }
+
+    /**
+     * Decodifica o datagrama e mantém apenas as taxas mais recentes do que as conhecidas por este nó.
+     *
+     * @return As taxas novas, ou {@code null} se o datagrama for inválido, não tiver assinatura válida ou tiver
+     * sido enviado por este nó.
+     */
+    private List<MoedaRecord> decodificar(ByteBuffer datagrama) {
+        int tamanho = datagrama.remaining();
+        if (tamanho < TAMANHO_CABECALHO + TAMANHO_ASSINATURA || datagrama.getInt(0) != MAGICO
+                || datagrama.getShort(4) != VERSAO || datagrama.getLong(8) == identificador) {
+            return null;
+        }
+        int total = datagrama.getShort(6);
+        int fimTaxas = tamanho - TAMANHO_ASSINATURA;
+        if (total < 0 || fimTaxas != TAMANHO_CABECALHO + total * TAMANHO_TAXA) {
+            return null;
+        }
+
+        verificador.update(datagrama.array(), 0, fimTaxas);
+        byte[] esperada = verificador.doFinal();
+        byte[] recebida = new byte[TAMANHO_ASSINATURA];
+        datagrama.get(fimTaxas, recebida);
+        if (!MessageDigest.isEqual(esperada, recebida)) {
+            return null;
+        }
+
+        long agora = relogio.instant().getEpochSecond();
+        Moeda[] moedas = Moeda.values();
+        List<MoedaRecord> novas = new ArrayList<>(total);
+        for (int posicao = TAMANHO_CABECALHO; posicao < fimTaxas; posicao += TAMANHO_TAXA) {
+            int origem = datagrama.getShort(posicao);
+            int destino = datagrama.getShort(posicao + 2);
+            int escala = datagrama.getInt(posicao + 4);
+            long valor = datagrama.getLong(posicao + 8);
+            long ultima = datagrama.getLong(posicao + 16);
+            long proxima = datagrama.getLong(posicao + 24);
+            if (origem < 0 || origem >= TOTAL_MOEDAS || destino < 0 || destino >= TOTAL_MOEDAS || valor <= 0
+                    || escala < 0 || escala > ArquivoTaxas.ESCALA_MAXIMA) {
+                continue;
+            }
+            if (!horariosAceitaveis(ultima, proxima, agora)) {
+                logger.log(Level.WARNING, "Taxa " + moedas[origem] + "/" + moedas[destino]
+                        + " recebida com horário além do relógio local foi recusada.");
+                continue;
+            }
+
+            MoedaRecord registro = ArquivoTaxas.montar(moedas[origem], moedas[destino], valor, escala, ultima,
+                    proxima);
+            if (registrarVersao(moedas[origem], moedas[destino], registro)) {
+                novas.add(registro);
+            }
+        }
+        return novas;
+    }
+
+    /**
+     * Verifica os horários de uma taxa recebida em relação ao relógio local. Os horários ausentes, gravados como
+     * {@link Long#MIN_VALUE}, são aceitos.
+     */
+    private boolean horariosAceitaveis(long ultima, long proxima, long agora) {
+        return ultima <= somar(agora, toleranciaRelogio) && proxima <= somar(agora, validadeMaxima);
+    }
+
+    private static long somar(long instante, long segundos) {
+        long soma = instante + segundos;
+        return segundos > 0 && soma < instante ? Long.MAX_VALUE : soma;
+    }
+
+    private static Mac novoMac(SecretKeySpec chave) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(chave);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC indisponível: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Registra a versão da taxa do par se ela for mais recente do que a última conhecida.
+     *
+     * @return {@code true} se a taxa for mais recente.
+     */
+    private boolean registrarVersao(Moeda origem, Moeda destino, MoedaRecord registro) {
+        if (registro.timeLastUpdateUnix() == null) {
+            return false;
+        }
+
+        int indice = origem.ordinal() * TOTAL_MOEDAS + destino.ordinal();
+        long versao = registro.timeLastUpdateUnix();
+        long atual;
+        do {
+            atual = versoes.get(indice);
+            if (atual >= versao) {
+                return false;
+            }
+        } while (!versoes.compareAndSet(indice, atual, versao));
+        return true;
+    }
+}
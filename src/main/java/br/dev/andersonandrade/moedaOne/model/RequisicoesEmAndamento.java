@@ -0,0 +1,120 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Agrupa buscas concorrentes pela mesma chave em uma única execução. A busca é cancelada quando todos os
+ * chamadores cancelam as suas cópias do resultado.
+ *
+ * @param <K> O tipo da chave que identifica a busca.
+ * @param <V> O tipo do resultado da busca.
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class RequisicoesEmAndamento<K, V> {
+
+    private final ConcurrentMap<K, Busca<V>> emAndamento = new ConcurrentHashMap<>();
+    private final LongAdder agrupadas = new LongAdder();
+
+    /**
+     * Executa a busca da chave informada, ou aguarda a busca já em andamento para a mesma chave.
+     * Cada chamador recebe uma cópia do resultado, de modo que cancelar a própria cópia não afeta os demais;
+     * a busca só é cancelada quando todas as cópias forem canceladas.
+     *
+     * @param chave A chave que identifica a busca.
+     * @param busca A função que inicia a busca quando não há outra em andamento.
+     * @return Um CompletableFuture com o resultado compartilhado.
+     */
+    CompletableFuture<V> executar(K chave, Supplier<CompletableFuture<V>> busca) {
+        Objects.requireNonNull(chave, "A chave não pode ser nula!");
+
+        Busca<V> nova = new Busca<>();
+        Busca<V> existente;
+        while ((existente = emAndamento.putIfAbsent(chave, nova)) != null) {
+            if (existente.participar()) {
+                agrupadas.increment();
+                return copia(chave, existente);
+            }
+            emAndamento.remove(chave, existente);
+        }
+
+        try {
+            CompletableFuture<V> origem = busca.get();
+            nova.origem = origem;
+            origem.whenComplete((resultado, erro) -> {
+                emAndamento.remove(chave, nova);
+                if (erro != null) {
+                    nova.resultado.completeExceptionally(erro);
+                } else {
+                    nova.resultado.complete(resultado);
+                }
+            });
+        } catch (RuntimeException e) {
+            emAndamento.remove(chave, nova);
+            nova.resultado.completeExceptionally(e);
+        }
+        return copia(chave, nova);
+    }
+
+    private CompletableFuture<V> copia(K chave, Busca<V> busca) {
+        CompletableFuture<V> copia = busca.resultado.copy();
+        copia.whenComplete((resultado, erro) -> {
+            if (copia.isCancelled() && busca.abandonar()) {
+                emAndamento.remove(chave, busca);
+                CompletableFuture<V> origem = busca.origem;
+                if (origem != null) {
+                    origem.cancel(true);
+                }
+            }
+        });
+        return copia;
+    }
+
+    /**
+     * Uma busca em andamento e o número de chamadores que ainda aguardam o seu resultado.
+     */
+    private static final class Busca<V> {
+
+        private final CompletableFuture<V> resultado = new CompletableFuture<>();
+        private final AtomicInteger interessados = new AtomicInteger(1);
+        private volatile CompletableFuture<V> origem;
+
+        /**
+         * Registra mais um chamador, a menos que todos os anteriores já tenham desistido da busca.
+         */
+        boolean participar() {
+            int atual;
+            do {
+                atual = interessados.get();
+                if (atual == 0) {
+                    return false;
+                }
+            } while (!interessados.compareAndSet(atual, atual + 1));
+            return true;
+        }
+
+        /**
+         * Registra a desistência de um chamador.
+         *
+         * @return {@code true} se era o último chamador interessado.
+         */
+        boolean abandonar() {
+            return interessados.decrementAndGet() == 0;
+        }
+    }
+
+    /**
+     * Obtém o total de chamadas que aguardaram uma busca já em andamento em vez de iniciar uma nova.
+     *
+     * @return O número de chamadas agrupadas.
+     */
+    long agrupadas() {
+        return agrupadas.sum();
+    }
+}
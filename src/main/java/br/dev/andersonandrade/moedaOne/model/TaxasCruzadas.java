@@ -0,0 +1,107 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Utilitário que transforma a tabela de taxas de uma moeda base em registros de pares
+ * e calcula taxas cruzadas entre quaisquer duas moedas presentes na tabela.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class TaxasCruzadas {
+
+    private TaxasCruzadas() {
+    }
+
+    /**
+     * Converte a tabela de uma moeda base em um registro por moeda de destino.
+     * Códigos que não pertencem ao enum {@link Moeda} são ignorados.
+     *
+     * @param tabela A tabela retornada pelo endpoint {@code /latest/{base}}.
+     * @return Os registros {@code base -> destino} da tabela.
+     */
+    static List<MoedaRecord> paraRegistros(TabelaTaxasRecord tabela) {
+        Objects.requireNonNull(tabela, "A tabela de taxas não pode ser nula!");
+
+        List<MoedaRecord> registros = new ArrayList<>();
+        if (tabela.conversionRates() == null) {
+            return registros;
+        }
+
+        for (Map.Entry<String, BigDecimal> taxa : tabela.conversionRates().entrySet()) {
+            if (Moeda.buscarOpcional(taxa.getKey()).isEmpty() || taxa.getValue() == null) {
+                continue;
+            }
+            registros.add(new MoedaRecord(tabela.result(), tabela.documentation(), tabela.termsOfUse(),
+                    tabela.timeLastUpdateUnix(), tabela.timeLastUpdateUtc(), tabela.timeNextUpdateUnix(),
+                    tabela.timeNextUpdateUtc(), tabela.baseCode(), taxa.getKey(), taxa.getValue(), null));
+        }
+        return registros;
+    }
+
+    /**
+     * Obtém da tabela de uma moeda base o registro {@code base -> destino}.
+     *
+     * @param tabela A tabela retornada pelo endpoint {@code /latest/{base}}.
+     * @param destino A moeda de destino.
+     * @return Um Optional contendo o registro, ou vazio se a tabela não tiver taxa para o destino.
+     */
+    static Optional<MoedaRecord> registroDe(TabelaTaxasRecord tabela, Moeda destino) {
+        Objects.requireNonNull(tabela, "A tabela de taxas não pode ser nula!");
+
+        BigDecimal taxa = tabela.conversionRates() == null ? null : tabela.conversionRates().get(destino.name());
+        if (taxa == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new MoedaRecord(tabela.result(), tabela.documentation(), tabela.termsOfUse(),
+                tabela.timeLastUpdateUnix(), tabela.timeLastUpdateUtc(), tabela.timeNextUpdateUnix(),
+                tabela.timeNextUpdateUtc(), tabela.baseCode(), destino.name(), taxa, null));
+    }
+
+    /**
+     * Calcula a taxa cruzada {@code origem -> destino} a partir das taxas de uma base comum,
+     * dividindo a taxa {@code base -> destino} pela taxa {@code base -> origem}.
+     * O registro resultante herda a atualização mais antiga e a próxima atualização mais próxima dos dois;
+     * um horário ausente conta como o mais antigo.
+     *
+     * @param baseOrigem O registro {@code base -> origem}.
+     * @param baseDestino O registro {@code base -> destino}.
+     * @param precisao A precisão usada na divisão.
+     * @return O registro {@code origem -> destino}.
+     * @throws IllegalArgumentException se os registros não tiverem a mesma moeda base.
+     */
+    static MoedaRecord derivar(MoedaRecord baseOrigem, MoedaRecord baseDestino, MathContext precisao) {
+        Objects.requireNonNull(baseOrigem, "MoedaRecord não pode ser nula!");
+        Objects.requireNonNull(baseDestino, "MoedaRecord não pode ser nula!");
+
+        if (!baseOrigem.baseCode().equals(baseDestino.baseCode())) {
+            throw new IllegalArgumentException("As taxas devem ter a mesma moeda base.");
+        }
+
+        BigDecimal taxa = baseDestino.conversionRate().divide(baseOrigem.conversionRate(), precisao);
+        MoedaRecord ultimaAtualizacao = horario(baseOrigem.timeLastUpdateUnix())
+                <= horario(baseDestino.timeLastUpdateUnix()) ? baseOrigem : baseDestino;
+        MoedaRecord proximaAtualizacao = horario(baseOrigem.timeNextUpdateUnix())
+                <= horario(baseDestino.timeNextUpdateUnix()) ? baseOrigem : baseDestino;
+
+        return new MoedaRecord(baseOrigem.result(), baseOrigem.documentation(), baseOrigem.termsOfUse(),
+                ultimaAtualizacao.timeLastUpdateUnix(), ultimaAtualizacao.timeLastUpdateUtc(),
+                proximaAtualizacao.timeNextUpdateUnix(), proximaAtualizacao.timeNextUpdateUtc(),
+                baseOrigem.targetCode(), baseDestino.targetCode(), taxa, null);
+    }
+
+    private static long horario(Long unix) {
+        return unix == null ? Long.MIN_VALUE : unix;
+    }
+}
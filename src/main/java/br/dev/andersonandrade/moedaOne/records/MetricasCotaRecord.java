@@ -0,0 +1,23 @@
+package br.dev.andersonandrade.moedaOne.records;
+
+import java.util.Map;
+
+/**
+ * Situação da cota mensal de requisições ao provedor de taxas e das decisões do planejador.
+ *
+ * @param cotaMensal O número de requisições permitidas no mês.
+ * @param usadas As requisições já feitas no mês, somando todos os provedores.
+ * @param restantes As requisições que ainda podem ser feitas no mês pelo provedor mais usado.
+ * @param orcamentoDiario As requisições que podem ser feitas por dia até o fim do mês.
+ * @param paresQuentes O número de pares considerados mais acessados dentro do orçamento.
+ * @param permitidas As buscas na API autorizadas pelo planejador.
+ * @param negadas As buscas na API recusadas pelo planejador.
+ * @param atendidasSemApi As buscas recusadas que foram atendidas com uma taxa já conhecida.
+ * @param usadasPorProvedor As requisições já feitas no mês, por nome do provedor.
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public record MetricasCotaRecord(long cotaMensal, long usadas, long restantes, long orcamentoDiario,
+                                 int paresQuentes, long permitidas, long negadas, long atendidasSemApi,
+                                 Map<String, Long> usadasPorProvedor) {
+}
@@ -1,6 +1,8 @@
 package br.dev.andersonandrade.moedaOne.records;
 
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.uteis.AdaptadorMoedaRecord;
+import com.google.gson.annotations.JsonAdapter;
 
 import java.math.BigDecimal;
 
@@ -8,6 +10,7 @@ import java.math.BigDecimal;
  * @author Anderson Andrade Dev
  * @Data de Criação 11/10/2024
  */
+@JsonAdapter(AdaptadorMoedaRecord.class)
 public record MoedaRecord(String result, String documentation, String termsOfUse, Long timeLastUpdateUnix,
                           String timeLastUpdateUtc, Long timeNextUpdateUnix, String timeNextUpdateUtc, String baseCode,
                           String targetCode, BigDecimal conversionRate, BigDecimal conversionResult) {
@@ -0,0 +1,34 @@
+package br.dev.andersonandrade.moedaOne.records;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+/**
+ * Pedido de conversão de um valor entre duas moedas, usado nas conversões em lote. A quantidade é limitada a
+ * {@value #DIGITOS_MAXIMOS} dígitos inteiros e decimais.
+ *
+ * @param quantidade O valor na moeda de origem.
+ * @param origem A moeda de origem.
+ * @param destino A moeda de destino.
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public record PedidoConversaoRecord(BigDecimal quantidade, Moeda origem, Moeda destino) {
+
+    public static final int DIGITOS_MAXIMOS = 30;
+
+    public PedidoConversaoRecord {
+        Objects.requireNonNull(quantidade, "A quantidade não pode ser nula!");
+        Objects.requireNonNull(origem, "A moeda de origem não pode ser nula!");
+        Objects.requireNonNull(destino, "A moeda de destino não pode ser nula!");
+        if (quantidade.signum() < 0) {
+            throw new IllegalArgumentException("A quantidade não pode ser negativa!");
+        }
+        if (quantidade.precision() - quantidade.scale() > DIGITOS_MAXIMOS || quantidade.scale() > DIGITOS_MAXIMOS) {
+            throw new IllegalArgumentException("A quantidade deve ter no máximo " + DIGITOS_MAXIMOS
+                    + " dígitos inteiros e " + DIGITOS_MAXIMOS + " decimais!");
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package br.dev.andersonandrade.moedaOne.records;
+
+import java.time.Duration;
+
+/**
+ * Resultado da conversão de um arquivo CSV de transações.
+ *
+ * @param linhas As linhas de dados lidas, sem contar o cabeçalho.
+ * @param convertidas As linhas convertidas e gravadas no arquivo de saída.
+ * @param invalidas As linhas rejeitadas por valor ou código de moeda inválido.
+ * @param semTaxa As linhas válidas rejeitadas por não haver taxa para o par.
+ * @param duracao O tempo total da conversão.
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public record ResumoConversaoArquivoRecord(long linhas, long convertidas, long invalidas, long semTaxa,
+                                           Duration duracao) {
+
+    /**
+     * Obtém a vazão da conversão.
+     *
+     * @return As linhas lidas por segundo.
+     */
+    public double linhasPorSegundo() {
+        long nanos = Math.max(1L, duracao.toNanos());
+        return linhas * 1_000_000_000.0 / nanos;
+    }
+}
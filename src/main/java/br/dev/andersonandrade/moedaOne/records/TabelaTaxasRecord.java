@@ -0,0 +1,20 @@
+package br.dev.andersonandrade.moedaOne.records;
+
+import br.dev.andersonandrade.moedaOne.uteis.AdaptadorTabelaTaxas;
+import com.google.gson.annotations.JsonAdapter;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+/**
+ * Resposta do endpoint {@code /latest/{base}} da API, contendo as taxas de conversão
+ * da moeda base para todas as moedas suportadas.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+@JsonAdapter(AdaptadorTabelaTaxas.class)
+public record TabelaTaxasRecord(String result, String documentation, String termsOfUse, Long timeLastUpdateUnix,
+                                String timeLastUpdateUtc, Long timeNextUpdateUnix, String timeNextUpdateUtc,
+                                String baseCode, Map<String, BigDecimal> conversionRates) {
+}
@@ -0,0 +1,29 @@
+package br.dev.andersonandrade.moedaOne.records;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+
+import java.util.List;
+
+/**
+ * Taxa obtida localmente a partir das taxas em cache, sem requisição à API.
+ *
+ * @param moedaRecord O registro com a taxa composta do par.
+ * @param caminho As moedas percorridas, da origem ao destino.
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public record TaxaInferidaRecord(MoedaRecord moedaRecord, List<Moeda> caminho) {
+
+    public TaxaInferidaRecord {
+        caminho = List.copyOf(caminho);
+    }
+
+    /**
+     * Obtém o número de taxas combinadas para chegar ao destino.
+     *
+     * @return O número de saltos do caminho.
+     */
+    public int saltos() {
+        return caminho.size() - 1;
+    }
+}
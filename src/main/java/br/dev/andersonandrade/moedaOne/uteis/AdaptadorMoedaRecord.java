@@ -0,0 +1,84 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * A classe {@code AdaptadorMoedaRecord} converte um {@link MoedaRecord} de e para JSON sem reflexão,
+ * aceitando os nomes no formato da API e no formato dos campos do registro.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class AdaptadorMoedaRecord extends TypeAdapter<MoedaRecord> {
+
+    @Override
+    public void write(JsonWriter writer, MoedaRecord moedaRecord) throws IOException {
+        if (moedaRecord == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+        writer.name("result").value(moedaRecord.result());
+        writer.name("documentation").value(moedaRecord.documentation());
+        writer.name("terms_of_use").value(moedaRecord.termsOfUse());
+        writer.name("time_last_update_unix").value(moedaRecord.timeLastUpdateUnix());
+        writer.name("time_last_update_utc").value(moedaRecord.timeLastUpdateUtc());
+        writer.name("time_next_update_unix").value(moedaRecord.timeNextUpdateUnix());
+        writer.name("time_next_update_utc").value(moedaRecord.timeNextUpdateUtc());
+        writer.name("base_code").value(moedaRecord.baseCode());
+        writer.name("target_code").value(moedaRecord.targetCode());
+        writer.name("conversion_rate").value(moedaRecord.conversionRate());
+        writer.name("conversion_result").value(moedaRecord.conversionResult());
+        writer.endObject();
+    }
+
+    @Override
+    public MoedaRecord read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        String result = null;
+        String documentation = null;
+        String termsOfUse = null;
+        Long timeLastUpdateUnix = null;
+        String timeLastUpdateUtc = null;
+        Long timeNextUpdateUnix = null;
+        String timeNextUpdateUtc = null;
+        String baseCode = null;
+        String targetCode = null;
+        BigDecimal conversionRate = null;
+        BigDecimal conversionResult = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result" -> result = LeituraJson.texto(reader);
+                case "documentation" -> documentation = LeituraJson.texto(reader);
+                case "terms_of_use", "termsOfUse" -> termsOfUse = LeituraJson.texto(reader);
+                case "time_last_update_unix", "timeLastUpdateUnix" -> timeLastUpdateUnix = LeituraJson.inteiro(reader);
+                case "time_last_update_utc", "timeLastUpdateUtc" -> timeLastUpdateUtc = LeituraJson.texto(reader);
+                case "time_next_update_unix", "timeNextUpdateUnix" -> timeNextUpdateUnix = LeituraJson.inteiro(reader);
+                case "time_next_update_utc", "timeNextUpdateUtc" -> timeNextUpdateUtc = LeituraJson.texto(reader);
+                case "base_code", "baseCode" -> baseCode = LeituraJson.texto(reader);
+                case "target_code", "targetCode" -> targetCode = LeituraJson.texto(reader);
+                case "conversion_rate", "conversionRate" -> conversionRate = LeituraJson.decimal(reader);
+                case "conversion_result", "conversionResult" -> conversionResult = LeituraJson.decimal(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new MoedaRecord(result, documentation, termsOfUse, timeLastUpdateUnix, timeLastUpdateUtc,
+                timeNextUpdateUnix, timeNextUpdateUtc, baseCode, targetCode, conversionRate, conversionResult);
+    }
+}
@@ -0,0 +1,108 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * A classe {@code AdaptadorTabelaTaxas} converte a resposta do endpoint {@code /latest/{base}} em
+ * {@link TabelaTaxasRecord} sem reflexão, lendo as taxas diretamente para {@link BigDecimal}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class AdaptadorTabelaTaxas extends TypeAdapter<TabelaTaxasRecord> {
+
+    private static final int CAPACIDADE_TAXAS = 256;
+
+    @Override
+    public void write(JsonWriter writer, TabelaTaxasRecord tabela) throws IOException {
+        if (tabela == null) {
+            writer.nullValue();
+            return;
+        }
+
+        writer.beginObject();
+        writer.name("result").value(tabela.result());
+        writer.name("documentation").value(tabela.documentation());
+        writer.name("terms_of_use").value(tabela.termsOfUse());
+        writer.name("time_last_update_unix").value(tabela.timeLastUpdateUnix());
+        writer.name("time_last_update_utc").value(tabela.timeLastUpdateUtc());
+        writer.name("time_next_update_unix").value(tabela.timeNextUpdateUnix());
+        writer.name("time_next_update_utc").value(tabela.timeNextUpdateUtc());
+        writer.name("base_code").value(tabela.baseCode());
+
+        if (tabela.conversionRates() != null) {
+            writer.name("conversion_rates").beginObject();
+            for (Map.Entry<String, BigDecimal> taxa : tabela.conversionRates().entrySet()) {
+                writer.name(taxa.getKey()).value(taxa.getValue());
+            }
+            writer.endObject();
+        }
+        writer.endObject();
+    }
+
+    @Override
+    public TabelaTaxasRecord read(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        String result = null;
+        String documentation = null;
+        String termsOfUse = null;
+        Long timeLastUpdateUnix = null;
+        String timeLastUpdateUtc = null;
+        Long timeNextUpdateUnix = null;
+        String timeNextUpdateUtc = null;
+        String baseCode = null;
+        Map<String, BigDecimal> conversionRates = null;
+
+        reader.beginObject();
+        while (reader.hasNext()) {
+            switch (reader.nextName()) {
+                case "result" -> result = LeituraJson.texto(reader);
+                case "documentation" -> documentation = LeituraJson.texto(reader);
+                case "terms_of_use", "termsOfUse" -> termsOfUse = LeituraJson.texto(reader);
+                case "time_last_update_unix", "timeLastUpdateUnix" -> timeLastUpdateUnix = LeituraJson.inteiro(reader);
+                case "time_last_update_utc", "timeLastUpdateUtc" -> timeLastUpdateUtc = LeituraJson.texto(reader);
+                case "time_next_update_unix", "timeNextUpdateUnix" -> timeNextUpdateUnix = LeituraJson.inteiro(reader);
+                case "time_next_update_utc", "timeNextUpdateUtc" -> timeNextUpdateUtc = LeituraJson.texto(reader);
+                case "base_code", "baseCode" -> baseCode = LeituraJson.texto(reader);
+                case "conversion_rates", "conversionRates" -> conversionRates = lerTaxas(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+
+        return new TabelaTaxasRecord(result, documentation, termsOfUse, timeLastUpdateUnix, timeLastUpdateUtc,
+                timeNextUpdateUnix, timeNextUpdateUtc, baseCode, conversionRates);
+    }
+
+    private static Map<String, BigDecimal> lerTaxas(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+
+        Map<String, BigDecimal> taxas = new HashMap<>(CAPACIDADE_TAXAS);
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String codigo = reader.nextName();
+            BigDecimal taxa = LeituraJson.decimal(reader);
+            if (taxa != null) {
+                taxas.put(codigo, taxa);
+            }
+        }
+        reader.endObject();
+        return taxas;
+    }
+}
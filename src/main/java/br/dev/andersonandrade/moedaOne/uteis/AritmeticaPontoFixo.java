@@ -0,0 +1,222 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Objects;
+
+/**
+ * A classe {@code AritmeticaPontoFixo} multiplica valores e taxas representados como {@code long} escalados,
+ * com o mesmo resultado de {@code valor.multiply(taxa).setScale(escala, arredondamento)}. Quando o resultado não
+ * cabe em um {@code long}, o cálculo é refeito com {@link BigDecimal}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public final class AritmeticaPontoFixo {
+
+    private static final int MAXIMO_DIGITOS = 18;
+    private static final long[] POTENCIAS_DEZ = new long[MAXIMO_DIGITOS + 1];
+
+    static {
+        POTENCIAS_DEZ[0] = 1L;
+        for (int i = 1; i <= MAXIMO_DIGITOS; i++) {
+            POTENCIAS_DEZ[i] = POTENCIAS_DEZ[i - 1] * 10L;
+        }
+    }
+
+    private AritmeticaPontoFixo() {
+    }
+
+    /**
+     * Multiplica o valor pela taxa e arredonda o produto para a escala informada.
+     *
+     * @param valor O valor a ser multiplicado.
+     * @param taxa A taxa.
+     * @param escala A quantidade de casas decimais do resultado.
+     * @param arredondamento O modo de arredondamento, aplicado uma única vez.
+     * @return O produto com a escala informada.
+     * @throws ArithmeticException se o arredondamento for {@link RoundingMode#UNNECESSARY} e o produto
+     *         tiver mais casas decimais do que a escala.
+     */
+    public static BigDecimal multiplicar(BigDecimal valor, BigDecimal taxa, int escala, RoundingMode arredondamento) {
+        Objects.requireNonNull(valor, "O valor não pode ser nulo!");
+        Objects.requireNonNull(taxa, "A taxa não pode ser nula!");
+        Objects.requireNonNull(arredondamento, "O modo de arredondamento não pode ser nulo!");
+
+        if (valor.precision() <= MAXIMO_DIGITOS && taxa.precision() <= MAXIMO_DIGITOS) {
+            try {
+                return BigDecimal.valueOf(multiplicarEscalado(valorEscalado(valor), valor.scale(),
+                        valorEscalado(taxa), taxa.scale(), escala, arredondamento), escala);
+            } catch (EstouroPontoFixo e) {
+                // o resultado não cabe em um long; o cálculo segue com BigDecimal
+            }
+        }
+        return valor.multiply(taxa).setScale(escala, arredondamento);
+    }
+
+    /**
+     * Verifica se o valor inteiro de um {@link BigDecimal} cabe em um {@code long} escalado.
+     *
+     * @param valor O valor.
+     * @return {@code true} se o valor tiver no máximo 18 dígitos.
+     */
+    public static boolean cabeEmLong(BigDecimal valor) {
+        return valor.precision() <= MAXIMO_DIGITOS;
+    }
+
+    /**
+     * Obtém o valor inteiro de um {@link BigDecimal}, o mesmo de {@link BigDecimal#unscaledValue()}, sem criar
+     * um {@link java.math.BigInteger}. A escala correspondente é {@link BigDecimal#scale()}.
+     *
+     * @param valor O valor, com no máximo 18 dígitos.
+     * @return O valor inteiro.
+     * @throws ArithmeticException se o valor tiver mais dígitos do que um {@code long} comporta.
+     */
+    public static long valorEscalado(BigDecimal valor) {
+        if (!cabeEmLong(valor)) {
+            throw new EstouroPontoFixo();
+        }
+        return valor.scale() == 0 ? valor.longValueExact() : valor.scaleByPowerOfTen(valor.scale()).longValueExact();
+    }
+
+    /**
+     * Multiplica dois valores escalados e arredonda o produto para a escala informada.
+     *
+     * @param valor O valor inteiro do primeiro operando.
+     * @param escalaValor As casas decimais do primeiro operando.
+     * @param taxa O valor inteiro do segundo operando.
+     * @param escalaTaxa As casas decimais do segundo operando.
+     * @param escala As casas decimais do resultado.
+     * @param arredondamento O modo de arredondamento.
+     * @return O valor inteiro do produto, com a escala informada.
+     * @throws ArithmeticException se o resultado não couber em um {@code long}, ou se o arredondamento for
+     *         {@link RoundingMode#UNNECESSARY} e o produto tiver mais casas decimais do que a escala.
+     */
+    public static long multiplicarEscalado(long valor, int escalaValor, long taxa, int escalaTaxa, int escala,
+                                           RoundingMode arredondamento) {
+        long alto = Math.multiplyHigh(valor, taxa);
+        long produto = valor * taxa;
+        long diferenca = (long) escalaValor + escalaTaxa - escala;
+        if (alto != produto >> 63) {
+            return dividirLongo(alto, produto, diferenca, arredondamento);
+        }
+
+        if (diferenca <= 0) {
+            if (produto == 0) {
+                return 0L;
+            }
+            try {
+                return Math.multiplyExact(produto, potenciaDez(-diferenca));
+            } catch (ArithmeticException e) {
+                throw new EstouroPontoFixo();
+            }
+        }
+        return dividir(produto, potenciaDez(diferenca), arredondamento);
+    }
+
+    /**
+     * Divide o produto pela potência de dez, aplicando o modo de arredondamento ao resto.
+     */
+    private static long dividir(long produto, long divisor, RoundingMode arredondamento) {
+        return arredondar(produto / divisor, Math.abs(produto % divisor), divisor, produto < 0 ? -1 : 1,
+                arredondamento);
+    }
+
+    /**
+     * Divide o produto de 128 bits, formado pelas metades alta e baixa de {@link Math#multiplyHigh(long, long)},
+     * pela potência de dez. A divisão é feita em duas etapas de até nove casas, cada uma por palavras de 32 bits,
+     * de modo que nenhum passo intermediário ultrapasse um {@code long}.
+     */
+    private static long dividirLongo(long alto, long baixo, long diferenca, RoundingMode arredondamento) {
+        if (diferenca <= 0 || diferenca > MAXIMO_DIGITOS) {
+            throw new EstouroPontoFixo();
+        }
+
+        int sinal = alto < 0 ? -1 : 1;
+        if (sinal < 0) {
+            baixo = -baixo;
+            alto = ~alto + (baixo == 0 ? 1 : 0);
+        }
+
+        long divisorPrimeiro = POTENCIAS_DEZ[(int) Math.min(diferenca, 9)];
+        long divisorSegundo = POTENCIAS_DEZ[(int) Math.max(diferenca - 9, 0)];
+        long resto = 0;
+        long pesoResto = 1;
+        for (int etapa = 0; etapa < 2; etapa++) {
+            long divisor = etapa == 0 ? divisorPrimeiro : divisorSegundo;
+            long parcial = 0;
+            long quocienteAlto = 0;
+            long quocienteBaixo = 0;
+            for (int deslocamento = 96; deslocamento >= 0; deslocamento -= 32) {
+                long palavra = (deslocamento >= 64 ? alto >>> (deslocamento - 64) : baixo >>> deslocamento)
+                        & 0xFFFFFFFFL;
+                long atual = (parcial << 32) | palavra;
+                long digito = atual / divisor;
+                parcial = atual % divisor;
+                if (deslocamento >= 64) {
+                    quocienteAlto |= digito << (deslocamento - 64);
+                } else {
+                    quocienteBaixo |= digito << deslocamento;
+                }
+            }
+            alto = quocienteAlto;
+            baixo = quocienteBaixo;
+            resto += parcial * pesoResto;
+            pesoResto *= divisor;
+        }
+
+        if (alto != 0 || baixo < 0 || baixo == Long.MAX_VALUE) {
+            throw new EstouroPontoFixo();
+        }
+        return arredondar(sinal * baixo, resto, POTENCIAS_DEZ[(int) diferenca], sinal, arredondamento);
+    }
+
+    /**
+     * Aplica o modo de arredondamento ao quociente truncado, a partir do valor absoluto do resto da divisão.
+     */
+    private static long arredondar(long quociente, long restoAbsoluto, long divisor, int sinal,
+                                   RoundingMode arredondamento) {
+        if (restoAbsoluto == 0) {
+            return quociente;
+        }
+
+        int comparacaoMetade = Long.compare(restoAbsoluto, divisor - restoAbsoluto);
+
+        boolean incrementar = switch (arredondamento) {
+            case UP -> true;
+            case DOWN -> false;
+            case CEILING -> sinal > 0;
+            case FLOOR -> sinal < 0;
+            case HALF_UP -> comparacaoMetade >= 0;
+            case HALF_DOWN -> comparacaoMetade > 0;
+            case HALF_EVEN -> comparacaoMetade > 0 || comparacaoMetade == 0 && (quociente & 1L) != 0;
+            case UNNECESSARY -> throw new ArithmeticException("Arredondamento necessário");
+        };
+        return incrementar ? quociente + sinal : quociente;
+    }
+
+    private static long potenciaDez(long expoente) {
+        if (expoente > MAXIMO_DIGITOS) {
+            throw new EstouroPontoFixo();
+        }
+        return POTENCIAS_DEZ[(int) expoente];
+    }
+
+    /**
+     * Indica que o cálculo não cabe em um {@code long}. Não preenche a pilha, pois é usada apenas para desviar
+     * para o cálculo com {@link BigDecimal}.
+     */
+    private static final class EstouroPontoFixo extends ArithmeticException {
+
+        private static final long serialVersionUID = 1L;
+
+        private EstouroPontoFixo() {
+            super("O resultado não cabe em ponto fixo");
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
+}
@@ -1,8 +1,10 @@
 package br.dev.andersonandrade.moedaOne.uteis;
 
 import java.io.File;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.util.Locale;
@@ -25,6 +27,8 @@ import java.util.logging.SimpleFormatter;
 public final class ConversorDatas {
 
     private static final String LOG_PATH = "logs/dataconversao.log";
+    private static final DateTimeFormatter FORMATO_API =
+            DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
     private static Logger logger;
 
     static {
@@ -47,16 +51,35 @@ public final class ConversorDatas {
             throw new IllegalArgumentException("A string de data não pode ser nula ou vazia.");
         }
 
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("EEE, dd MMM yyyy HH:mm:ss Z", Locale.ENGLISH);
-
         try {
-            return OffsetDateTime.parse(data, formatter).toLocalDateTime();
+            return OffsetDateTime.parse(data, FORMATO_API).toLocalDateTime();
         } catch (DateTimeParseException e) {
             logger.log(Level.SEVERE, "Erro ao converter a string de data: " + data + " - " + e.getMessage());
             throw new IllegalArgumentException("Formato de data inválido. A data fornecida deve estar no formato correto.");
         }
     }
 
+    /**
+     * Converte um instante em segundos desde a época Unix para um {@code LocalDateTime} em UTC, o mesmo valor
+     * obtido de {@link #converterDataAPI(String)} para a data em texto correspondente da API, sem interpretar texto.
+     *
+     * @param unix O instante em segundos desde a época Unix.
+     * @return O objeto {@code LocalDateTime} correspondente ao instante, em UTC.
+     */
+    public static LocalDateTime converterDataUnix(long unix) {
+        return LocalDateTime.ofEpochSecond(unix, 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Formata um instante em segundos desde a época Unix no formato de data da API.
+     *
+     * @param unix O instante em segundos desde a época Unix, ou {@code null}.
+     * @return A data no formato "EEE, dd MMM yyyy HH:mm:ss Z", ou {@code null} se o instante for nulo.
+     */
+    public static String formatarDataAPI(Long unix) {
+        return unix == null ? null : FORMATO_API.format(Instant.ofEpochSecond(unix).atOffset(ZoneOffset.UTC));
+    }
+
     /**
      * Inicializa o logger para registrar eventos e erros relacionados à conversão de datas.
      * Este método cria o diretório de logs se ele não existir e configura o logger para
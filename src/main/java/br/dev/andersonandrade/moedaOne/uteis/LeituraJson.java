@@ -0,0 +1,64 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+/**
+ * A classe {@code LeituraJson} reúne as leituras de valores opcionais usadas pelos adaptadores de JSON.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class LeituraJson {
+
+    private LeituraJson() {
+    }
+
+    /**
+     * Lê um texto ou {@code null}.
+     *
+     * @param reader O leitor posicionado no valor.
+     * @return O texto lido.
+     * @throws IOException se o valor não puder ser lido.
+     */
+    static String texto(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextString();
+    }
+
+    /**
+     * Lê um número inteiro ou {@code null}.
+     *
+     * @param reader O leitor posicionado no valor.
+     * @return O número lido.
+     * @throws IOException se o valor não puder ser lido.
+     */
+    static Long inteiro(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return reader.nextLong();
+    }
+
+    /**
+     * Lê um número decimal ou {@code null}, sem passar por {@code double}.
+     *
+     * @param reader O leitor posicionado no valor.
+     * @return O número lido.
+     * @throws IOException se o valor não puder ser lido.
+     */
+    static BigDecimal decimal(JsonReader reader) throws IOException {
+        if (reader.peek() == JsonToken.NULL) {
+            reader.nextNull();
+            return null;
+        }
+        return new BigDecimal(reader.nextString());
+    }
+}
@@ -69,6 +69,10 @@ public class Principal extends JFrame {
                         jLValorConvertido.setText(moedadDestino.getPais() + " : " + c.getQuantidadeMoedasDestino().toString());
                         jLDataTransacao.setText("Data Transação: " + c.getDataTransacao().format(DateTimeFormatter.ofPattern("dd-MM-YYYY")).toString());
                         jLValorOrigem.setText(moedaOrigem.getPais() + " : " + c.getQuantidadeMoedasOrigem().toString());
+                        if (c.isTaxaDesatualizada()) {
+                            JOptionPane.showMessageDialog(Principal.this,
+                                    "Serviço de câmbio indisponível, a conversão usou a última taxa conhecida.");
+                        }
                     });
                 }
             }
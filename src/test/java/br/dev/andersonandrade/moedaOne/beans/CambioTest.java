@@ -5,7 +5,9 @@ import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
 import org.junit.jupiter.api.Test;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.time.LocalDateTime;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -107,14 +109,15 @@ public class CambioTest {
 
     @Test
     void testEqualsEHashCode() {
+        long agora = System.currentTimeMillis() / 1000L;
         // Configuração de MoedaRecord simulados
         MoedaRecord record1 = new MoedaRecord(
                 "result",
                 "documentation",
                 "termsOfUse",
-                System.currentTimeMillis() / 1000L,
+                agora,
                  dataHoje,
-                System.currentTimeMillis() / 1000L + 3600,
+                agora + 3600,
                 dataAmanha,
                 "USD",
                 "BRL",
@@ -125,9 +128,9 @@ public class CambioTest {
                 "result",
                 "documentation",
                 "termsOfUse",
-                System.currentTimeMillis() / 1000L,
+                agora,
                 dataHoje,
-                System.currentTimeMillis() / 1000L + 3600,
+                agora + 3600,
                 dataAmanha,
                 "USD",
                 "BRL",
@@ -171,4 +174,45 @@ public class CambioTest {
                 '}';
         assertEquals(expected, cambio.toString());
     }
+
+    @Test
+    void testConversaoIgualABigDecimalParaTodasAsMoedas() {
+        Random random = new Random(20241012L);
+        long agora = System.currentTimeMillis() / 1000L;
+
+        for (Moeda moeda : Moeda.values()) {
+            for (int i = 0; i < 500; i++) {
+                BigDecimal taxa = BigDecimal.valueOf(1 + random.nextLong(999_999_999_999L), random.nextInt(13));
+                BigDecimal quantidade = BigDecimal.valueOf(random.nextLong(10_000_000_000L), random.nextInt(5));
+                MoedaRecord record = new MoedaRecord("success", null, null, agora, null, agora + 3600, null,
+                        "USD", moeda.name(), taxa, null);
+
+                Cambio cambio = new Cambio(quantidade, record);
+
+                assertEquals(quantidade.multiply(taxa).setScale(2, RoundingMode.HALF_DOWN),
+                        cambio.getQuantidadeMoedasDestino(), moeda + ": " + quantidade + " x " + taxa);
+                assertEquals(quantidade.setScale(2, RoundingMode.HALF_DOWN), cambio.getQuantidadeMoedasOrigem());
+            }
+        }
+    }
+
+    @Test
+    void testTaxaEscaladaIgualAoRegistro() {
+        long agora = System.currentTimeMillis() / 1000L;
+        BigDecimal taxa = new BigDecimal("5.601234567891");
+        MoedaRecord record = new MoedaRecord("success", null, null, agora, null, agora + 3600, null,
+                "USD", "BRL", taxa, null);
+
+        for (String quantidade : new String[]{"130", "0.005", "1E+3", "92233720368547758.07", "1E+30"}) {
+            Cambio esperado = new Cambio(new BigDecimal(quantidade), record);
+            Cambio escalado = new Cambio(new BigDecimal(quantidade), record, 5601234567891L, 12, false);
+            Cambio semPontoFixo = new Cambio(new BigDecimal(quantidade), record, 0L, Cambio.SEM_PONTO_FIXO, false);
+
+            assertEquals(new BigDecimal(quantidade).multiply(taxa).setScale(2, RoundingMode.HALF_DOWN),
+                    escalado.getQuantidadeMoedasDestino(), quantidade);
+            assertEquals(esperado, escalado);
+            assertEquals(esperado, semPontoFixo);
+            assertEquals(esperado.hashCode(), semPontoFixo.hashCode());
+        }
+    }
 }
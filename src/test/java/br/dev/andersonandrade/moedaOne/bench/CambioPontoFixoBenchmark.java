@@ -0,0 +1,99 @@
+package br.dev.andersonandrade.moedaOne.bench;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a conversão de uma quantidade com {@code multiply} e {@code setScale} de {@link BigDecimal}, como era
+ * feita antes, com a conversão em ponto fixo de {@link AritmeticaPontoFixo} e de {@link Cambio}: com a taxa
+ * decomposta a cada conversão, a partir do registro, e com a taxa já decomposta pela fonte, como fazem a
+ * matriz de taxas e a conversão em lote. As quantidades têm de zero a quatro casas decimais e a taxa tem doze.
+ * <p>
+ * Execução: {@code mvn test-compile} e depois
+ * {@code java -cp target/test-classes:target/classes:<classpath de teste> org.openjdk.jmh.Main CambioPontoFixo
+ * -prof gc}; o perfil {@code gc} mostra os bytes alocados por conversão ({@code gc.alloc.rate.norm}).
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CambioPontoFixoBenchmark {
+
+    private static final int QUANTIDADES = 1024;
+    private static final BigDecimal TAXA = new BigDecimal("5.601234567891");
+
+    private final BigDecimal[] quantidades = new BigDecimal[QUANTIDADES];
+    private final long[] quantidadesEscaladas = new long[QUANTIDADES];
+    private final int[] escalasQuantidades = new int[QUANTIDADES];
+    private MoedaRecord registro;
+    private long taxaEscalada;
+    private int escalaTaxa;
+    private int proxima;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(20241012L);
+        for (int i = 0; i < QUANTIDADES; i++) {
+            quantidades[i] = BigDecimal.valueOf(random.nextLong(10_000_000_000L), random.nextInt(5));
+            quantidadesEscaladas[i] = quantidades[i].unscaledValue().longValueExact();
+            escalasQuantidades[i] = quantidades[i].scale();
+        }
+        long agora = System.currentTimeMillis() / 1000L;
+        registro = new MoedaRecord("success", null, null, agora, null, agora + 86_400, null, "USD", "BRL", TAXA,
+                null);
+        taxaEscalada = AritmeticaPontoFixo.valorEscalado(TAXA);
+        escalaTaxa = TAXA.scale();
+    }
+
+    private int proxima() {
+        return proxima = (proxima + 1) & (QUANTIDADES - 1);
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        return quantidades[proxima()].multiply(TAXA).setScale(2, RoundingMode.HALF_DOWN);
+    }
+
+    @Benchmark
+    public BigDecimal multiplicarBigDecimal() {
+        return AritmeticaPontoFixo.multiplicar(quantidades[proxima()], TAXA, 2, RoundingMode.HALF_DOWN);
+    }
+
+    @Benchmark
+    public long multiplicarEscalado() {
+        int i = proxima();
+        return AritmeticaPontoFixo.multiplicarEscalado(quantidadesEscaladas[i], escalasQuantidades[i],
+                taxaEscalada, escalaTaxa, 2, RoundingMode.HALF_DOWN);
+    }
+
+    @Benchmark
+    public Cambio cambioRegistro() {
+        return new Cambio(quantidades[proxima()], registro);
+    }
+
+    @Benchmark
+    public Cambio cambioTaxaEscalada() {
+        return new Cambio(quantidades[proxima()], registro, taxaEscalada, escalaTaxa, false);
+    }
+}
@@ -0,0 +1,193 @@
+package br.dev.andersonandrade.moedaOne.bench;
+
+import br.dev.andersonandrade.moedaOne.controller.ServidorConversao;
+import br.dev.andersonandrade.moedaOne.model.ConexaoModel;
+import br.dev.andersonandrade.moedaOne.model.ConversaoModel;
+import br.dev.andersonandrade.moedaOne.model.ProvedorTaxasMemoria;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+
+import java.io.BufferedInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga do {@link ServidorConversao}: abre o número informado de conexões persistentes ao servidor, cada
+ * uma em uma thread virtual que envia uma conversão, espera a resposta e envia a próxima, e mede a vazão e a
+ * latência das respostas depois do aquecimento. O servidor roda no mesmo processo, com taxas em memória, de modo
+ * que o resultado mede o servidor e não a API de taxas.
+ * <p>
+ * Execução: {@code mvn test-compile} e depois
+ * {@code java --add-modules jdk.incubator.vector -cp target/test-classes:target/classes:<classpath de teste>
+ * br.dev.andersonandrade.moedaOne.bench.CargaServidorConversao [conexões] [segundos]}, por padrão 10000 conexões
+ * por 30 segundos. Cada conexão usa dois descritores de arquivo no processo, um de cada lado, e o limite
+ * ({@code ulimit -n}) precisa comportá-los. Se o limite não puder ser aumentado, o servidor pode rodar em outro
+ * processo, com {@code CargaServidorConversao --servidor <porta>}, e a carga é enviada a ele informando a porta
+ * como terceiro argumento.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class CargaServidorConversao {
+
+    private static final long AQUECIMENTO_NANOS = TimeUnit.SECONDS.toNanos(5);
+    private static final int MICROS_POR_FAIXA = 10;
+    private static final int FAIXAS = 1_000_000;
+    private static final String[] DESTINOS = {"BRL", "ARS"};
+
+    private final AtomicLongArray faixas = new AtomicLongArray(FAIXAS + 1);
+    private final LongAdder respostas = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && args[0].equals("--servidor")) {
+            int porta = args.length > 1 ? Integer.parseInt(args[1]) : 0;
+            servir(porta, servidor -> {
+                System.out.printf("Servidor na porta %d%n", servidor.porta());
+                new CountDownLatch(1).await();
+            });
+            return;
+        }
+
+        int conexoes = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int segundos = args.length > 1 ? Integer.parseInt(args[1]) : 30;
+        if (args.length > 2) {
+            new CargaServidorConversao().executar(Integer.parseInt(args[2]), conexoes, segundos);
+            return;
+        }
+        servir(0, servidor -> new CargaServidorConversao().executar(servidor.porta(), conexoes, segundos));
+    }
+
+    /**
+     * Inicia o servidor com taxas em memória na porta informada e executa a ação enquanto ele estiver ativo.
+     */
+    private static void servir(int porta, Acao acao) throws Exception {
+        Path diretorio = Files.createTempDirectory("carga");
+        long agora = System.currentTimeMillis() / 1000L;
+        ProvedorTaxasMemoria provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 86_400, null,
+                "USD", Map.of("USD", BigDecimal.ONE, "ARS", new BigDecimal("970"), "BRL", new BigDecimal("5.60"))));
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+
+        try (ConexaoModel conexao = new ConexaoModel(configuracao, provedor, diretorio);
+             ServidorConversao servidor = new ServidorConversao(new ConversaoModel(conexao),
+                     new InetSocketAddress(InetAddress.getLoopbackAddress(), porta))) {
+            conexao.iniciar();
+            servidor.iniciar();
+            acao.executar(servidor);
+        }
+    }
+
+    private interface Acao {
+        void executar(ServidorConversao servidor) throws Exception;
+    }
+
+    private void executar(int porta, int conexoes, int segundos) {
+        long inicio = System.nanoTime();
+        long inicioMedicao = inicio + AQUECIMENTO_NANOS;
+        long fim = inicioMedicao + TimeUnit.SECONDS.toNanos(segundos);
+
+        try (ExecutorService clientes = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < conexoes; i++) {
+                int cliente = i;
+                clientes.submit(() -> cliente(porta, cliente, inicioMedicao, fim));
+            }
+        }
+
+        long total = respostas.sum();
+        System.out.printf("Conexões: %d, respostas: %d, falhas: %d%n", conexoes, total, falhas.sum());
+        System.out.printf("Vazão: %.0f respostas/s%n", total / (double) segundos);
+        System.out.printf("Latência: p50 %s, p90 %s, p99 %s, p99,9 %s%n",
+                percentil(total, 0.50), percentil(total, 0.90), percentil(total, 0.99), percentil(total, 0.999));
+    }
+
+    private void cliente(int porta, int cliente, long inicioMedicao, long fim) {
+        byte[] requisicao = ("GET /converter?quantidade=" + (cliente % 1000 + 1) + "&origem=USD&destino="
+                + DESTINOS[cliente % DESTINOS.length] + " HTTP/1.1\r\nHost: localhost\r\n\r\n")
+                .getBytes(StandardCharsets.US_ASCII);
+
+        try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), porta)) {
+            socket.setTcpNoDelay(true);
+            OutputStream saida = socket.getOutputStream();
+            InputStream entrada = new BufferedInputStream(socket.getInputStream());
+
+            for (long envio = System.nanoTime(); envio < fim; envio = System.nanoTime()) {
+                saida.write(requisicao);
+                saida.flush();
+                int status = lerResposta(entrada);
+                if (envio >= inicioMedicao) {
+                    if (status == 200) {
+                        registrar(System.nanoTime() - envio);
+                        respostas.increment();
+                    } else {
+                        falhas.increment();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            falhas.increment();
+        }
+    }
+
+    /**
+     * Lê uma resposta HTTP/1.1 com {@code Content-Length}, deixando a conexão pronta para a próxima.
+     */
+    private static int lerResposta(InputStream entrada) throws IOException {
+        String statusLinha = lerLinha(entrada);
+        int status = Integer.parseInt(statusLinha.substring(9, 12));
+        long tamanho = 0;
+        for (String cabecalho = lerLinha(entrada); !cabecalho.isEmpty(); cabecalho = lerLinha(entrada)) {
+            if (cabecalho.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                tamanho = Long.parseLong(cabecalho.substring(15).strip());
+            }
+        }
+        entrada.skipNBytes(tamanho);
+        return status;
+    }
+
+    private static String lerLinha(InputStream entrada) throws IOException {
+        StringBuilder linha = new StringBuilder();
+        for (int b = entrada.read(); b != '\n'; b = entrada.read()) {
+            if (b < 0) {
+                throw new EOFException("Conexão encerrada pelo servidor.");
+            }
+            if (b != '\r') {
+                linha.append((char) b);
+            }
+        }
+        return linha.toString();
+    }
+
+    private void registrar(long nanos) {
+        faixas.incrementAndGet((int) Math.min(FAIXAS, nanos / 1000 / MICROS_POR_FAIXA));
+    }
+
+    private String percentil(long total, double fracao) {
+        long alvo = (long) Math.ceil(total * fracao);
+        long acumulado = 0;
+        for (int i = 0; i <= FAIXAS; i++) {
+            acumulado += faixas.get(i);
+            if (acumulado >= alvo && acumulado > 0) {
+                return i == FAIXAS ? "> 10 s" : String.format("%.2f ms", (i + 1) * MICROS_POR_FAIXA / 1000.0);
+            }
+        }
+        return "-";
+    }
+}
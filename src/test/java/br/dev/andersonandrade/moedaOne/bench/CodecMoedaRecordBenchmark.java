@@ -0,0 +1,118 @@
+package br.dev.andersonandrade.moedaOne.bench;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a leitura das respostas da API com os adaptadores sem reflexão e com a associação reflexiva do Gson
+ * usada anteriormente. Os registros reflexivos abaixo têm a mesma estrutura de {@link MoedaRecord} e
+ * {@link TabelaTaxasRecord}, mas sem a anotação {@code @JsonAdapter}.
+ * <p>
+ * Execução: {@code mvn test-compile} e depois
+ * {@code java -cp target/test-classes:target/classes:<classpath de teste> org.openjdk.jmh.Main CodecMoedaRecord}.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+public class CodecMoedaRecordBenchmark {
+
+    public record MoedaRecordReflexivo(String result, String documentation, String termsOfUse,
+                                       Long timeLastUpdateUnix, String timeLastUpdateUtc, Long timeNextUpdateUnix,
+                                       String timeNextUpdateUtc, String baseCode, String targetCode,
+                                       BigDecimal conversionRate, BigDecimal conversionResult) {
+    }
+
+    public record TabelaTaxasReflexiva(String result, String documentation, String termsOfUse,
+                                       Long timeLastUpdateUnix, String timeLastUpdateUtc, Long timeNextUpdateUnix,
+                                       String timeNextUpdateUtc, String baseCode,
+                                       Map<String, BigDecimal> conversionRates) {
+    }
+
+    private static final String RESPOSTA_PAR = """
+            {"result":"success","documentation":"https://www.exchangerate-api.com/docs",\
+            "terms_of_use":"https://www.exchangerate-api.com/terms","time_last_update_unix":1728604801,\
+            "time_last_update_utc":"Fri, 11 Oct 2024 00:00:01 +0000","time_next_update_unix":1728691201,\
+            "time_next_update_utc":"Sat, 12 Oct 2024 00:00:01 +0000","base_code":"USD","target_code":"BRL",\
+            "conversion_rate":5.6012}""";
+
+    private Gson gson;
+    private String respostaTabela;
+
+    @Setup
+    public void setUp() {
+        gson = new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create();
+
+        StringBuilder taxas = new StringBuilder();
+        String[] codigos = Locale.getISOCountries();
+        for (int i = 0; i < 160; i++) {
+            taxas.append(i == 0 ? "" : ",").append('"').append(codigos[i]).append("X\":").append(1 + i * 0.731);
+        }
+        respostaTabela = "{\"result\":\"success\",\"documentation\":\"https://www.exchangerate-api.com/docs\","
+                + "\"terms_of_use\":\"https://www.exchangerate-api.com/terms\",\"time_last_update_unix\":1728604801,"
+                + "\"time_last_update_utc\":\"Fri, 11 Oct 2024 00:00:01 +0000\",\"time_next_update_unix\":1728691201,"
+                + "\"time_next_update_utc\":\"Sat, 12 Oct 2024 00:00:01 +0000\",\"base_code\":\"USD\","
+                + "\"conversion_rates\":{" + taxas + "}}";
+    }
+
+    @Benchmark
+    public MoedaRecord parAdaptador() {
+        return gson.fromJson(RESPOSTA_PAR, MoedaRecord.class);
+    }
+
+    @Benchmark
+    public MoedaRecordReflexivo parReflexivo() {
+        return gson.fromJson(RESPOSTA_PAR, MoedaRecordReflexivo.class);
+    }
+
+    @Benchmark
+    public TabelaTaxasRecord tabelaAdaptador() {
+        return gson.fromJson(respostaTabela, TabelaTaxasRecord.class);
+    }
+
+    @Benchmark
+    public TabelaTaxasReflexiva tabelaReflexiva() {
+        return gson.fromJson(respostaTabela, TabelaTaxasReflexiva.class);
+    }
+
+    @Benchmark
+    public MoedaRecord parAdaptadorPartidaFria() {
+        return new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create()
+                .fromJson(RESPOSTA_PAR, MoedaRecord.class);
+    }
+
+    @Benchmark
+    public MoedaRecordReflexivo parReflexivoPartidaFria() {
+        return new GsonBuilder()
+                .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+                .create()
+                .fromJson(RESPOSTA_PAR, MoedaRecordReflexivo.class);
+    }
+}
@@ -1,9 +1,24 @@
 package br.dev.andersonandrade.moedaOne.controller;
 
 import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.model.ProvedorTaxasMemoria;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import br.dev.andersonandrade.moedaOne.model.ConexaoModel;
-import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Anderson Andrade Dev
@@ -11,13 +26,63 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
  */
 public class HomeControllerTest {
 
+    private Path diretorio;
+    private ProvedorTaxasMemoria provedor;
+    private ConexaoModel conexao;
+
     public HomeControllerTest() {
     }
 
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("conexao");
+
+        long agora = System.currentTimeMillis() / 1000L;
+        provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 3600, null, "USD",
+                Map.of("USD", BigDecimal.ONE, "ARS", new BigDecimal("970"), "BRL", new BigDecimal("5.60"))));
+
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        conexao = new ConexaoModel(configuracao, provedor, diretorio);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        conexao.encerrar();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
     @Test
     public void testaConexaoComAPI(){
 
-        var sucesso = ConexaoModel.buscaValoreMoedas(Moeda.ARS,Moeda.BRL);
-        assertTrue(true);
+        conexao.iniciar();
+        Optional<MoedaRecord> sucesso = conexao.buscaValoreMoedas(Moeda.ARS,Moeda.BRL);
+
+        assertTrue(sucesso.isPresent());
+        assertEquals(0, new BigDecimal("0.00577319587629").compareTo(sucesso.get().conversionRate()));
+        assertEquals(1L, provedor.buscas());
+
+        conexao.buscaValoreMoedas(Moeda.BRL, Moeda.ARS);
+        conexao.buscaValoreMoedas(Moeda.ARS, Moeda.BRL);
+        assertEquals(1L, provedor.buscas());
+    }
+
+    @Test
+    public void testaCicloDeVida(){
+
+        assertThrows(IllegalStateException.class, () -> conexao.buscaValoreMoedas(Moeda.ARS, Moeda.BRL));
+
+        conexao.iniciar();
+        conexao.iniciar();
+        assertTrue(conexao.buscaValoreMoedas(Moeda.USD, Moeda.BRL).isPresent());
+
+        conexao.encerrar();
+        assertThrows(IllegalStateException.class, () -> conexao.buscaValoreMoedas(Moeda.USD, Moeda.BRL));
+        assertThrows(IllegalStateException.class, conexao::iniciar);
     }
 }
@@ -0,0 +1,124 @@
+package br.dev.andersonandrade.moedaOne.controller;
+
+import br.dev.andersonandrade.moedaOne.model.ConexaoModel;
+import br.dev.andersonandrade.moedaOne.model.ConversaoModel;
+import br.dev.andersonandrade.moedaOne.model.ProvedorTaxasMemoria;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ServidorConversaoTest {
+
+    private Path diretorio;
+    private ConexaoModel conexao;
+    private ServidorConversao servidor;
+    private HttpClient cliente;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("servidor");
+
+        long agora = System.currentTimeMillis() / 1000L;
+        ProvedorTaxasMemoria provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 3600, null, "USD",
+                Map.of("USD", BigDecimal.ONE, "ARS", new BigDecimal("970"), "BRL", new BigDecimal("5.60"))));
+
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        conexao = new ConexaoModel(configuracao, provedor, diretorio);
+        conexao.iniciar();
+
+        servidor = new ServidorConversao(new ConversaoModel(conexao, 3),
+                new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 256);
+        servidor.iniciar();
+        cliente = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        servidor.encerrar();
+        conexao.encerrar();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private URI uri(String caminho) {
+        return URI.create("http://localhost:" + servidor.porta() + caminho);
+    }
+
+    private HttpResponse<String> get(String caminho) throws Exception {
+        return cliente.send(HttpRequest.newBuilder(uri(caminho)).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String caminho, String corpo) throws Exception {
+        return cliente.send(HttpRequest.newBuilder(uri(caminho)).POST(HttpRequest.BodyPublishers.ofString(corpo))
+                .build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void testConversaoUnica() throws Exception {
+        HttpResponse<String> resposta = get("/converter?quantidade=10&origem=USD&destino=BRL");
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("{\"origem\":\"USD\",\"destino\":\"BRL\",\"quantidade\":10,\"valor\":56.00}", resposta.body());
+        assertTrue(resposta.headers().firstValue("Content-Type").orElse("").startsWith("application/json"));
+
+        assertEquals(404, get("/converter?quantidade=10&origem=USD&destino=JPY").statusCode());
+        assertEquals(400, get("/converter?quantidade=10&origem=USD&destino=XYZ").statusCode());
+        assertEquals(400, get("/converter?quantidade=1e999999999&origem=USD&destino=BRL").statusCode());
+        assertEquals(400, get("/converter?origem=USD&destino=BRL").statusCode());
+        assertEquals(404, get("/converterx").statusCode());
+        assertEquals(405, post("/converter", "").statusCode());
+    }
+
+    @Test
+    void testConversaoEmLote() throws Exception {
+        HttpResponse<String> resposta = post("/converter/lote", "[{\"quantidade\":10,\"origem\":\"USD\","
+                + "\"destino\":\"BRL\"},{\"quantidade\":1,\"origem\":\"USD\",\"destino\":\"JPY\"},"
+                + "{\"quantidade\":\"2.5\",\"origem\":\"usd\",\"destino\":\"ARS\"}]");
+
+        assertEquals(200, resposta.statusCode());
+        assertEquals("[{\"origem\":\"USD\",\"destino\":\"BRL\",\"quantidade\":10,\"valor\":56.00},null,"
+                + "{\"origem\":\"USD\",\"destino\":\"ARS\",\"quantidade\":2.5,\"valor\":2425.00}]", resposta.body());
+
+        HttpResponse<String> invalido = post("/converter/lote", "[{\"quantidade\":1,\"origem\":\"USD\"}]");
+        assertEquals(400, invalido.statusCode());
+        assertEquals("{\"erro\":\"Pedido 0: A moeda de destino é obrigatória.\"}", invalido.body());
+        assertEquals(400, post("/converter/lote", "{").statusCode());
+        assertEquals(405, get("/converter/lote").statusCode());
+    }
+
+    @Test
+    void testLimites() throws Exception {
+        String pedido = "{\"quantidade\":1,\"origem\":\"USD\",\"destino\":\"BRL\"}";
+        assertEquals(413, post("/converter/lote", "[" + String.join(",", pedido, pedido, pedido, pedido) + "]")
+                .statusCode());
+        assertEquals(413, post("/converter/lote", "[\"" + "x".repeat(300) + "\"]").statusCode());
+
+        assertEquals(200, get("/converter?quantidade=1&origem=USD&destino=BRL").statusCode());
+    }
+}
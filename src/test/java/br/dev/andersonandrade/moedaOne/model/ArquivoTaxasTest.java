@@ -0,0 +1,167 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.uteis.ConversorDatas;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ArquivoTaxasTest {
+
+    private Path diretorio;
+    private Path caminho;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("taxas");
+        caminho = diretorio.resolve("taxas.bin");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path arquivo : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(arquivo);
+            }
+        }
+    }
+
+    @Test
+    void testGravaELeAposReabrir() throws Exception {
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            arquivo.gravar(List.of(registro("USD", "BRL", "5.6012").criar(), registro("USD", "XYZ", "1.0").criar()));
+        }
+
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            List<MoedaRecord> registros = arquivo.ler();
+            assertEquals(1, registros.size());
+
+            MoedaRecord lido = arquivo.registro(Moeda.USD, Moeda.BRL);
+            assertEquals(new BigDecimal("5.6012"), lido.conversionRate());
+            assertEquals(1728604801L, (long) lido.timeLastUpdateUnix());
+            assertEquals(1728691201L, (long) lido.timeNextUpdateUnix());
+            assertEquals("Fri, 11 Oct 2024 00:00:01 +0000", lido.timeLastUpdateUtc());
+            assertNotNull(ConversorDatas.converterDataAPI(lido.timeNextUpdateUtc()));
+            assertNull(arquivo.registro(Moeda.BRL, Moeda.USD));
+        }
+    }
+
+    @Test
+    void testTaxaComMuitasCasasUsaPontoFixo() throws Exception {
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            arquivo.gravar(List.of(registro("BRL", "USD", "0.178532678901234567").criar(),
+                    registro("USD", "VES", "36500000000").criar()));
+
+            assertEquals(new BigDecimal("0.178532678901"), arquivo.registro(Moeda.BRL, Moeda.USD).conversionRate());
+            assertEquals(0, new BigDecimal("36500000000")
+                    .compareTo(arquivo.registro(Moeda.USD, Moeda.VES).conversionRate()));
+        }
+    }
+
+    @Test
+    void testArquivoIncompativelEhPreservadoESubstituido() throws Exception {
+        Files.writeString(caminho, "[{\"base_code\": \"USD\"}]");
+
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            assertTrue(arquivo.ler().isEmpty());
+        }
+        assertTrue(Files.exists(diretorio.resolve("taxas.bin.invalido")));
+    }
+
+    @Test
+    void testExportarJson() throws Exception {
+        Path json = diretorio.resolve("taxas.json");
+
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            arquivo.gravar(List.of(registro("USD", "BRL", "5.6012").criar()));
+            arquivo.exportarJson(json, new Gson());
+        }
+
+        String conteudo = Files.readString(json);
+        assertTrue(conteudo.contains("\"base_code\":\"USD\""));
+        assertTrue(conteudo.contains("5.6012"));
+    }
+
+    @Test
+    void testDuasInstanciasCompartilhamPosicoesEReservas() throws Exception {
+        try (ArquivoTaxas primeira = ArquivoTaxas.abrir(caminho);
+             ArquivoTaxas segunda = ArquivoTaxas.abrir(caminho)) {
+            primeira.publicar(List.of(registro("USD", "BRL", "5.6012").criar()));
+            assertEquals(new BigDecimal("5.6012"), segunda.registro(Moeda.USD, Moeda.BRL).conversionRate());
+
+            FileLock reserva = primeira.reservarAtualizacao(Moeda.USD, Moeda.BRL);
+            assertNotNull(reserva);
+            assertNull(segunda.reservarAtualizacao(Moeda.USD, Moeda.BRL));
+
+            FileLock outroPar = segunda.reservarAtualizacao(Moeda.USD, Moeda.EUR);
+            assertNotNull(outroPar);
+            outroPar.release();
+
+            reserva.release();
+            FileLock depois = segunda.reservarAtualizacao(Moeda.USD, Moeda.BRL);
+            assertNotNull(depois);
+            depois.release();
+        }
+    }
+
+    @Test
+    void testNaoSubstituiTaxaMaisRecente() throws Exception {
+        MoedaRecord antiga = registro("USD", "BRL", "5.50").atualizadoEm(1728518401L).criar();
+
+        try (ArquivoTaxas arquivo = ArquivoTaxas.abrir(caminho)) {
+            assertEquals(1, arquivo.publicar(List.of(registro("USD", "BRL", "5.6012").criar())));
+            assertEquals(0, arquivo.publicar(List.of(antiga)));
+            assertEquals(new BigDecimal("5.6012"), arquivo.registro(Moeda.USD, Moeda.BRL).conversionRate());
+        }
+    }
+
+    @Test
+    void testLeituraConcorrenteNuncaVePosicaoParcial() throws Exception {
+        try (ArquivoTaxas escrita = ArquivoTaxas.abrir(caminho);
+             ArquivoTaxas leitura = ArquivoTaxas.abrir(caminho)) {
+            AtomicBoolean terminou = new AtomicBoolean();
+
+            CompletableFuture<Void> escritor = CompletableFuture.runAsync(() -> {
+                for (long i = 1; i <= 20_000; i++) {
+                    escrita.publicar(List.of(
+                            registro("USD", "BRL", Long.toString(i)).ultima(i).proxima(i + 1).criar()));
+                }
+                terminou.set(true);
+            });
+
+            long lidas = 0;
+            while (!terminou.get()) {
+                MoedaRecord lido = leitura.registro(Moeda.USD, Moeda.BRL);
+                if (lido != null) {
+                    long taxa = lido.conversionRate().longValueExact();
+                    assertEquals(taxa, (long) lido.timeLastUpdateUnix());
+                    assertEquals(taxa + 1, (long) lido.timeNextUpdateUnix());
+                    lidas++;
+                }
+            }
+            escritor.join();
+
+            assertTrue(lidas > 0);
+            assertEquals(new BigDecimal("20000"), leitura.registro(Moeda.USD, Moeda.BRL).conversionRate());
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class AtualizadorAntecipadoTest {
+
+    private static long agoraUnix() {
+        return System.currentTimeMillis() / 1000L;
+    }
+
+    @Test
+    void testAtualizaAntesDaProximaAtualizacao() throws InterruptedException {
+        try (AtualizadorAntecipado atualizador = new AtualizadorAntecipado(Duration.ofSeconds(60), Duration.ZERO, 1)) {
+            CountDownLatch executou = new CountDownLatch(1);
+            long proxima = agoraUnix() + 30;
+
+            atualizador.agendar("/latest/USD", proxima, () -> {
+                executou.countDown();
+                return CompletableFuture.completedFuture(proxima + 86400);
+            });
+
+            assertTrue(executou.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testVariacaoNuncaAgendaDepoisDaProximaAtualizacao() throws InterruptedException {
+        try (AtualizadorAntecipado atualizador =
+                     new AtualizadorAntecipado(Duration.ZERO, Duration.ofHours(1), 1)) {
+            CountDownLatch executou = new CountDownLatch(1);
+            long proxima = agoraUnix() + 2;
+
+            atualizador.agendar("/pair/USD/BRL", proxima, () -> {
+                executou.countDown();
+                return CompletableFuture.completedFuture(proxima + 86400);
+            });
+
+            assertTrue(executou.await(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void testChaveAgendadaUmaUnicaVez() throws InterruptedException {
+        try (AtualizadorAntecipado atualizador = new AtualizadorAntecipado(Duration.ofSeconds(1), Duration.ZERO, 1)) {
+            AtomicInteger execucoes = new AtomicInteger();
+            long proxima = agoraUnix() + 3600;
+
+            for (int i = 0; i < 100; i++) {
+                atualizador.agendar("/pair/USD/BRL", proxima, () -> {
+                    execucoes.incrementAndGet();
+                    return CompletableFuture.completedFuture(proxima + 86400);
+                });
+            }
+
+            assertTrue(atualizador.agendada("/pair/USD/BRL"));
+            assertEquals(0, execucoes.get());
+        }
+    }
+
+    @Test
+    void testEncerrarCancelaAgendamentos() {
+        AtualizadorAntecipado atualizador = new AtualizadorAntecipado(Duration.ofSeconds(1), Duration.ZERO, 1);
+        atualizador.agendar("/pair/EUR/BRL", agoraUnix() + 3600, () -> CompletableFuture.completedFuture(null));
+
+        atualizador.close();
+
+        assertFalse(atualizador.agendada("/pair/EUR/BRL"));
+        atualizador.agendar("/pair/EUR/BRL", agoraUnix() + 3600, () -> CompletableFuture.completedFuture(null));
+        assertFalse(atualizador.agendada("/pair/EUR/BRL"));
+    }
+}
@@ -0,0 +1,85 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class CacheTaxasTest {
+
+    @Test
+    void testBuscaPorOrigemEDestino() {
+        CacheTaxas cache = new CacheTaxas();
+        MoedaRecord usdBrl = registro("USD", "BRL", "5.60").proxima(1728691201L).criar();
+        MoedaRecord brlUsd = registro("BRL", "USD", "0.18").proxima(1728691201L).criar();
+
+        cache.atualizar(usdBrl);
+        cache.atualizar(brlUsd);
+
+        assertSame(usdBrl, cache.registro(Moeda.USD, Moeda.BRL));
+        assertSame(brlUsd, cache.registro(Moeda.BRL, Moeda.USD));
+        assertNull(cache.registro(Moeda.USD, Moeda.EUR));
+        assertNull(cache.registro(Moeda.EUR, Moeda.BRL));
+    }
+
+    @Test
+    void testRegistroMaisAntigoNaoSubstituiMaisNovo() {
+        CacheTaxas cache = new CacheTaxas();
+        MoedaRecord novo = registro("USD", "BRL", "5.70").proxima(1728777601L).criar();
+        MoedaRecord antigo = registro("USD", "BRL", "5.60").proxima(1728691201L).criar();
+        MoedaRecord semProximaAtualizacao = registro("USD", "BRL", "5.50").proxima(null).criar();
+
+        cache.atualizar(novo);
+        cache.atualizar(antigo);
+        cache.atualizar(semProximaAtualizacao);
+        assertSame(novo, cache.registro(Moeda.USD, Moeda.BRL));
+
+        MoedaRecord maisNovo = registro("USD", "BRL", "5.80").proxima(1728864001L).criar();
+        cache.atualizar(maisNovo);
+        assertSame(maisNovo, cache.registro(Moeda.USD, Moeda.BRL));
+    }
+
+    @Test
+    void testCarregarMantemOMaisRecenteDeCadaPar() {
+        CacheTaxas cache = new CacheTaxas();
+        MoedaRecord eur = registro("USD", "EUR", "0.91").proxima(1728691201L).criar();
+        MoedaRecord brlNovo = registro("USD", "BRL", "5.70").proxima(1728777601L).criar();
+
+        cache.carregar(List.of(brlNovo, eur, registro("USD", "BRL", "5.60").proxima(1728691201L).criar()));
+
+        assertSame(brlNovo, cache.registro(Moeda.USD, Moeda.BRL));
+        assertSame(eur, cache.registro(Moeda.USD, Moeda.EUR));
+        assertThrows(NullPointerException.class, () -> cache.atualizar(null));
+    }
+
+    @Test
+    void testConsultaNaoAlocaObjetos() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").proxima(1728691201L).criar());
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().threadId();
+
+        int encontrados = 0;
+        for (int i = 0; i < 100_000; i++) {
+            encontrados += cache.registro(Moeda.USD, Moeda.BRL) != null ? 1 : 0;
+        }
+        long antes = threads.getThreadAllocatedBytes(thread);
+        for (int i = 0; i < 100_000; i++) {
+            encontrados += cache.registro(Moeda.USD, Moeda.BRL) != null ? 1 : 0;
+        }
+        long alocados = threads.getThreadAllocatedBytes(thread) - antes;
+
+        assertEquals(200_000, encontrados);
+        assertTrue(alocados < 1024, "Bytes alocados: " + alocados);
+    }
+}
@@ -0,0 +1,242 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import br.dev.andersonandrade.moedaOne.records.TaxaInferidaRecord;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ConexaoModelTest {
+
+    private static final String THREAD_EXECUTOR = "executor-conversao";
+
+    private Path diretorio;
+    private ConexaoModel conexao;
+    private HttpServer servidor;
+    private final ExecutorService executor =
+            Executors.newSingleThreadExecutor(tarefa -> new Thread(tarefa, THREAD_EXECUTOR));
+    private final ExecutorService executorServidor = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("conexao");
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (conexao != null) {
+            conexao.encerrar();
+        }
+        if (servidor != null) {
+            servidor.stop(0);
+        }
+        executor.shutdownNow();
+        executorServidor.shutdownNow();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private ConexaoModel iniciar(ProvedorTaxas provedor, String modo) {
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        configuracao.setProperty("modo.requisicao", modo);
+        conexao = new ConexaoModel(configuracao, provedor, diretorio);
+        conexao.iniciar();
+        return conexao;
+    }
+
+    private static ProvedorTaxasMemoria provedorComTabela() {
+        long agora = System.currentTimeMillis() / 1000L;
+        ProvedorTaxasMemoria provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 3600, null, "USD",
+                Map.of("USD", BigDecimal.ONE, "BRL", new BigDecimal("5.60"))));
+        return provedor;
+    }
+
+    @Test
+    void testFaltaCompletaNoExecutorConfigurado() throws Exception {
+        ProvedorTaxasMemoria memoria = provedorComTabela();
+        List<String> threadsDaBusca = new CopyOnWriteArrayList<>();
+        iniciar(new ProvedorTaxas() {
+            @Override
+            public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+                threadsDaBusca.add(Thread.currentThread().getName());
+                return memoria.buscarPar(origem, destino);
+            }
+
+            @Override
+            public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+                threadsDaBusca.add(Thread.currentThread().getName());
+                return memoria.buscarTabela(base);
+            }
+        }, "lote");
+        CountDownLatch liberar = new CountDownLatch(1);
+        conexao.configurarExecutor(tarefa -> executor.execute(() -> {
+            try {
+                liberar.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            tarefa.run();
+        }));
+
+        CompletableFuture<Optional<Cambio>> conversao =
+                new ConversaoModel(conexao).converterAsync(BigDecimal.TEN, Moeda.USD, Moeda.BRL);
+        AtomicReference<String> threadDaConclusao = new AtomicReference<>();
+        CompletableFuture<Optional<Cambio>> concluida =
+                conversao.whenComplete((cambio, erro) -> threadDaConclusao.set(Thread.currentThread().getName()));
+
+        assertFalse(conversao.isDone());
+        assertTrue(threadsDaBusca.isEmpty());
+
+        liberar.countDown();
+        Cambio cambio = concluida.get(5, TimeUnit.SECONDS).orElseThrow();
+
+        assertEquals(0, new BigDecimal("56").compareTo(cambio.getQuantidadeMoedasDestino()));
+        assertEquals(List.of(THREAD_EXECUTOR), threadsDaBusca);
+        assertEquals(THREAD_EXECUTOR, threadDaConclusao.get());
+    }
+
+    @Test
+    void testAcertoDevolveFuturoJaCompleto() {
+        iniciar(provedorComTabela(), "lote");
+        assertTrue(conexao.buscaValoreMoedas(Moeda.USD, Moeda.BRL).isPresent());
+        AtomicInteger tarefas = new AtomicInteger();
+        conexao.configurarExecutor(tarefa -> {
+            tarefas.incrementAndGet();
+            executor.execute(tarefa);
+        });
+
+        CompletableFuture<Optional<MoedaRecord>> busca = conexao.buscaValoreMoedasAsync(Moeda.USD, Moeda.BRL);
+        CompletableFuture<Optional<Cambio>> conversao =
+                new ConversaoModel(conexao).converterAsync(BigDecimal.TEN, Moeda.USD, Moeda.BRL);
+
+        assertTrue(busca.isDone());
+        assertTrue(conversao.isDone());
+        assertEquals(0, new BigDecimal("5.6").compareTo(busca.join().orElseThrow().conversionRate()));
+        assertEquals(0, tarefas.get());
+    }
+
+    @Test
+    void testTaxaInferidaEhGuardadaComOCaminho() {
+        ProvedorTaxasMemoria provedor = provedorComTabela();
+        iniciar(provedor, "par");
+        assertTrue(conexao.buscaValoreMoedas(Moeda.USD, Moeda.BRL).isPresent());
+
+        MoedaRecord inversa = conexao.buscaValoreMoedas(Moeda.BRL, Moeda.USD).orElseThrow();
+        TaxaInferidaRecord inferida = conexao.inferirTaxa(Moeda.BRL, Moeda.USD).orElseThrow();
+
+        assertSame(inversa, inferida.moedaRecord());
+        assertEquals(List.of(Moeda.BRL, Moeda.USD), inferida.caminho());
+        assertSame(inversa, conexao.buscaValoreMoedas(Moeda.BRL, Moeda.USD).orElseThrow());
+        assertSame(inversa, conexao.buscaValoreMoedasAsync(Moeda.BRL, Moeda.USD).join().orElseThrow());
+        assertEquals(1, provedor.buscas());
+    }
+
+    @Test
+    void testCancelarCancelaABuscaNoProvedor() throws Exception {
+        CompletableFuture<Optional<TabelaTaxasRecord>> tabela = new CompletableFuture<>();
+        CountDownLatch buscada = new CountDownLatch(1);
+        iniciar(new ProvedorTaxas() {
+            @Override
+            public CompletableFuture<Optional<MoedaRecord>> buscarPar(Moeda origem, Moeda destino) {
+                return new CompletableFuture<>();
+            }
+
+            @Override
+            public CompletableFuture<Optional<TabelaTaxasRecord>> buscarTabela(Moeda base) {
+                buscada.countDown();
+                return tabela;
+            }
+        }, "lote");
+        conexao.configurarExecutor(executor);
+
+        CompletableFuture<Optional<Cambio>> conversao =
+                new ConversaoModel(conexao).converterAsync(BigDecimal.TEN, Moeda.USD, Moeda.BRL);
+        assertTrue(buscada.await(5, TimeUnit.SECONDS));
+        conversao.cancel(true);
+
+        long limite = System.currentTimeMillis() + 5000;
+        while (!tabela.isCancelled() && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+        assertTrue(tabela.isCancelled());
+    }
+
+    @Test
+    void testCancelarInterrompeARequisicaoHttp() throws Exception {
+        CountDownLatch recebida = new CountDownLatch(1);
+        CountDownLatch cancelada = new CountDownLatch(1);
+        CountDownLatch interrompida = new CountDownLatch(1);
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(executorServidor);
+        servidor.createContext("/chave/pair/", troca -> {
+            recebida.countDown();
+            try {
+                cancelada.await(5, TimeUnit.SECONDS);
+                troca.sendResponseHeaders(200, 0);
+                OutputStream saida = troca.getResponseBody();
+                saida.write("{\"result\":\"success\",\"espera\":\"".getBytes(StandardCharsets.UTF_8));
+                long limite = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (System.nanoTime() < limite) {
+                    saida.write("a".repeat(1024).getBytes(StandardCharsets.UTF_8));
+                    saida.flush();
+                    Thread.sleep(20);
+                }
+            } catch (IOException e) {
+                interrompida.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                troca.close();
+            }
+        });
+        servidor.start();
+        String url = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/";
+        iniciar(new ProvedorTaxasHttp("local", url, "chave", Duration.ofSeconds(30), executor), "par");
+        conexao.configurarExecutor(executor);
+
+        CompletableFuture<Optional<MoedaRecord>> busca = conexao.buscaValoreMoedasAsync(Moeda.USD, Moeda.BRL);
+        assertTrue(recebida.await(5, TimeUnit.SECONDS));
+        busca.cancel(true);
+        cancelada.countDown();
+
+        assertTrue(interrompida.await(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,118 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.records.ResumoConversaoArquivoRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ConversaoArquivoCsvTest {
+
+    private Path diretorio;
+    private ConexaoModel conexao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("conversao-csv");
+
+        long agora = System.currentTimeMillis() / 1000L;
+        ProvedorTaxasMemoria provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 3600, null, "USD",
+                Map.of("USD", BigDecimal.ONE, "ARS", new BigDecimal("970"), "BRL", new BigDecimal("5.60"))));
+
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        conexao = new ConexaoModel(configuracao, provedor, diretorio);
+        conexao.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        conexao.encerrar();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    @Test
+    void testConverteEmOrdemEInformaLinhasRejeitadas() throws IOException {
+        Path entrada = diretorio.resolve("entrada.csv");
+        Path saida = diretorio.resolve("saida.csv");
+        Files.writeString(entrada, "quantidade,origem,destino\r\n"
+                + "10,USD,BRL\r\n"
+                + "2.5,usd,ARS\n"
+                + "1,USD,XYZ\n"
+                + "\n"
+                + "abc,USD,BRL\n"
+                + "3,USD,JPY\n"
+                + "-1,USD,BRL\n"
+                + "1E999999999,USD,BRL\n"
+                + "100, USD , BRL\n"
+                + "7,USD", StandardCharsets.UTF_8);
+        List<String> rejeicoes = new ArrayList<>();
+
+        ResumoConversaoArquivoRecord resumo = new ConversaoArquivoCsv(new ConversaoModel(conexao, 2))
+                .converter(entrada, saida, rejeicoes::add);
+
+        assertEquals(List.of(ConversaoArquivoCsv.CABECALHO_SAIDA, "10,USD,BRL,56.00", "2.5,USD,ARS,2425.00",
+                "100,USD,BRL,560.00"), Files.readAllLines(saida));
+        assertEquals(9L, resumo.linhas());
+        assertEquals(3L, resumo.convertidas());
+        assertEquals(5L, resumo.invalidas());
+        assertEquals(1L, resumo.semTaxa());
+        assertEquals(6, rejeicoes.size());
+        assertTrue(rejeicoes.contains("Linha 4: moeda de destino inválida: XYZ"));
+        assertTrue(rejeicoes.contains("Linha 7: sem taxa para USD/JPY."));
+        assertTrue(rejeicoes.stream().anyMatch(rejeicao -> rejeicao.startsWith("Linha 9: A quantidade deve ter")));
+        assertTrue(resumo.linhasPorSegundo() > 0);
+        assertFalse(Files.exists(diretorio.resolve("saida.csv.parcial")));
+    }
+
+    @Test
+    void testArquivoGrandeEmBlocos() throws IOException {
+        Path entrada = diretorio.resolve("entrada.csv");
+        Path saida = diretorio.resolve("saida.csv");
+        StringBuilder conteudo = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            conteudo.append(i).append(i % 2 == 0 ? ",USD,BRL\n" : ",USD,ARS\n");
+        }
+        Files.writeString(entrada, conteudo, StandardCharsets.UTF_8);
+
+        ResumoConversaoArquivoRecord resumo = new ConversaoArquivoCsv(new ConversaoModel(conexao))
+                .converter(entrada, saida, rejeicao -> fail(rejeicao));
+
+        assertEquals(20_000L, resumo.convertidas());
+        List<String> linhas = Files.readAllLines(saida);
+        assertEquals(20_001, linhas.size());
+        assertEquals("12345,USD,ARS,11974650.00", linhas.get(12_346));
+    }
+
+    @Test
+    void testEntradaInexistente() {
+        assertThrows(IOException.class, () -> new ConversaoArquivoCsv(new ConversaoModel(conexao))
+                .converter(diretorio.resolve("nao-existe.csv"), diretorio.resolve("saida.csv"), rejeicao -> {
+                }));
+        assertFalse(Files.exists(diretorio.resolve("saida.csv")));
+        assertFalse(Files.exists(diretorio.resolve("saida.csv.parcial")));
+    }
+}
@@ -0,0 +1,154 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.uteis.AritmeticaPontoFixo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ConversaoColunarTest {
+
+    private static final long AGORA = 1728604801L;
+
+    private static InstantaneoTaxas instantaneo() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.6").ultima(AGORA).proxima(AGORA + 3600).criar());
+        cache.atualizar(registro("USD", "EUR", "0.91").ultima(AGORA).proxima(AGORA + 3600).criar());
+        return new InstantaneoTaxas(MatrizTaxas.construir(cache, null, MathContext.DECIMAL64), AGORA);
+    }
+
+    @Test
+    void testVetorialIgualAoEscalar() {
+        Random random = new Random(20241012L);
+        ConversaoColunar.Multiplicador escalar = new ConversaoColunar.MultiplicadorEscalar();
+        ConversaoColunar.Multiplicador vetorial = new MultiplicadorVetorial();
+
+        for (int tamanho : new int[]{0, 1, 3, 7, 8, 17, 64, 1000, 1031}) {
+            double[] valores = random.doubles(tamanho, 0, 1_000_000).toArray();
+            double fator = random.nextDouble() * 10;
+            double[] esperado = new double[tamanho];
+            double[] obtido = new double[tamanho + 2];
+
+            escalar.multiplicar(valores, fator, esperado, tamanho);
+            vetorial.multiplicar(valores, fator, obtido, tamanho);
+
+            for (int i = 0; i < tamanho; i++) {
+                assertEquals(Double.doubleToLongBits(esperado[i]), Double.doubleToLongBits(obtido[i]));
+            }
+            assertEquals(0.0, obtido[tamanho], 0.0);
+        }
+    }
+
+    @Test
+    void testEstimarEmTodasMoedas() {
+        double[] taxas = new double[Moeda.values().length];
+        double[] resultados = new double[taxas.length];
+        instantaneo().taxasRapidas(Moeda.USD, taxas);
+
+        ConversaoColunar.estimarEmTodasMoedas(100, taxas, resultados);
+
+        assertEquals(560.0, resultados[Moeda.BRL.ordinal()], 1e-9);
+        assertEquals(91.0, resultados[Moeda.EUR.ordinal()], 1e-9);
+        assertTrue(Double.isNaN(resultados[Moeda.JPY.ordinal()]));
+        assertThrows(IllegalArgumentException.class,
+                () -> ConversaoColunar.estimarEmTodasMoedas(1, taxas, new double[1]));
+    }
+
+    @Test
+    void testEstimarArrayPorPar() {
+        double[] quantidades = {1, 2.5, 10, 1000};
+        double[] resultados = new double[quantidades.length];
+
+        assertTrue(ConversaoColunar.estimar(instantaneo(), quantidades, Moeda.USD, Moeda.BRL, resultados));
+        assertArrayEquals(new double[]{5.6, 14.0, 56.0, 5600.0}, resultados, 1e-9);
+
+        assertFalse(ConversaoColunar.estimar(instantaneo(), quantidades, Moeda.USD, Moeda.JPY, resultados));
+        assertArrayEquals(new double[]{5.6, 14.0, 56.0, 5600.0}, resultados, 1e-9);
+    }
+
+    @Test
+    void testVetorialEscaladoIgualAoEscalar() {
+        Random random = new Random(20241012L);
+        ConversaoColunar.Multiplicador escalar = new ConversaoColunar.MultiplicadorEscalar();
+        ConversaoColunar.Multiplicador vetorial = new MultiplicadorVetorial();
+
+        for (int tamanho : new int[]{0, 1, 3, 7, 8, 17, 64, 1000, 1031}) {
+            long[] valores = new long[tamanho];
+            for (int i = 0; i < tamanho; i++) {
+                valores[i] = random.nextInt(256) == 0 ? random.nextLong() / 10 : random.nextLong(-1_000_000L,
+                        1_000_000L);
+            }
+            long taxa = random.nextLong(1, 10_000_000_000_000L);
+            int escalaValores = random.nextInt(5);
+            int escalaTaxa = 6 + random.nextInt(7);
+            long[] esperado = new long[tamanho];
+            long[] obtido = new long[tamanho + 2];
+
+            for (int i = 0; i < tamanho; i++) {
+                try {
+                    esperado[i] = AritmeticaPontoFixo.multiplicarEscalado(valores[i], escalaValores, taxa, escalaTaxa,
+                            Cambio.ESCALA, Cambio.ARREDONDAMENTO);
+                } catch (ArithmeticException e) {
+                    valores[i] = 1;
+                    esperado[i] = AritmeticaPontoFixo.multiplicarEscalado(1, escalaValores, taxa, escalaTaxa,
+                            Cambio.ESCALA, Cambio.ARREDONDAMENTO);
+                }
+            }
+            long[] obtidoEscalar = new long[tamanho];
+            escalar.multiplicarEscalado(valores, escalaValores, taxa, escalaTaxa, obtidoEscalar, tamanho);
+            vetorial.multiplicarEscalado(valores, escalaValores, taxa, escalaTaxa, obtido, tamanho);
+
+            assertArrayEquals(esperado, obtidoEscalar);
+            for (int i = 0; i < tamanho; i++) {
+                assertEquals(esperado[i], obtido[i]);
+            }
+            assertEquals(0L, obtido[tamanho]);
+        }
+
+        long[] empates = new long[64];
+        for (int i = 0; i < empates.length; i++) {
+            empates[i] = (i % 2 == 0 ? 1 : -1) * (10L * i + 5);
+        }
+        long[] esperado = new long[empates.length];
+        long[] obtido = new long[empates.length];
+        escalar.multiplicarEscalado(empates, 3, 1L, 0, esperado, empates.length);
+        vetorial.multiplicarEscalado(empates, 3, 1L, 0, obtido, empates.length);
+        assertArrayEquals(esperado, obtido);
+        assertEquals(0L, obtido[0]);
+        assertEquals(-1L, obtido[1]);
+    }
+
+    @Test
+    void testConverterIgualAoCambio() {
+        InstantaneoTaxas instantaneo = instantaneo();
+        long[] quantidades = {1, 25, 1000, 12345, -5, 999_999_999_999L};
+        long[] resultados = new long[quantidades.length];
+
+        assertTrue(ConversaoColunar.converter(instantaneo, quantidades, 3, Moeda.USD, Moeda.EUR, resultados));
+        for (int i = 0; i < quantidades.length; i++) {
+            if (quantidades[i] < 0) {
+                assertEquals(BigDecimal.valueOf(quantidades[i], 3).multiply(new BigDecimal("0.91"))
+                        .setScale(2, RoundingMode.HALF_DOWN).unscaledValue().longValueExact(), resultados[i]);
+                continue;
+            }
+            Cambio cambio = instantaneo.converter(BigDecimal.valueOf(quantidades[i], 3), Moeda.USD, Moeda.EUR)
+                    .orElseThrow();
+            assertEquals(cambio.getQuantidadeMoedasDestino(), BigDecimal.valueOf(resultados[i], 2));
+        }
+
+        long[] inalterados = resultados.clone();
+        assertFalse(ConversaoColunar.converter(instantaneo, quantidades, 3, Moeda.USD, Moeda.JPY, resultados));
+        assertArrayEquals(inalterados, resultados);
+    }
+}
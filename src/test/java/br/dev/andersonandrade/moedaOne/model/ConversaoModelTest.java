@@ -0,0 +1,161 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.beans.Cambio;
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.PedidoConversaoRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ConversaoModelTest {
+
+    private Path diretorio;
+    private ProvedorTaxasMemoria provedor;
+    private ConexaoModel conexao;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("conversao");
+
+        long agora = System.currentTimeMillis() / 1000L;
+        provedor = new ProvedorTaxasMemoria();
+        provedor.definirTabela(new TabelaTaxasRecord("success", null, null, agora, null, agora + 3600, null, "USD",
+                Map.of("USD", BigDecimal.ONE, "ARS", new BigDecimal("970"), "BRL", new BigDecimal("5.60"))));
+
+        Properties configuracao = new Properties();
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        conexao = new ConexaoModel(configuracao, provedor, diretorio);
+        conexao.iniciar();
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        conexao.encerrar();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private static PedidoConversaoRecord pedido(int i) {
+        Moeda destino = i % 2 == 0 ? Moeda.BRL : Moeda.ARS;
+        return new PedidoConversaoRecord(BigDecimal.valueOf(i), Moeda.USD, destino);
+    }
+
+    @Test
+    void testLoteMantemOrdemEResolveCadaParUmaVez() {
+        List<PedidoConversaoRecord> pedidos = IntStream.range(0, 5_000).mapToObj(ConversaoModelTest::pedido).toList();
+
+        List<Optional<Cambio>> resultados = new ConversaoModel(conexao).converterLote(pedidos);
+
+        assertEquals(pedidos.size(), resultados.size());
+        for (int i = 0; i < pedidos.size(); i++) {
+            Cambio cambio = resultados.get(i).orElseThrow();
+            assertEquals(pedidos.get(i).destino(), cambio.getDestino());
+            BigDecimal taxa = i % 2 == 0 ? new BigDecimal("5.60") : new BigDecimal("970");
+            assertEquals(0, BigDecimal.valueOf(i).multiply(taxa).compareTo(cambio.getQuantidadeMoedasDestino()));
+        }
+        assertEquals(1L, provedor.buscas());
+    }
+
+    @Test
+    void testParSemTaxaResultaVazio() {
+        List<Optional<Cambio>> resultados = new ConversaoModel(conexao).converterLote(List.of(
+                new PedidoConversaoRecord(BigDecimal.TEN, Moeda.USD, Moeda.BRL),
+                new PedidoConversaoRecord(BigDecimal.TEN, Moeda.USD, Moeda.JPY)));
+
+        assertTrue(resultados.get(0).isPresent());
+        assertTrue(resultados.get(1).isEmpty());
+    }
+
+    @Test
+    void testLimiteDoLote() {
+        ConversaoModel conversao = new ConversaoModel(conexao, 3);
+        List<PedidoConversaoRecord> pedidos = IntStream.range(0, 10).mapToObj(ConversaoModelTest::pedido).toList();
+
+        assertThrows(IllegalArgumentException.class, () -> conversao.converterLote(pedidos));
+
+        List<Optional<Cambio>> resultados = new ArrayList<>();
+        assertEquals(10L, conversao.converterLote(pedidos.stream(), resultados::add));
+        assertEquals(10, resultados.size());
+        for (int i = 0; i < resultados.size(); i++) {
+            assertEquals(pedidos.get(i).destino(), resultados.get(i).orElseThrow().getDestino());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ConversaoModel(conexao, 0));
+    }
+
+    private ConversaoModel conversaoComTabela(Properties configuracao, Clock relogio, long ultimaAtualizacao,
+                                              long proximaAtualizacao) throws Exception {
+        conexao.encerrar();
+        ProvedorTaxasMemoria provedorTabela = new ProvedorTaxasMemoria();
+        provedorTabela.definirTabela(new TabelaTaxasRecord("success", null, null, ultimaAtualizacao, null,
+                proximaAtualizacao, null, "USD", Map.of("USD", BigDecimal.ONE, "BRL", new BigDecimal("5.60"))));
+        configuracao.setProperty("atualizacao.antecipada.ativa", "false");
+        conexao = new ConexaoModel(configuracao, provedorTabela, diretorio, relogio);
+        conexao.iniciar();
+        return new ConversaoModel(conexao);
+    }
+
+    @Test
+    void testTaxaValidaPelaPoliticaNaoEhDesatualizada() throws Exception {
+        long agora = System.currentTimeMillis() / 1000L;
+        Properties configuracao = new Properties();
+        configuracao.setProperty("expiracao.ttl.minimo.segundos", "86400");
+        ConversaoModel conversao = conversaoComTabela(configuracao, Clock.systemUTC(), agora - 7200, agora - 3600);
+
+        Cambio cambio = conversao.converter(BigDecimal.TEN, Moeda.USD, Moeda.BRL).orElseThrow();
+
+        assertFalse(cambio.isTaxaDesatualizada());
+        assertFalse(conversao.converterAsync(BigDecimal.TEN, Moeda.USD, Moeda.BRL).get().orElseThrow()
+                .isTaxaDesatualizada());
+        assertFalse(conversao.converterLote(List.of(new PedidoConversaoRecord(BigDecimal.TEN, Moeda.USD, Moeda.BRL)))
+                .get(0).orElseThrow().isTaxaDesatualizada());
+    }
+
+    @Test
+    void testTaxaExpiradaNoRelogioDoServicoEhDesatualizada() throws Exception {
+        long agora = System.currentTimeMillis() / 1000L;
+        Clock relogio = Clock.fixed(Instant.ofEpochSecond(agora + 7200), ZoneOffset.UTC);
+        ConversaoModel conversao = conversaoComTabela(new Properties(), relogio, agora, agora + 3600);
+
+        Cambio cambio = conversao.converter(BigDecimal.TEN, Moeda.USD, Moeda.BRL).orElseThrow();
+
+        assertTrue(cambio.isTaxaDesatualizada());
+        assertEquals(0, new BigDecimal("56").compareTo(cambio.getQuantidadeMoedasDestino()));
+    }
+
+    @Test
+    void testPedidoRecusaQuantidadeForaDoLimite() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new PedidoConversaoRecord(new BigDecimal("1E999999999"), Moeda.USD, Moeda.BRL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PedidoConversaoRecord(new BigDecimal("1E-31"), Moeda.USD, Moeda.BRL));
+        assertThrows(IllegalArgumentException.class,
+                () -> new PedidoConversaoRecord(new BigDecimal("-1"), Moeda.USD, Moeda.BRL));
+        assertEquals(0, new BigDecimal("1E29").compareTo(
+                new PedidoConversaoRecord(new BigDecimal("1E29"), Moeda.USD, Moeda.BRL).quantidade()));
+    }
+}
@@ -0,0 +1,113 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class CoordenadorAtualizacaoTest {
+
+    private Path diretorio;
+    private ArquivoTaxas processoA;
+    private ArquivoTaxas processoB;
+    private final AtomicInteger buscas = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("coordenador");
+        processoA = ArquivoTaxas.abrir(diretorio.resolve("taxas.bin"));
+        processoB = ArquivoTaxas.abrir(diretorio.resolve("taxas.bin"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        processoA.close();
+        processoB.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private static Optional<BigDecimal> compartilhada(ArquivoTaxas arquivo) {
+        MoedaRecord registro = arquivo.registro(Moeda.USD, Moeda.BRL);
+        return Optional.ofNullable(registro)
+                .filter(r -> r.timeNextUpdateUnix() > System.currentTimeMillis() / 1000L)
+                .map(MoedaRecord::conversionRate);
+    }
+
+    private CompletableFuture<BigDecimal> buscarNaApi(ArquivoTaxas arquivo, long atrasoMs) {
+        return CompletableFuture.supplyAsync(() -> {
+            buscas.incrementAndGet();
+            long agora = System.currentTimeMillis() / 1000L;
+            arquivo.publicar(List.of(registro("USD", "BRL", "5.60").ultima(agora).proxima(agora + 3600).criar()));
+            return new BigDecimal("5.6");
+        }, CompletableFuture.delayedExecutor(atrasoMs, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void testApenasUmProcessoBuscaOPar() {
+        CoordenadorAtualizacao coordenadorA = new CoordenadorAtualizacao(processoA, Duration.ofSeconds(5),
+                Duration.ofMillis(10));
+        CoordenadorAtualizacao coordenadorB = new CoordenadorAtualizacao(processoB, Duration.ofSeconds(5),
+                Duration.ofMillis(10));
+
+        CompletableFuture<BigDecimal> taxaA = coordenadorA.executar(Moeda.USD, Moeda.BRL,
+                () -> compartilhada(processoA), () -> buscarNaApi(processoA, 300));
+        CompletableFuture<BigDecimal> taxaB = coordenadorB.executar(Moeda.USD, Moeda.BRL,
+                () -> compartilhada(processoB), () -> buscarNaApi(processoB, 300));
+
+        assertEquals(new BigDecimal("5.6"), taxaA.join());
+        assertEquals(new BigDecimal("5.6"), taxaB.join());
+        assertEquals(1, buscas.get());
+        assertEquals((long) 1, coordenadorA.atendidasPorOutroProcesso() + coordenadorB.atendidasPorOutroProcesso());
+    }
+
+    @Test
+    void testTaxaJaCompartilhadaNaoGeraBusca() {
+        buscarNaApi(processoA, 0).join();
+        CoordenadorAtualizacao coordenadorB = new CoordenadorAtualizacao(processoB, Duration.ofSeconds(5),
+                Duration.ofMillis(10));
+
+        BigDecimal taxa = coordenadorB.executar(Moeda.USD, Moeda.BRL, () -> compartilhada(processoB),
+                () -> buscarNaApi(processoB, 0)).join();
+
+        assertEquals(new BigDecimal("5.6"), taxa);
+        assertEquals(1, buscas.get());
+    }
+
+    @Test
+    void testEsperaEsgotadaBuscaNoProprioProcesso() throws Exception {
+        var reserva = processoA.reservarAtualizacao(Moeda.USD, Moeda.BRL);
+        CoordenadorAtualizacao coordenadorB = new CoordenadorAtualizacao(processoB, Duration.ofMillis(100),
+                Duration.ofMillis(10));
+
+        BigDecimal taxa = coordenadorB.executar(Moeda.USD, Moeda.BRL, () -> compartilhada(processoB),
+                () -> buscarNaApi(processoB, 0)).join();
+
+        assertEquals(new BigDecimal("5.6"), taxa);
+        assertEquals((long) 1, coordenadorB.esperasEsgotadas());
+        reserva.release();
+    }
+}
@@ -0,0 +1,136 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class DiarioTaxasTest {
+
+    private Path diretorio;
+    private ArquivoTaxas arquivo;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("diario");
+        arquivo = ArquivoTaxas.abrir(diretorio.resolve("taxas.bin"));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        arquivo.close();
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    private DiarioTaxas abrirDiario(int limiteCompactacao) throws Exception {
+        return DiarioTaxas.abrir(diretorio.resolve("taxas.diario"), arquivo, Duration.ofMillis(50), limiteCompactacao);
+    }
+
+    /**
+     * Grava entradas em um diário ligado a outro arquivo de taxas e devolve o conteúdo do diário antes da
+     * compactação, como se o processo tivesse terminado sem compactá-lo.
+     */
+    private byte[] diarioInterrompido(MoedaRecord... registros) throws Exception {
+        Path outroDiretorio = Files.createDirectory(diretorio.resolve("outro"));
+        try (ArquivoTaxas outroArquivo = ArquivoTaxas.abrir(outroDiretorio.resolve("taxas.bin"));
+             DiarioTaxas interrompido = DiarioTaxas.abrir(outroDiretorio.resolve("taxas.diario"), outroArquivo,
+                     Duration.ofMillis(50), 100)) {
+            for (MoedaRecord registro : registros) {
+                interrompido.registrar(List.of(registro));
+            }
+            interrompido.sincronizar();
+            return Files.readAllBytes(outroDiretorio.resolve("taxas.diario"));
+        }
+    }
+
+    @Test
+    void testRegistrarPublicaNoArquivoAntesDeCompactar() throws Exception {
+        try (DiarioTaxas diario = abrirDiario(100)) {
+            diario.registrar(List.of(registro("USD", "BRL", "5.60").criar()));
+
+            assertEquals(new BigDecimal("5.6"), arquivo.registro(Moeda.USD, Moeda.BRL).conversionRate());
+            assertEquals(1, diario.entradas());
+
+            diario.compactar();
+
+            assertEquals(new BigDecimal("5.6"), arquivo.registro(Moeda.USD, Moeda.BRL).conversionRate());
+            assertEquals(0, diario.entradas());
+        }
+    }
+
+    @Test
+    void testRecuperaEntradasAposInterrupcao() throws Exception {
+        byte[] conteudo = diarioInterrompido(registro("USD", "BRL", "5.60").criar(),
+                registro("USD", "EUR", "0.91").criar(), registro("USD", "BRL", "5.70").criar());
+        Files.write(diretorio.resolve("taxas.diario"), conteudo);
+        Files.write(diretorio.resolve("taxas.diario"), new byte[]{1, 2, 3, 4, 5}, StandardOpenOption.APPEND);
+
+        try (DiarioTaxas diario = abrirDiario(100)) {
+            assertEquals(new BigDecimal("5.7"), arquivo.registro(Moeda.USD, Moeda.BRL).conversionRate());
+            assertEquals(new BigDecimal("0.91"), arquivo.registro(Moeda.USD, Moeda.EUR).conversionRate());
+            assertEquals(0, diario.entradas());
+        }
+    }
+
+    @Test
+    void testCompactaEmSegundoPlanoAoAtingirLimite() throws Exception {
+        try (DiarioTaxas diario = abrirDiario(2)) {
+            diario.registrar(List.of(registro("USD", "BRL", "5.60").criar(), registro("USD", "EUR", "0.91").criar()));
+
+            long limite = System.currentTimeMillis() + 5000;
+            while (diario.entradas() > 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(0, diario.entradas());
+            assertEquals(2, arquivo.ler().size());
+            assertEquals(8L, Files.size(diretorio.resolve("taxas.diario")));
+        }
+    }
+
+    @Test
+    void testDiarioEmUsoUsaDiarioDoProcesso() throws Exception {
+        try (DiarioTaxas primeiro = abrirDiario(100); DiarioTaxas segundo = abrirDiario(100)) {
+            segundo.registrar(List.of(registro("USD", "BRL", "5.60").criar()));
+            segundo.sincronizar();
+
+            Path proprio = diretorio.resolve("taxas.diario." + ProcessHandle.current().pid());
+            assertTrue(Files.size(proprio) > 8L);
+            assertEquals(8L, Files.size(diretorio.resolve("taxas.diario")));
+            assertEquals(0, primeiro.entradas());
+        }
+        assertFalse(Files.exists(diretorio.resolve("taxas.diario." + ProcessHandle.current().pid())));
+    }
+
+    @Test
+    void testRecuperaDiarioAbandonadoDeOutroProcesso() throws Exception {
+        Path abandonado = diretorio.resolve("taxas.diario.4242");
+        Files.write(abandonado, diarioInterrompido(registro("USD", "JPY", "149.5").criar()));
+
+        try (DiarioTaxas diario = abrirDiario(100)) {
+            assertEquals(new BigDecimal("149.5"), arquivo.registro(Moeda.USD, Moeda.JPY).conversionRate());
+            assertFalse(Files.exists(abandonado));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class DisjuntorCircuitoTest {
+
+    private final AtomicLong relogio = new AtomicLong();
+    private final DisjuntorCircuito disjuntor =
+            new DisjuntorCircuito(10, 4, 0.5, Duration.ofSeconds(30), relogio::get);
+
+    @Test
+    void testAbreAoAtingirLimiteDeErros() {
+        disjuntor.registrarSucesso();
+        disjuntor.registrarSucesso();
+        disjuntor.registrarErro();
+        assertEquals(DisjuntorCircuito.Estado.FECHADO, disjuntor.estado());
+
+        disjuntor.registrarErro();
+        assertEquals(DisjuntorCircuito.Estado.ABERTO, disjuntor.estado());
+        assertFalse(disjuntor.permitir());
+    }
+
+    @Test
+    void testAbertoNaoChamaProvedor() {
+        for (int i = 0; i < 4; i++) {
+            disjuntor.registrarErro();
+        }
+        AtomicInteger chamadas = new AtomicInteger();
+
+        Optional<String> resultado = disjuntor.<String>executar(() -> {
+            chamadas.incrementAndGet();
+            return CompletableFuture.completedFuture(Optional.of("5.60"));
+        }).join();
+
+        assertTrue(resultado.isEmpty());
+        assertEquals(0, chamadas.get());
+    }
+
+    @Test
+    void testMeioAbertoFechaAposTesteComSucesso() {
+        for (int i = 0; i < 4; i++) {
+            disjuntor.registrarErro();
+        }
+        relogio.addAndGet(30_000);
+
+        Optional<String> resultado = disjuntor.executar(() -> CompletableFuture.completedFuture(Optional.of("5.60")))
+                .join();
+
+        assertEquals(Optional.of("5.60"), resultado);
+        assertEquals(DisjuntorCircuito.Estado.FECHADO, disjuntor.estado());
+    }
+
+    @Test
+    void testMeioAbertoPermiteUmaUnicaChamada() {
+        for (int i = 0; i < 4; i++) {
+            disjuntor.registrarErro();
+        }
+        relogio.addAndGet(30_000);
+
+        assertTrue(disjuntor.permitir());
+        assertFalse(disjuntor.permitir());
+
+        disjuntor.registrarErro();
+        assertEquals(DisjuntorCircuito.Estado.ABERTO, disjuntor.estado());
+    }
+
+    @Test
+    void testCancelarCancelaAChamadaSemContarErro() {
+        for (int i = 0; i < 4; i++) {
+            disjuntor.registrarErro();
+        }
+        relogio.addAndGet(30_000);
+        CompletableFuture<Optional<String>> chamada = new CompletableFuture<>();
+
+        disjuntor.executar(() -> chamada).cancel(true);
+
+        assertTrue(chamada.isCancelled());
+        assertEquals(DisjuntorCircuito.Estado.MEIO_ABERTO, disjuntor.estado());
+        assertTrue(disjuntor.permitir());
+    }
+}
@@ -0,0 +1,52 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class FrequenciaAcessosTest {
+
+    @Test
+    void testContagemSomaOsAcessosDeTodasAsThreads() throws Exception {
+        FrequenciaAcessos frequencia = new FrequenciaAcessos(8);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 16; t++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    frequencia.registrar(Moeda.USD, Moeda.BRL);
+                }
+                frequencia.registrar(Moeda.EUR, Moeda.ARS);
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals(160_000L, frequencia.contagem(Moeda.USD, Moeda.BRL));
+        assertEquals(16L, frequencia.contagem(Moeda.EUR, Moeda.ARS));
+        assertEquals(0L, frequencia.contagem(Moeda.BRL, Moeda.USD));
+        assertEquals(2, frequencia.paresAcima(16));
+        assertEquals(160_000L, frequencia.limiteMaisAcessados(1));
+    }
+
+    @Test
+    void testDecairReduzAContagemAMetade() {
+        FrequenciaAcessos frequencia = new FrequenciaAcessos(1);
+        for (int i = 0; i < 10; i++) {
+            frequencia.registrar(Moeda.USD, Moeda.BRL);
+        }
+
+        frequencia.decair();
+        assertEquals(5L, frequencia.contagem(Moeda.USD, Moeda.BRL));
+        frequencia.decair();
+        assertEquals(2L, frequencia.contagem(Moeda.USD, Moeda.BRL));
+    }
+}
@@ -0,0 +1,109 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.TaxaInferidaRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class InferenciaTaxasTest {
+
+    private static final long AGORA = 1_728_700_000L;
+
+    private final CacheTaxas cache = new CacheTaxas();
+    private final InferenciaTaxas inferencia =
+            new InferenciaTaxas(3, 86400, new MathContext(12, RoundingMode.HALF_EVEN));
+
+    @Test
+    void testInfereTaxaInversa() {
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 60).proxima(AGORA + 3600).criar());
+
+        TaxaInferidaRecord inferida = inferencia.inferir(cache, Moeda.BRL, Moeda.USD, AGORA).orElseThrow();
+
+        assertEquals(0, new BigDecimal("0.2").compareTo(inferida.moedaRecord().conversionRate()));
+        assertEquals(List.of(Moeda.BRL, Moeda.USD), inferida.caminho());
+        assertEquals("BRL", inferida.moedaRecord().baseCode());
+        assertEquals("USD", inferida.moedaRecord().targetCode());
+    }
+
+    @Test
+    void testInfereCaminhoComMoedaIntermediaria() {
+        cache.atualizar(registro("EUR", "USD", "1.10").ultima(AGORA - 120).proxima(AGORA + 3600).criar());
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 60).proxima(AGORA + 1800).criar());
+
+        TaxaInferidaRecord inferida = inferencia.inferir(cache, Moeda.EUR, Moeda.BRL, AGORA).orElseThrow();
+
+        assertEquals(0, new BigDecimal("5.5").compareTo(inferida.moedaRecord().conversionRate()));
+        assertEquals(List.of(Moeda.EUR, Moeda.USD, Moeda.BRL), inferida.caminho());
+        assertEquals(2, inferida.saltos());
+        assertEquals(AGORA - 120, (long) inferida.moedaRecord().timeLastUpdateUnix());
+        assertEquals(AGORA + 1800, (long) inferida.moedaRecord().timeNextUpdateUnix());
+    }
+
+    @Test
+    void testRespeitaLimiteDeSaltos() {
+        InferenciaTaxas umSalto = new InferenciaTaxas(1, 86400, MathContext.DECIMAL64);
+        cache.atualizar(registro("EUR", "USD", "1.10").ultima(AGORA - 60).proxima(AGORA + 3600).criar());
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 60).proxima(AGORA + 3600).criar());
+
+        assertTrue(umSalto.inferir(cache, Moeda.EUR, Moeda.BRL, AGORA).isEmpty());
+        assertTrue(umSalto.inferir(cache, Moeda.USD, Moeda.EUR, AGORA).isPresent());
+    }
+
+    @Test
+    void testIgnoraTaxasExpiradasOuForaDaJanela() {
+        cache.atualizar(registro("EUR", "USD", "1.10").ultima(AGORA - 7200).proxima(AGORA - 1).criar());
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 90000).proxima(AGORA + 3600).criar());
+
+        assertTrue(inferencia.inferir(cache, Moeda.USD, Moeda.EUR, AGORA).isEmpty());
+        assertTrue(inferencia.inferir(cache, Moeda.BRL, Moeda.USD, AGORA).isEmpty());
+    }
+
+    @Test
+    void testPrefereCaminhoQueExpiraMaisTarde() {
+        cache.atualizar(registro("EUR", "USD", "1.10").ultima(AGORA - 60).proxima(AGORA + 600).criar());
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 60).proxima(AGORA + 600).criar());
+        cache.atualizar(registro("EUR", "GBP", "0.85").ultima(AGORA - 60).proxima(AGORA + 7200).criar());
+        cache.atualizar(registro("GBP", "BRL", "6.40").ultima(AGORA - 60).proxima(AGORA + 7200).criar());
+
+        Optional<TaxaInferidaRecord> inferida = inferencia.inferir(cache, Moeda.EUR, Moeda.BRL, AGORA);
+
+        assertEquals(List.of(Moeda.EUR, Moeda.GBP, Moeda.BRL), inferida.orElseThrow().caminho());
+    }
+
+    @Test
+    void testUsaAExpiracaoDaPoliticaEmCadaAresta() {
+        Clock relogio = Clock.fixed(Instant.ofEpochSecond(AGORA), ZoneOffset.UTC);
+        PoliticaExpiracao politica = new PoliticaExpiracao(relogio, Duration.ZERO, null, Map.of(),
+                Map.of("USD/BRL", Duration.ofMinutes(30), "EUR/GBP", Duration.ofMinutes(1)));
+        InferenciaTaxas comPolitica =
+                new InferenciaTaxas(3, 86400, new MathContext(12, RoundingMode.HALF_EVEN), politica);
+        cache.atualizar(registro("EUR", "USD", "1.10").ultima(AGORA - 120).proxima(AGORA + 3600).criar());
+        cache.atualizar(registro("USD", "BRL", "5.00").ultima(AGORA - 60).proxima(AGORA + 86400).criar());
+        cache.atualizar(registro("EUR", "GBP", "0.84").ultima(AGORA - 120).proxima(AGORA + 86400).criar());
+        cache.atualizar(registro("GBP", "BRL", "6.50").ultima(AGORA - 120).proxima(AGORA + 86400).criar());
+
+        TaxaInferidaRecord inferida = comPolitica.inferir(cache, Moeda.EUR, Moeda.BRL, AGORA).orElseThrow();
+
+        assertEquals(List.of(Moeda.EUR, Moeda.USD, Moeda.BRL), inferida.caminho());
+        assertEquals(AGORA - 60 + 1800, (long) inferida.moedaRecord().timeNextUpdateUnix());
+        assertEquals(List.of(Moeda.GBP, Moeda.BRL, Moeda.USD, Moeda.EUR),
+                comPolitica.inferir(cache, Moeda.GBP, Moeda.EUR, AGORA).orElseThrow().caminho());
+    }
+}
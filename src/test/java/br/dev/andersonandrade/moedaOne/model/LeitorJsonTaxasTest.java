@@ -0,0 +1,59 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import com.google.gson.FieldNamingPolicy;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class LeitorJsonTaxasTest {
+
+    private static final long AGORA = 1_728_700_000L;
+    private static final Gson gson = new GsonBuilder()
+            .setPrettyPrinting()
+            .setFieldNamingPolicy(FieldNamingPolicy.LOWER_CASE_WITH_UNDERSCORES)
+            .create();
+
+    private Path arquivo;
+    private LeitorJsonTaxas leitor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        arquivo = Files.createTempFile("moedas", ".json");
+        Files.writeString(arquivo, gson.toJson(List.of(
+                registro("USD", "BRL", "5.40").validoAte(AGORA - 10).criar(),
+                registro("USD", "EUR", "0.91").validoAte(AGORA + 3600).criar(),
+                registro("USD", "BRL", "5.60").validoAte(AGORA + 3600).criar(),
+                registro("USD", "BRL", "5.50").validoAte(AGORA + 1800).criar(),
+                registro("USD", "XYZ", "1.00").validoAte(AGORA + 3600).criar())));
+        leitor = new LeitorJsonTaxas(arquivo, gson);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        Files.deleteIfExists(arquivo);
+    }
+
+    @Test
+    void testPercorrerEmLotes() throws Exception {
+        List<Integer> lotes = new ArrayList<>();
+
+        int total = leitor.percorrer(2, lote -> lotes.add(lote.size()));
+
+        assertEquals(5, total);
+        assertEquals(List.of(2, 2, 1), lotes);
+    }
+}
@@ -0,0 +1,151 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class MatrizTaxasTest {
+
+    @Test
+    void testMatrizMaisAntigaNaoSubstituiMaisNova() {
+        CacheTaxas cache = new CacheTaxas();
+        MatrizTaxas antiga = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+        MatrizTaxas nova = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+        AtomicReference<MatrizTaxas> publicada = new AtomicReference<>(MatrizTaxas.vazia());
+
+        publicada.accumulateAndGet(nova, MatrizTaxas::maisRecente);
+        publicada.accumulateAndGet(antiga, MatrizTaxas::maisRecente);
+
+        assertTrue(nova.versao() > antiga.versao());
+        assertSame(nova, publicada.get());
+    }
+
+    @Test
+    void testPublicacaoConcorrenteMantemMaiorVersao() {
+        CacheTaxas cache = new CacheTaxas();
+        AtomicReference<MatrizTaxas> publicada = new AtomicReference<>(MatrizTaxas.vazia());
+        List<CompletableFuture<MatrizTaxas>> construcoes = new ArrayList<>();
+
+        for (int i = 0; i < 16; i++) {
+            construcoes.add(CompletableFuture.supplyAsync(() -> {
+                MatrizTaxas construida = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+                publicada.accumulateAndGet(construida, MatrizTaxas::maisRecente);
+                return construida;
+            }));
+        }
+
+        long maiorVersao = construcoes.stream().map(CompletableFuture::join)
+                .mapToLong(MatrizTaxas::versao).max().orElseThrow();
+        assertEquals(maiorVersao, publicada.get().versao());
+    }
+
+    @Test
+    void testInstantaneoUsaSempreAMesmaVersao() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(1000L).criar());
+        InstantaneoTaxas instantaneo = new InstantaneoTaxas(
+                MatrizTaxas.construir(cache, null, MathContext.DECIMAL64), 999L);
+
+        cache.atualizar(registro("USD", "BRL", "5.70").validoAte(2000L).criar());
+        MatrizTaxas nova = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+
+        assertEquals(new BigDecimal("5.60"), instantaneo.buscar(Moeda.USD, Moeda.BRL).orElseThrow().conversionRate());
+        assertEquals(new BigDecimal("5.70"), nova.registro(Moeda.USD, Moeda.BRL).conversionRate());
+        assertTrue(instantaneo.versao() < nova.versao());
+        assertTrue(instantaneo.buscar(Moeda.USD, Moeda.EUR).isEmpty());
+    }
+
+    @Test
+    void testInstantaneoVerificaValidadeNoInstanteFixado() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(1000L).criar());
+        MatrizTaxas matriz = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+
+        assertTrue(new InstantaneoTaxas(matriz, 999L).buscar(Moeda.USD, Moeda.BRL).isPresent());
+        assertTrue(new InstantaneoTaxas(matriz, 1000L).buscar(Moeda.USD, Moeda.BRL).isEmpty());
+    }
+
+    @Test
+    void testDerivaParesSemRegistroDiretoPelaMoedaBase() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(2000L).criar());
+        cache.atualizar(registro("USD", "EUR", "0.91").validoAte(1500L).criar());
+
+        MatrizTaxas matriz = MatrizTaxas.construir(cache, Moeda.USD, MathContext.DECIMAL64);
+
+        BigDecimal eurBrl = new BigDecimal("5.60").divide(new BigDecimal("0.91"), MathContext.DECIMAL64);
+        assertEquals(eurBrl, matriz.taxa(Moeda.EUR, Moeda.BRL));
+        assertEquals("EUR", matriz.registro(Moeda.EUR, Moeda.BRL).baseCode());
+        assertEquals("BRL", matriz.registro(Moeda.EUR, Moeda.BRL).targetCode());
+        assertEquals(new BigDecimal("0.91").divide(new BigDecimal("5.60"), MathContext.DECIMAL64),
+                matriz.taxa(Moeda.BRL, Moeda.EUR));
+        assertEquals(0, BigDecimal.ONE.compareTo(matriz.taxa(Moeda.BRL, Moeda.BRL)));
+        assertNull(matriz.taxa(Moeda.EUR, Moeda.JPY));
+
+        assertNotNull(matriz.registro(Moeda.EUR, Moeda.BRL, 1499L));
+        assertNull(matriz.registro(Moeda.EUR, Moeda.BRL, 1500L));
+        assertNotNull(matriz.registro(Moeda.USD, Moeda.BRL, 1500L));
+    }
+
+    @Test
+    void testRegistroDiretoPrevaleceSobreODerivado() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(2000L).criar());
+        cache.atualizar(registro("USD", "EUR", "0.91").validoAte(2000L).criar());
+        MoedaRecord direto = registro("EUR", "BRL", "6.20").ultima(1000L).proxima(2000L).criar();
+        cache.atualizar(direto);
+
+        MatrizTaxas comBase = MatrizTaxas.construir(cache, Moeda.USD, MathContext.DECIMAL64);
+        MatrizTaxas semBase = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64);
+
+        assertSame(direto, comBase.registro(Moeda.EUR, Moeda.BRL));
+        assertNotNull(comBase.registro(Moeda.BRL, Moeda.EUR));
+        assertNull(semBase.registro(Moeda.BRL, Moeda.EUR));
+    }
+
+    @Test
+    void testRegistroSemHorarioNaoImpedeAConstrucao() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(2000L).criar());
+        cache.atualizar(registro("USD", "EUR", "0.91").ultima(null).proxima(null).criar());
+
+        MatrizTaxas matriz = MatrizTaxas.construir(cache, Moeda.USD, MathContext.DECIMAL64);
+
+        assertNotNull(matriz.registro(Moeda.USD, Moeda.BRL, 1999L));
+        assertNotNull(matriz.taxa(Moeda.EUR, Moeda.BRL));
+        assertFalse(matriz.valida(Moeda.EUR, Moeda.BRL, 0L));
+    }
+
+    @Test
+    void testVisoesDaTaxaDerivadaSaoConsistentes() {
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "5.60").validoAte(2000L).criar());
+        cache.atualizar(registro("USD", "EUR", "0.91").validoAte(2000L).criar());
+
+        MatrizTaxas matriz = MatrizTaxas.construir(cache, Moeda.USD, new MathContext(12, RoundingMode.HALF_EVEN));
+        BigDecimal taxa = matriz.taxa(Moeda.EUR, Moeda.BRL);
+
+        assertEquals(12, taxa.precision());
+        assertEquals(taxa.doubleValue(), matriz.taxaRapida(Moeda.EUR, Moeda.BRL), 0.0);
+        assertEquals(taxa, BigDecimal.valueOf(matriz.taxaEscalada(Moeda.EUR, Moeda.BRL),
+                matriz.escalaTaxa(Moeda.EUR, Moeda.BRL)));
+        assertTrue(matriz.valida(Moeda.EUR, Moeda.BRL, 1999L));
+        assertFalse(matriz.valida(Moeda.EUR, Moeda.BRL, 2000L));
+        assertTrue(Double.isNaN(matriz.taxaRapida(Moeda.EUR, Moeda.JPY)));
+    }
+}
@@ -0,0 +1,194 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MetricasCotaRecord;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class PlanejadorAtualizacaoTest {
+
+    private final RelogioAjustavel relogio = new RelogioAjustavel(Instant.parse("2024-10-31T12:00:00Z"));
+    private final FrequenciaAcessos frequencia = new FrequenciaAcessos();
+
+    @Test
+    void testApenasParesMaisAcessadosUsamACota() {
+        // 2 requisições restantes no último dia do mês: orçamento diário de 2 pares
+        PlanejadorAtualizacao planejador =
+                new PlanejadorAtualizacao(2, Duration.ofHours(24), frequencia, null, relogio);
+        acessar(Moeda.USD, Moeda.BRL, 10);
+        acessar(Moeda.EUR, Moeda.BRL, 5);
+        acessar(Moeda.ARS, Moeda.BRL, 1);
+
+        assertTrue(planejador.permitirPar(Moeda.USD, Moeda.BRL, true));
+        assertTrue(planejador.permitirPar(Moeda.EUR, Moeda.BRL, true));
+        assertFalse(planejador.permitirPar(Moeda.ARS, Moeda.BRL, true));
+        assertTrue(planejador.permitirPar(Moeda.ARS, Moeda.BRL, false));
+        assertEquals(2, planejador.metricas().paresQuentes());
+    }
+
+    @Test
+    void testCotaEsgotadaRecusaTodasAsBuscas() {
+        PlanejadorAtualizacao planejador =
+                new PlanejadorAtualizacao(1, Duration.ofHours(24), frequencia, null, relogio);
+        acessar(Moeda.USD, Moeda.BRL, 3);
+
+        assertTrue(planejador.permitirTabela());
+        planejador.registrarRequisicao();
+
+        assertFalse(planejador.permitirTabela());
+        assertFalse(planejador.permitirPar(Moeda.USD, Moeda.BRL, false));
+
+        MetricasCotaRecord metricas = planejador.metricas();
+        assertEquals(1L, metricas.usadas());
+        assertEquals(0L, metricas.restantes());
+        assertEquals(2L, metricas.negadas());
+    }
+
+    @Test
+    void testCotaContadaPorProvedor() {
+        PlanejadorAtualizacao planejador =
+                new PlanejadorAtualizacao(2, Duration.ofHours(24), frequencia, null, relogio);
+        planejador.registrarRequisicao("primário");
+        planejador.registrarRequisicao("secundário");
+
+        assertTrue(planejador.permitirTabela());
+        planejador.registrarRequisicao("primário");
+
+        assertFalse(planejador.permitirTabela());
+        MetricasCotaRecord metricas = planejador.metricas();
+        assertEquals(3L, metricas.usadas());
+        assertEquals(Long.valueOf(2), metricas.usadasPorProvedor().get("primário"));
+        assertEquals(Long.valueOf(1), metricas.usadasPorProvedor().get("secundário"));
+    }
+
+    @Test
+    void testNovoMesRenovaACota() {
+        PlanejadorAtualizacao planejador =
+                new PlanejadorAtualizacao(1, Duration.ofHours(24), frequencia, null, relogio);
+        planejador.registrarRequisicao();
+        assertFalse(planejador.permitirTabela());
+
+        relogio.avancar(Duration.ofDays(1));
+
+        assertTrue(planejador.permitirTabela());
+        assertEquals(0L, planejador.metricas().usadas());
+    }
+
+    @Test
+    void testDecaimentoReduzAcessosAntigos() {
+        PlanejadorAtualizacao planejador =
+                new PlanejadorAtualizacao(1, Duration.ofHours(1), frequencia, null, relogio);
+        acessar(Moeda.USD, Moeda.BRL, 8);
+
+        relogio.avancar(Duration.ofHours(2));
+        planejador.metricas();
+
+        assertEquals(2L, frequencia.contagem(Moeda.USD, Moeda.BRL));
+    }
+
+    @Test
+    void testUsoDaCotaSobreviveAoReinicio() throws Exception {
+        Path arquivo = Files.createTempFile("cota", ".properties");
+        try {
+            try (PlanejadorAtualizacao planejador =
+                         new PlanejadorAtualizacao(10, Duration.ofHours(24), frequencia, arquivo, relogio)) {
+                planejador.registrarRequisicao();
+            }
+
+            try (PlanejadorAtualizacao reiniciado =
+                         new PlanejadorAtualizacao(10, Duration.ofHours(24), frequencia, arquivo, relogio)) {
+                assertEquals(1L, reiniciado.metricas().usadas());
+                assertEquals(9L, reiniciado.metricas().restantes());
+            }
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void testUsoDaCotaEhGravadoForaDaRequisicao() throws Exception {
+        Path arquivo = Files.createTempFile("cota", ".properties");
+        try (PlanejadorAtualizacao planejador = new PlanejadorAtualizacao(10, Duration.ofHours(24), frequencia,
+                arquivo, relogio, Duration.ofMillis(50))) {
+            planejador.registrarRequisicao();
+            assertEquals(0L, Files.size(arquivo));
+
+            long limite = System.currentTimeMillis() + 5000;
+            while (Files.size(arquivo) == 0 && System.currentTimeMillis() < limite) {
+                Thread.sleep(10);
+            }
+
+            assertTrue(Files.readString(arquivo).contains("usadas.prim"));
+            assertFalse(Files.exists(arquivo.resolveSibling(arquivo.getFileName() + ".parcial")));
+        } finally {
+            Files.deleteIfExists(arquivo);
+        }
+    }
+
+    @Test
+    void testArquivoCorrompidoEhPreservado() throws Exception {
+        Path arquivo = Files.createTempFile("cota", ".properties");
+        Path corrompido = arquivo.resolveSibling(arquivo.getFileName() + ".corrompido");
+        try {
+            Files.writeString(arquivo, "mes=2024-10\nusadas.primario=doze\n");
+
+            try (PlanejadorAtualizacao planejador =
+                         new PlanejadorAtualizacao(10, Duration.ofHours(24), frequencia, arquivo, relogio)) {
+                assertEquals(0L, planejador.metricas().usadas());
+            }
+
+            assertTrue(Files.exists(corrompido));
+            assertTrue(Files.readString(corrompido).contains("doze"));
+        } finally {
+            Files.deleteIfExists(arquivo);
+            Files.deleteIfExists(corrompido);
+        }
+    }
+
+    private void acessar(Moeda origem, Moeda destino, int vezes) {
+        for (int i = 0; i < vezes; i++) {
+            frequencia.registrar(origem, destino);
+        }
+    }
+
+    private static final class RelogioAjustavel extends Clock {
+
+        private Instant agora;
+
+        private RelogioAjustavel(Instant agora) {
+            this.agora = agora;
+        }
+
+        void avancar(Duration duracao) {
+            agora = agora.plus(duracao);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return agora;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.MathContext;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Properties;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class PoliticaExpiracaoTest {
+
+    private static final long ULTIMA = RegistroTeste.ULTIMA_PADRAO;
+    private static final long PROXIMA = RegistroTeste.PROXIMA_PADRAO;
+    private static final Clock RELOGIO = Clock.fixed(Instant.ofEpochSecond(ULTIMA + 1800), ZoneOffset.UTC);
+
+    @Test
+    void testSemRestricoesUsaProximaAtualizacao() {
+        PoliticaExpiracao politica = PoliticaExpiracao.semRestricoes(RELOGIO);
+
+        assertEquals(ULTIMA + 1800, politica.agora());
+        assertEquals(PROXIMA, politica.expiracao(Moeda.USD, Moeda.BRL, registro("USD", "BRL", "1").criar()));
+        assertEquals(Long.MIN_VALUE, politica.expiracao(Moeda.USD, Moeda.BRL,
+                registro("USD", "BRL", "1").ultima(null).proxima(null).criar()));
+        assertFalse(politica.valido(Moeda.USD, Moeda.BRL, null, politica.agora()));
+    }
+
+    @Test
+    void testTempoDoParPrevaleceSobreOMenorTempoDasMoedas() {
+        PoliticaExpiracao politica = new PoliticaExpiracao(RELOGIO, Duration.ZERO, null,
+                Map.of(Moeda.BRL, Duration.ofHours(1), Moeda.EUR, Duration.ofMinutes(10)),
+                Map.of("USD/EUR", Duration.ofHours(2)));
+
+        MoedaRecord usdBrl = registro("USD", "BRL", "1").criar();
+        assertEquals(ULTIMA + 3600, politica.expiracao(Moeda.USD, Moeda.BRL, usdBrl));
+        assertTrue(politica.valido(Moeda.USD, Moeda.BRL, usdBrl, politica.agora()));
+
+        MoedaRecord brlEur = registro("BRL", "EUR", "1").criar();
+        assertEquals(ULTIMA + 600, politica.expiracao(Moeda.BRL, Moeda.EUR, brlEur));
+        assertFalse(politica.valido(Moeda.BRL, Moeda.EUR, brlEur, politica.agora()));
+
+        assertEquals(ULTIMA + 7200, politica.expiracao(Moeda.USD, Moeda.EUR, registro("USD", "EUR", "1").criar()));
+        assertEquals(PROXIMA, politica.expiracao(Moeda.USD, Moeda.JPY, registro("USD", "JPY", "1").criar()));
+    }
+
+    @Test
+    void testLimitesMinimoEMaximo() {
+        PoliticaExpiracao politica = new PoliticaExpiracao(RELOGIO, Duration.ofMinutes(5), Duration.ofHours(6),
+                Map.of(), Map.of("USD/BRL", Duration.ofSeconds(30)));
+
+        assertEquals(ULTIMA + 300, politica.expiracao(Moeda.USD, Moeda.BRL, registro("USD", "BRL", "1").criar()));
+        assertEquals(ULTIMA + 21600, politica.expiracao(Moeda.USD, Moeda.EUR, registro("USD", "EUR", "1").criar()));
+        assertEquals(ULTIMA + 300,
+                politica.expiracao(Moeda.USD, Moeda.EUR, registro("USD", "EUR", "1").proxima(null).criar()));
+
+        assertThrows(IllegalArgumentException.class, () -> new PoliticaExpiracao(RELOGIO, Duration.ofHours(2),
+                Duration.ofHours(1), Map.of(), Map.of()));
+        assertThrows(IllegalArgumentException.class, () -> new PoliticaExpiracao(RELOGIO, Duration.ZERO, null,
+                Map.of(), Map.of("USDBRL", Duration.ofHours(1))));
+    }
+
+    @Test
+    void testConfiguracaoEMatrizUsamAPolitica() {
+        Properties prop = new Properties();
+        prop.setProperty("expiracao.ttl.minimo.segundos", "60");
+        prop.setProperty("expiracao.ttl.maximo.segundos", "0");
+        prop.setProperty("expiracao.ttl.moeda.BRL", "900");
+        prop.setProperty("expiracao.ttl.par.USD.EUR", "3600");
+        PoliticaExpiracao politica = PoliticaExpiracao.daConfiguracao(prop, RELOGIO);
+
+        CacheTaxas cache = new CacheTaxas();
+        cache.atualizar(registro("USD", "BRL", "1").criar());
+        cache.atualizar(registro("USD", "EUR", "1").criar());
+        MatrizTaxas matriz = MatrizTaxas.construir(cache, null, MathContext.DECIMAL64, politica);
+
+        assertNull(matriz.registro(Moeda.USD, Moeda.BRL, politica.agora()));
+        assertNotNull(matriz.registro(Moeda.USD, Moeda.EUR, politica.agora()));
+        assertFalse(matriz.valida(Moeda.USD, Moeda.EUR, ULTIMA + 3600));
+    }
+}
@@ -0,0 +1,74 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ProvedorTaxasArquivoTest {
+
+    private static final String TABELA_USD = """
+            {
+              "result": "success",
+              "time_last_update_unix": 1728604801,
+              "time_next_update_unix": 1728691201,
+              "base_code": "USD",
+              "conversion_rates": {"USD": 1, "BRL": 5.60, "EUR": 0.91}
+            }
+            """;
+
+    private Path diretorio;
+    private ProvedorTaxasArquivo provedor;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        diretorio = Files.createTempDirectory("tabelas");
+        Files.writeString(diretorio.resolve("USD.json"), TABELA_USD);
+        Files.writeString(diretorio.resolve("EUR.json"), "{ inválido");
+        provedor = new ProvedorTaxasArquivo(diretorio);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        try (Stream<Path> arquivos = Files.walk(diretorio)) {
+            for (Path caminho : arquivos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(caminho);
+            }
+        }
+    }
+
+    @Test
+    void testBuscarTabelaEPar() {
+        Optional<TabelaTaxasRecord> tabela = provedor.buscarTabela(Moeda.USD).join();
+        assertTrue(tabela.isPresent());
+        assertEquals(3, tabela.get().conversionRates().size());
+
+        Optional<MoedaRecord> par = provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+        assertTrue(par.isPresent());
+        assertEquals(new BigDecimal("5.60"), par.get().conversionRate());
+        assertEquals("BRL", par.get().targetCode());
+        assertEquals(1728691201L, (long) par.get().timeNextUpdateUnix());
+    }
+
+    @Test
+    void testTabelaAusenteOuInvalidaResultaVazio() {
+        assertTrue(provedor.buscarTabela(Moeda.JPY).join().isEmpty());
+        assertTrue(provedor.buscarTabela(Moeda.EUR).join().isEmpty());
+        assertTrue(provedor.buscarPar(Moeda.USD, Moeda.JPY).join().isEmpty());
+    }
+}
@@ -0,0 +1,130 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ProvedorTaxasHttpTest {
+
+    private static final String ETAG = "\"tabela-1728691201\"";
+    private static final String CORPO_PAR = "{\"result\":\"success\",\"time_last_update_unix\":1728691201,"
+            + "\"time_next_update_unix\":1728777601,\"base_code\":\"USD\",\"target_code\":\"BRL\","
+            + "\"conversion_rate\":5.60}";
+    private static final String CORPO_TABELA = "{\"result\":\"success\",\"time_last_update_unix\":1728691201,"
+            + "\"time_next_update_unix\":1728777601,\"base_code\":\"USD\","
+            + "\"conversion_rates\":{\"USD\":1,\"BRL\":5.60,\"EUR\":0.91}}";
+
+    private HttpServer servidor;
+    private final ExecutorService executorServidor = Executors.newCachedThreadPool();
+    private final AtomicInteger corposEnviados = new AtomicInteger();
+    private final AtomicInteger naoModificadas = new AtomicInteger();
+    private final List<String> codificacoesAceitas = new CopyOnWriteArrayList<>();
+    private final List<String> modificadoDesde = new CopyOnWriteArrayList<>();
+
+    @BeforeEach
+    void iniciarServidor() throws IOException {
+        servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(executorServidor);
+
+        servidor.createContext("/chave/latest/", troca -> {
+            codificacoesAceitas.add(String.valueOf(troca.getRequestHeaders().getFirst("Accept-Encoding")));
+            if (ETAG.equals(troca.getRequestHeaders().getFirst("If-None-Match"))) {
+                naoModificadas.incrementAndGet();
+                troca.sendResponseHeaders(304, -1);
+                troca.close();
+                return;
+            }
+
+            byte[] corpo = compactar(CORPO_TABELA);
+            corposEnviados.incrementAndGet();
+            troca.getResponseHeaders().add("Content-Encoding", "gzip");
+            troca.getResponseHeaders().add("ETag", ETAG);
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+
+        servidor.createContext("/chave/pair/", troca -> {
+            modificadoDesde.add(String.valueOf(troca.getRequestHeaders().getFirst("If-Modified-Since")));
+            byte[] corpo = CORPO_PAR.getBytes(StandardCharsets.UTF_8);
+            corposEnviados.incrementAndGet();
+            troca.sendResponseHeaders(200, corpo.length);
+            try (OutputStream saida = troca.getResponseBody()) {
+                saida.write(corpo);
+            }
+        });
+        servidor.start();
+    }
+
+    @AfterEach
+    void pararServidor() {
+        servidor.stop(0);
+        executorServidor.shutdownNow();
+    }
+
+    private static byte[] compactar(String texto) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(bytes)) {
+            gzip.write(texto.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+
+    private ProvedorTaxasHttp criarProvedor() {
+        String url = "http://127.0.0.1:" + servidor.getAddress().getPort() + "/";
+        return new ProvedorTaxasHttp("local", url, "chave", Duration.ofSeconds(5), Runnable::run);
+    }
+
+    @Test
+    void testTabelaCompactadaEReaproveitadaCom304() {
+        ProvedorTaxasHttp provedor = criarProvedor();
+
+        TabelaTaxasRecord primeira = provedor.buscarTabela(Moeda.USD).join().orElseThrow();
+        TabelaTaxasRecord segunda = provedor.buscarTabela(Moeda.USD).join().orElseThrow();
+
+        assertEquals(new BigDecimal("5.60"), primeira.conversionRates().get("BRL"));
+        assertSame(primeira, segunda);
+        assertEquals(1, corposEnviados.get());
+        assertEquals(1, naoModificadas.get());
+        assertEquals((long) 1, provedor.respostasReaproveitadas());
+        assertEquals(List.of("gzip", "gzip"), codificacoesAceitas);
+    }
+
+    @Test
+    void testSemValidadoresUsaUltimaAtualizacaoDaResposta() {
+        ProvedorTaxasHttp provedor = criarProvedor();
+
+        MoedaRecord primeira = provedor.buscarPar(Moeda.USD, Moeda.BRL).join().orElseThrow();
+        MoedaRecord segunda = provedor.buscarPar(Moeda.USD, Moeda.BRL).join().orElseThrow();
+
+        assertEquals("null", modificadoDesde.get(0));
+        assertEquals("Sat, 12 Oct 2024 00:00:01 GMT", modificadoDesde.get(1));
+        assertSame(primeira, segunda);
+        assertEquals((long) 1, provedor.respostasReaproveitadas());
+    }
+}
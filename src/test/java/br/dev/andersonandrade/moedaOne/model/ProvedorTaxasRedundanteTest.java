@@ -0,0 +1,197 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.enuns.Moeda;
+import br.dev.andersonandrade.moedaOne.records.MetricasCotaRecord;
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ProvedorTaxasRedundanteTest {
+
+    private HttpServer servidorPrimario;
+    private HttpServer servidorSecundario;
+    private final AtomicInteger atrasoPrimario = new AtomicInteger();
+    private final AtomicInteger statusPrimario = new AtomicInteger(200);
+    private final AtomicInteger atrasoSecundario = new AtomicInteger();
+    private final AtomicInteger chamadasSecundario = new AtomicInteger();
+    private final ExecutorService executorServidores = Executors.newCachedThreadPool();
+
+    @BeforeEach
+    void iniciarServidores() throws IOException {
+        servidorPrimario = criarServidor("5.60", atrasoPrimario, statusPrimario, new AtomicInteger());
+        servidorSecundario = criarServidor("5.61", atrasoSecundario, new AtomicInteger(200), chamadasSecundario);
+    }
+
+    @AfterEach
+    void pararServidores() {
+        servidorPrimario.stop(0);
+        servidorSecundario.stop(0);
+        executorServidores.shutdownNow();
+    }
+
+    private HttpServer criarServidor(String taxa, AtomicInteger atraso, AtomicInteger status, AtomicInteger chamadas)
+            throws IOException {
+        HttpServer servidor = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        servidor.setExecutor(executorServidores);
+        servidor.createContext("/", troca -> {
+            chamadas.incrementAndGet();
+            try {
+                Thread.sleep(atraso.get());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            byte[] corpo = ("{\"result\":\"success\",\"time_last_update_unix\":1728691201,"
+                    + "\"time_next_update_unix\":1728777601,\"base_code\":\"USD\",\"target_code\":\"BRL\","
+                    + "\"conversion_rate\":" + taxa + "}").getBytes(StandardCharsets.UTF_8);
+            try {
+                troca.sendResponseHeaders(status.get(), corpo.length);
+                try (OutputStream saida = troca.getResponseBody()) {
+                    saida.write(corpo);
+                }
+            } catch (IOException e) {
+                troca.close();
+            }
+        });
+        servidor.start();
+        return servidor;
+    }
+
+    private ProvedorTaxasRedundante criarProvedor() {
+        return criarProvedor(null);
+    }
+
+    private ProvedorTaxasRedundante criarProvedor(PlanejadorAtualizacao planejador) {
+        return criarProvedor(planejador, Duration.ofMillis(1000), 100);
+    }
+
+    private ProvedorTaxasRedundante criarProvedor(PlanejadorAtualizacao planejador, Duration atrasoInicial,
+                                                  int amostras) {
+        String urlPrimario = "http://127.0.0.1:" + servidorPrimario.getAddress().getPort() + "/";
+        String urlSecundario = "http://127.0.0.1:" + servidorSecundario.getAddress().getPort() + "/";
+
+        return new ProvedorTaxasRedundante(
+                new ProvedorTaxasHttp("primário", urlPrimario, "chave", Duration.ofSeconds(5), Runnable::run,
+                        () -> contar(planejador, "primário")),
+                new ProvedorTaxasHttp("secundário", urlSecundario, "chave", Duration.ofSeconds(5), Runnable::run,
+                        () -> contar(planejador, "secundário")),
+                95, atrasoInicial, amostras);
+    }
+
+    private static void contar(PlanejadorAtualizacao planejador, String provedor) {
+        if (planejador != null) {
+            planejador.registrarRequisicao(provedor);
+        }
+    }
+
+    @Test
+    void testPrimarioRapidoNaoGeraRequisicaoRedundante() throws InterruptedException {
+        try (ProvedorTaxasRedundante provedor = criarProvedor()) {
+            Optional<MoedaRecord> resultado = provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+            Thread.sleep(500);
+
+            assertEquals(new BigDecimal("5.60"), resultado.orElseThrow().conversionRate());
+            assertEquals(0, provedor.requisicoesRedundantes());
+            assertEquals(0, chamadasSecundario.get());
+        }
+    }
+
+    @Test
+    void testPrimarioLentoRespondidoPeloSecundario() {
+        atrasoPrimario.set(3000);
+
+        try (ProvedorTaxasRedundante provedor = criarProvedor()) {
+            long inicio = System.nanoTime();
+            Optional<MoedaRecord> resultado = provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+            long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+
+            assertEquals(new BigDecimal("5.61"), resultado.orElseThrow().conversionRate());
+            assertEquals(1, provedor.requisicoesRedundantes());
+            assertEquals(1, provedor.respostasSecundario());
+            assertTrue(duracaoMs < 2500, "demorou " + duracaoMs + " ms");
+        }
+    }
+
+    @Test
+    void testFalhaDoPrimarioChamaSecundarioImediatamente() {
+        statusPrimario.set(500);
+
+        try (ProvedorTaxasRedundante provedor = criarProvedor()) {
+            Optional<MoedaRecord> resultado = provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+
+            assertEquals(new BigDecimal("5.61"), resultado.orElseThrow().conversionRate());
+            assertEquals(1, chamadasSecundario.get());
+        }
+    }
+
+    @Test
+    void testAtrasoUsaPercentilDasLatencias() {
+        try (ProvedorTaxasRedundante provedor = criarProvedor()) {
+            assertEquals(1000, provedor.atrasoRedundancia());
+
+            for (int i = 0; i < 10; i++) {
+                provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+            }
+
+            assertTrue(provedor.atrasoRedundancia() < 1000);
+        }
+    }
+
+    @Test
+    void testAtrasoNaoDiminuiComOPrimarioSempreLento() {
+        try (ProvedorTaxasRedundante provedor = criarProvedor(null, Duration.ofMillis(1000), 10)) {
+            for (int i = 0; i < 10; i++) {
+                provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+            }
+            long anterior = provedor.atrasoRedundancia();
+
+            atrasoPrimario.set(3000);
+            atrasoSecundario.set(100);
+            for (int i = 0; i < 10; i++) {
+                assertEquals(new BigDecimal("5.61"),
+                        provedor.buscarPar(Moeda.USD, Moeda.BRL).join().orElseThrow().conversionRate());
+                long atual = provedor.atrasoRedundancia();
+                assertTrue(atual >= anterior, "o prazo caiu de " + anterior + " para " + atual + " ms");
+                anterior = atual;
+            }
+
+            assertTrue(anterior >= 100, "prazo de " + anterior + " ms");
+        }
+    }
+
+    @Test
+    void testRequisicaoRedundanteDescontaACotaDosDoisProvedores() {
+        atrasoPrimario.set(3000);
+        PlanejadorAtualizacao planejador = new PlanejadorAtualizacao(10, Duration.ofHours(24),
+                new FrequenciaAcessos(), null, Clock.systemUTC());
+
+        try (ProvedorTaxasRedundante provedor = criarProvedor(planejador)) {
+            provedor.buscarPar(Moeda.USD, Moeda.BRL).join();
+
+            MetricasCotaRecord metricas = planejador.metricas();
+            assertEquals(2L, metricas.usadas());
+            assertEquals(Map.of("primário", 1L, "secundário", 1L), metricas.usadasPorProvedor());
+            assertEquals(9L, metricas.restantes());
+        }
+    }
+}
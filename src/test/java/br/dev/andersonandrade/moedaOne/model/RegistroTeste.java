@@ -0,0 +1,77 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+
+import java.math.BigDecimal;
+
+/**
+ * Monta os registros de taxa usados nos testes. Por padrão o registro foi atualizado em 11/10/2024 e vale até
+ * 12/10/2024, com as datas UTC correspondentes; ao alterar um horário, a data UTC dele deixa de ser informada.
+ *
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+final class RegistroTeste {
+
+    static final long ULTIMA_PADRAO = 1728604801L;
+    static final long PROXIMA_PADRAO = 1728691201L;
+
+    private static final long UM_DIA = 86400L;
+
+    private final String base;
+    private final String alvo;
+    private final BigDecimal taxa;
+    private Long ultima = ULTIMA_PADRAO;
+    private String ultimaUtc = "Fri, 11 Oct 2024 00:00:01 +0000";
+    private Long proxima = PROXIMA_PADRAO;
+    private String proximaUtc = "Sat, 12 Oct 2024 00:00:01 +0000";
+
+    private RegistroTeste(String base, String alvo, String taxa) {
+        this.base = base;
+        this.alvo = alvo;
+        this.taxa = new BigDecimal(taxa);
+    }
+
+    /**
+     * Inicia um registro do par com a taxa informada.
+     *
+     * @param base O código da moeda de origem.
+     * @param alvo O código da moeda de destino.
+     * @param taxa A taxa de conversão.
+     * @return O construtor do registro.
+     */
+    static RegistroTeste registro(String base, String alvo, String taxa) {
+        return new RegistroTeste(base, alvo, taxa);
+    }
+
+    RegistroTeste ultima(Long ultima) {
+        this.ultima = ultima;
+        this.ultimaUtc = null;
+        return this;
+    }
+
+    RegistroTeste proxima(Long proxima) {
+        this.proxima = proxima;
+        this.proximaUtc = null;
+        return this;
+    }
+
+    /**
+     * Define a última atualização, com a próxima um dia depois.
+     */
+    RegistroTeste atualizadoEm(long ultima) {
+        return ultima(ultima).proxima(ultima + UM_DIA);
+    }
+
+    /**
+     * Define a próxima atualização, com a última um dia antes.
+     */
+    RegistroTeste validoAte(long proxima) {
+        return proxima(proxima).ultima(proxima - UM_DIA);
+    }
+
+    MoedaRecord criar() {
+        return new MoedaRecord("success", null, null, ultima, ultimaUtc, proxima, proximaUtc, base, alvo, taxa,
+                null);
+    }
+}
@@ -0,0 +1,144 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.DatagramChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import static br.dev.andersonandrade.moedaOne.model.RegistroTeste.registro;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class ReplicacaoTaxasTest {
+
+    private static final byte[] SEGREDO = "segredo-do-cluster-de-teste".getBytes(StandardCharsets.UTF_8);
+    private static final long AGORA = 1728700000L;
+    private static final Clock RELOGIO = Clock.fixed(Instant.ofEpochSecond(AGORA), ZoneOffset.UTC);
+
+    private final List<ReplicacaoTaxas> nos = new ArrayList<>();
+    private final List<List<MoedaRecord>> recebidas = new ArrayList<>();
+
+    private static void aguardar(BooleanSupplier condicao) throws InterruptedException {
+        long limite = System.currentTimeMillis() + 5000;
+        while (!condicao.getAsBoolean() && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+    }
+
+    @BeforeEach
+    void iniciarNos() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            List<MoedaRecord> recebidasNo = new CopyOnWriteArrayList<>();
+            recebidas.add(recebidasNo);
+            nos.add(ReplicacaoTaxas.iniciar(new InetSocketAddress("127.0.0.1", 0), List.of(), SEGREDO, RELOGIO,
+                    recebidasNo::addAll));
+        }
+        for (ReplicacaoTaxas no : nos) {
+            for (ReplicacaoTaxas outro : nos) {
+                if (no != outro) {
+                    no.adicionarPar(outro.endereco());
+                }
+            }
+        }
+    }
+
+    @AfterEach
+    void pararNos() {
+        nos.forEach(ReplicacaoTaxas::close);
+    }
+
+    @Test
+    void testTaxaObtidaPorUmNoChegaAosOutros() throws Exception {
+        nos.get(0).difundir(List.of(registro("USD", "BRL", "5.60").criar(), registro("USD", "EUR", "0.91").criar()));
+
+        aguardar(() -> recebidas.get(1).size() == 2 && recebidas.get(2).size() == 2);
+
+        assertEquals(2, recebidas.get(1).size());
+        assertEquals(2, recebidas.get(2).size());
+        assertTrue(recebidas.get(0).isEmpty());
+        assertEquals(new BigDecimal("5.6"), recebidas.get(1).get(0).conversionRate());
+        assertEquals(1728604801L, (long) recebidas.get(2).get(0).timeLastUpdateUnix());
+    }
+
+    @Test
+    void testTaxaMaisRecentePrevalece() throws Exception {
+        nos.get(0).difundir(List.of(registro("USD", "BRL", "5.70").atualizadoEm(1728691201L).criar()));
+        aguardar(() -> recebidas.get(1).size() == 1);
+
+        nos.get(2).difundir(List.of(registro("USD", "BRL", "5.60").criar()));
+        nos.get(2).difundir(List.of(registro("USD", "EUR", "0.91").criar()));
+        aguardar(() -> recebidas.get(1).size() == 2);
+        Thread.sleep(100);
+
+        assertEquals(2, recebidas.get(1).size());
+        assertEquals(new BigDecimal("5.7"), recebidas.get(1).get(0).conversionRate());
+        assertEquals("EUR", recebidas.get(1).get(1).targetCode());
+        assertTrue(recebidas.get(0).stream().noneMatch(r -> "BRL".equals(r.targetCode())));
+    }
+
+    @Test
+    void testDatagramaDeEnderecoDesconhecidoEhDescartado() throws Exception {
+        try (DatagramChannel intruso = DatagramChannel.open()) {
+            intruso.bind(new InetSocketAddress("127.0.0.1", 0));
+            intruso.send(ByteBuffer.wrap(new byte[]{0x4D, 0x52, 0x45, 0x50, 0, 1, 0, 0}), nos.get(0).endereco());
+
+            aguardar(() -> nos.get(0).descartadas() == 1);
+        }
+
+        assertEquals((long) 1, nos.get(0).descartadas());
+        assertTrue(recebidas.get(0).isEmpty());
+    }
+
+    @Test
+    void testDatagramaComOutroSegredoEhDescartado() throws Exception {
+        byte[] outroSegredo = "segredo-de-quem-forja-o-endereco".getBytes(StandardCharsets.UTF_8);
+        List<MoedaRecord> recebidasIntruso = new CopyOnWriteArrayList<>();
+        try (ReplicacaoTaxas intruso = ReplicacaoTaxas.iniciar(new InetSocketAddress("127.0.0.1", 0), List.of(),
+                outroSegredo, RELOGIO, recebidasIntruso::addAll)) {
+            nos.get(0).adicionarPar(intruso.endereco());
+            intruso.adicionarPar(nos.get(0).endereco());
+
+            intruso.difundir(List.of(registro("USD", "BRL", "9.99").criar()));
+            aguardar(() -> nos.get(0).descartadas() == 1);
+        }
+
+        assertEquals((long) 1, nos.get(0).descartadas());
+        assertTrue(recebidas.get(0).isEmpty());
+    }
+
+    @Test
+    void testTaxaComHorarioNoFuturoEhRecusada() throws Exception {
+        MoedaRecord futura = registro("USD", "BRL", "9.99").atualizadoEm(AGORA + 3600).criar();
+        MoedaRecord validadeLonga = registro("USD", "EUR", "0.5").ultima(AGORA).proxima(AGORA + 30L * 86400).criar();
+        nos.get(0).difundir(List.of(futura, validadeLonga, registro("USD", "ARS", "970").atualizadoEm(AGORA).criar()));
+
+        aguardar(() -> recebidas.get(1).size() == 1);
+        Thread.sleep(100);
+
+        assertEquals(1, recebidas.get(1).size());
+        assertEquals("ARS", recebidas.get(1).get(0).targetCode());
+    }
+
+    @Test
+    void testSegredoCurtoEhRecusado() {
+        assertThrows(IllegalArgumentException.class, () -> ReplicacaoTaxas.iniciar(
+                new InetSocketAddress("127.0.0.1", 0), List.of(), new byte[8], RELOGIO, recebida -> {
+                }));
+    }
+}
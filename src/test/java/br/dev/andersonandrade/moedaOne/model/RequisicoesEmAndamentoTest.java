@@ -0,0 +1,89 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class RequisicoesEmAndamentoTest {
+
+    @Test
+    void testBuscasConcorrentesCompartilhamUmaExecucao() {
+        RequisicoesEmAndamento<String, String> emAndamento = new RequisicoesEmAndamento<>();
+        CompletableFuture<String> busca = new CompletableFuture<>();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        List<CompletableFuture<String>> chamadas = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chamadas.add(emAndamento.executar("/pair/USD/BRL", () -> {
+                execucoes.incrementAndGet();
+                return busca;
+            }));
+        }
+        busca.complete("5.60");
+
+        assertEquals(1, execucoes.get());
+        assertEquals(9, emAndamento.agrupadas());
+        chamadas.forEach(chamada -> assertEquals("5.60", chamada.join()));
+    }
+
+    @Test
+    void testChaveLiberadaAposConclusao() {
+        RequisicoesEmAndamento<String, String> emAndamento = new RequisicoesEmAndamento<>();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        emAndamento.executar("/latest/USD", () -> {
+            execucoes.incrementAndGet();
+            return CompletableFuture.failedFuture(new IllegalStateException("falha"));
+        });
+        emAndamento.executar("/latest/USD", () -> {
+            execucoes.incrementAndGet();
+            return CompletableFuture.completedFuture("ok");
+        });
+
+        assertEquals(2, execucoes.get());
+        assertEquals(0, emAndamento.agrupadas());
+    }
+
+    @Test
+    void testCancelarCopiaNaoAfetaDemais() {
+        RequisicoesEmAndamento<String, String> emAndamento = new RequisicoesEmAndamento<>();
+        CompletableFuture<String> busca = new CompletableFuture<>();
+
+        CompletableFuture<String> primeira = emAndamento.executar("/pair/EUR/BRL", () -> busca);
+        CompletableFuture<String> segunda = emAndamento.executar("/pair/EUR/BRL", () -> busca);
+        primeira.cancel(true);
+        busca.complete("6.10");
+
+        assertEquals("6.10", segunda.join());
+    }
+
+    @Test
+    void testCancelarTodasAsCopiasCancelaABusca() {
+        RequisicoesEmAndamento<String, String> emAndamento = new RequisicoesEmAndamento<>();
+        CompletableFuture<String> busca = new CompletableFuture<>();
+        AtomicInteger execucoes = new AtomicInteger();
+
+        CompletableFuture<String> primeira = emAndamento.executar("/pair/EUR/BRL", () -> busca);
+        CompletableFuture<String> segunda = emAndamento.executar("/pair/EUR/BRL", () -> busca);
+        primeira.cancel(true);
+        assertFalse(busca.isCancelled());
+        segunda.cancel(true);
+        assertTrue(busca.isCancelled());
+
+        CompletableFuture<String> nova = emAndamento.executar("/pair/EUR/BRL", () -> {
+            execucoes.incrementAndGet();
+            return CompletableFuture.completedFuture("6.20");
+        });
+        assertEquals("6.20", nova.join());
+        assertEquals(1, execucoes.get());
+    }
+}
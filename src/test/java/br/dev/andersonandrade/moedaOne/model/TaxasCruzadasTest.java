@@ -0,0 +1,87 @@
+package br.dev.andersonandrade.moedaOne.model;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class TaxasCruzadasTest {
+    private final String dataHoje = "Sat, 12 Oct 2024 00:00:01 +0000";
+    private final String dataAmanha = "Sun, 13 Oct 2024 00:00:01 +0000";
+
+    private TabelaTaxasRecord tabelaUsd() {
+        return new TabelaTaxasRecord(
+                "success",
+                "documentation",
+                "termsOfUse",
+                1728691201L,
+                dataHoje,
+                1728777601L,
+                dataAmanha,
+                "USD",
+                Map.of("USD", BigDecimal.ONE,
+                        "BRL", new BigDecimal("5.60"),
+                        "EUR", new BigDecimal("0.80"),
+                        "XDR", new BigDecimal("0.75"))
+        );
+    }
+
+    @Test
+    void testTabelaIgnoraCodigosDesconhecidos() {
+        List<MoedaRecord> registros = TaxasCruzadas.paraRegistros(tabelaUsd());
+
+        assertEquals(3, registros.size());
+        assertTrue(registros.stream().allMatch(r -> r.baseCode().equals("USD")));
+        assertTrue(registros.stream().noneMatch(r -> r.targetCode().equals("XDR")));
+    }
+
+    @Test
+    void testDerivarTaxaCruzada() {
+        List<MoedaRecord> registros = TaxasCruzadas.paraRegistros(tabelaUsd());
+        MoedaRecord usdEur = registros.stream().filter(r -> r.targetCode().equals("EUR")).findFirst().orElseThrow();
+        MoedaRecord usdBrl = registros.stream().filter(r -> r.targetCode().equals("BRL")).findFirst().orElseThrow();
+
+        MoedaRecord eurBrl = TaxasCruzadas.derivar(usdEur, usdBrl, new MathContext(12, RoundingMode.HALF_EVEN));
+
+        assertEquals("EUR", eurBrl.baseCode());
+        assertEquals("BRL", eurBrl.targetCode());
+        assertEquals(0, new BigDecimal("7").compareTo(eurBrl.conversionRate()));
+        assertEquals(1728777601L, (long) eurBrl.timeNextUpdateUnix());
+    }
+
+    @Test
+    void testDerivarComHorarioAusenteHerdaOHorarioAusente() {
+        MoedaRecord usdEur = RegistroTeste.registro("USD", "EUR", "0.80").ultima(null).proxima(null).criar();
+        MoedaRecord usdBrl = RegistroTeste.registro("USD", "BRL", "5.60").criar();
+
+        MoedaRecord eurBrl = TaxasCruzadas.derivar(usdEur, usdBrl, MathContext.DECIMAL64);
+        MoedaRecord brlEur = TaxasCruzadas.derivar(usdBrl, usdEur, MathContext.DECIMAL64);
+
+        assertEquals(0, new BigDecimal("7").compareTo(eurBrl.conversionRate()));
+        assertNull(eurBrl.timeLastUpdateUnix());
+        assertNull(eurBrl.timeNextUpdateUnix());
+        assertNull(brlEur.timeLastUpdateUnix());
+        assertNull(brlEur.timeNextUpdateUnix());
+    }
+
+    @Test
+    void testDerivarComBasesDiferentesLancaExcecao() {
+        MoedaRecord usdBrl = TaxasCruzadas.paraRegistros(tabelaUsd()).get(0);
+        MoedaRecord eurBrl = new MoedaRecord("success", "documentation", "termsOfUse", 1728691201L, dataHoje,
+                1728777601L, dataAmanha, "EUR", "BRL", new BigDecimal("7"), null);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> TaxasCruzadas.derivar(usdBrl, eurBrl, MathContext.DECIMAL64));
+    }
+}
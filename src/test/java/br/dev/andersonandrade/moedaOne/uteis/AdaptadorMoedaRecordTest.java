@@ -0,0 +1,64 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import br.dev.andersonandrade.moedaOne.records.MoedaRecord;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class AdaptadorMoedaRecordTest {
+
+    private static final String RESPOSTA_PAR = """
+            {
+              "result": "success",
+              "documentation": "https://www.exchangerate-api.com/docs",
+              "terms_of_use": "https://www.exchangerate-api.com/terms",
+              "time_last_update_unix": 1728604801,
+              "time_last_update_utc": "Fri, 11 Oct 2024 00:00:01 +0000",
+              "time_next_update_unix": 1728691201,
+              "time_next_update_utc": "Sat, 12 Oct 2024 00:00:01 +0000",
+              "base_code": "USD",
+              "target_code": "BRL",
+              "conversion_rate": 5.601234567890123456,
+              "campo_novo": {"ignorado": [1, 2, 3]}
+            }""";
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void testLeRespostaDaApi() {
+        MoedaRecord moedaRecord = gson.fromJson(RESPOSTA_PAR, MoedaRecord.class);
+
+        assertEquals("USD", moedaRecord.baseCode());
+        assertEquals("BRL", moedaRecord.targetCode());
+        assertEquals(1728691201L, (long) moedaRecord.timeNextUpdateUnix());
+        assertEquals(new BigDecimal("5.601234567890123456"), moedaRecord.conversionRate());
+        assertNull(moedaRecord.conversionResult());
+    }
+
+    @Test
+    void testGravaENovamenteLeOMesmoRegistro() {
+        MoedaRecord moedaRecord = gson.fromJson(RESPOSTA_PAR, MoedaRecord.class);
+
+        String json = gson.toJson(moedaRecord);
+
+        assertTrue(json.contains("\"conversion_rate\":5.601234567890123456"));
+        assertFalse(json.contains("conversion_result"));
+        assertEquals(moedaRecord, gson.fromJson(json, MoedaRecord.class));
+    }
+
+    @Test
+    void testAceitaNomesDosCamposDoRegistro() {
+        MoedaRecord moedaRecord = gson.fromJson("{\"baseCode\":\"EUR\",\"targetCode\":\"USD\",\"conversionRate\":1.09}",
+                MoedaRecord.class);
+
+        assertEquals("EUR", moedaRecord.baseCode());
+        assertEquals(new BigDecimal("1.09"), moedaRecord.conversionRate());
+    }
+}
@@ -0,0 +1,44 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import br.dev.andersonandrade.moedaOne.records.TabelaTaxasRecord;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class AdaptadorTabelaTaxasTest {
+
+    private static final String RESPOSTA_TABELA = """
+            {
+              "result": "success",
+              "time_last_update_unix": 1728604801,
+              "time_next_update_unix": 1728691201,
+              "base_code": "USD",
+              "conversion_rates": {"USD": 1, "BRL": 5.6012, "EUR": 0.9141, "XYZ": 2.5}
+            }""";
+
+    private final Gson gson = new Gson();
+
+    @Test
+    void testLeTabelaDeTaxas() {
+        TabelaTaxasRecord tabela = gson.fromJson(RESPOSTA_TABELA, TabelaTaxasRecord.class);
+
+        assertEquals("USD", tabela.baseCode());
+        assertEquals(4, tabela.conversionRates().size());
+        assertEquals(new BigDecimal("5.6012"), tabela.conversionRates().get("BRL"));
+        assertNull(tabela.documentation());
+    }
+
+    @Test
+    void testGravaENovamenteLeAMesmaTabela() {
+        TabelaTaxasRecord tabela = gson.fromJson(RESPOSTA_TABELA, TabelaTaxasRecord.class);
+
+        assertEquals(tabela, gson.fromJson(gson.toJson(tabela), TabelaTaxasRecord.class));
+    }
+}
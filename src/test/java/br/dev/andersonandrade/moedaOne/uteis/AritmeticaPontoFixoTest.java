@@ -0,0 +1,106 @@
+package br.dev.andersonandrade.moedaOne.uteis;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author Anderson Andrade Dev
+ * @Data de Criação 18/10/2026
+ */
+public class AritmeticaPontoFixoTest {
+
+    private static final int CASOS = 20_000;
+
+    private static BigDecimal aleatorio(Random random, int maximoDigitos, int maximaEscala, boolean negativo) {
+        int digitos = 1 + random.nextInt(maximoDigitos);
+        BigInteger inteiro = new BigInteger(digitos * 4, random).mod(BigInteger.TEN.pow(digitos));
+        BigDecimal valor = new BigDecimal(inteiro, random.nextInt(maximaEscala + 3) - 2);
+        return negativo && random.nextBoolean() ? valor.negate() : valor;
+    }
+
+    private static void verificar(BigDecimal valor, BigDecimal taxa, int escala, RoundingMode modo) {
+        BigDecimal esperado = valor.multiply(taxa).setScale(escala, modo);
+        assertEquals(esperado, AritmeticaPontoFixo.multiplicar(valor, taxa, escala, modo),
+                valor + " x " + taxa + " escala " + escala + " " + modo);
+    }
+
+    @Test
+    void testIgualABigDecimalEmValoresAleatorios() {
+        Random random = new Random(20241012L);
+        RoundingMode[] modos = {RoundingMode.HALF_DOWN, RoundingMode.HALF_UP, RoundingMode.HALF_EVEN,
+                RoundingMode.DOWN, RoundingMode.UP, RoundingMode.FLOOR, RoundingMode.CEILING};
+
+        for (int i = 0; i < CASOS; i++) {
+            BigDecimal valor = aleatorio(random, 20, 6, true);
+            BigDecimal taxa = aleatorio(random, 14, 12, true);
+            verificar(valor, taxa, 2, RoundingMode.HALF_DOWN);
+            verificar(valor, taxa, random.nextInt(8) - 1, modos[random.nextInt(modos.length)]);
+        }
+    }
+
+    @Test
+    void testProdutoMaiorQueLongComResultadoEmLong() {
+        Random random = new Random(20241013L);
+        RoundingMode[] modos = {RoundingMode.HALF_DOWN, RoundingMode.HALF_UP, RoundingMode.HALF_EVEN,
+                RoundingMode.DOWN, RoundingMode.UP, RoundingMode.FLOOR, RoundingMode.CEILING};
+
+        for (int i = 0; i < CASOS; i++) {
+            long valor = random.nextLong(1_000_000_000_000_000L) * (random.nextBoolean() ? 1 : -1);
+            long taxa = 1 + random.nextLong(1_000_000_000_000L);
+            int escalaTaxa = 12;
+            int escalaValor = 6 + random.nextInt(3);
+            RoundingMode modo = modos[random.nextInt(modos.length)];
+
+            BigDecimal esperado = BigDecimal.valueOf(valor, escalaValor).multiply(BigDecimal.valueOf(taxa, escalaTaxa))
+                    .setScale(2, modo);
+            assertEquals(esperado.unscaledValue().longValueExact(),
+                    AritmeticaPontoFixo.multiplicarEscalado(valor, escalaValor, taxa, escalaTaxa, 2, modo),
+                    valor + " x " + taxa + " " + modo);
+        }
+    }
+
+    @Test
+    void testEmpatesArredondamMetadeParaBaixo() {
+        verificar(new BigDecimal("0.125"), BigDecimal.ONE, 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal("0.1251"), BigDecimal.ONE, 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal("-0.125"), BigDecimal.ONE, 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal("2.5"), new BigDecimal("0.05"), 2, RoundingMode.HALF_DOWN);
+
+        assertEquals(new BigDecimal("0.12"),
+                AritmeticaPontoFixo.multiplicar(new BigDecimal("0.25"), new BigDecimal("0.5"), 2, RoundingMode.HALF_DOWN));
+        assertEquals(12L, AritmeticaPontoFixo.multiplicarEscalado(25, 2, 5, 1, 2, RoundingMode.HALF_DOWN));
+        assertEquals(13L, AritmeticaPontoFixo.multiplicarEscalado(25, 2, 5, 1, 2, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    void testEstouroUsaBigDecimal() {
+        BigDecimal grande = new BigDecimal("922337203685477580.7");
+
+        verificar(grande, new BigDecimal("5.61234"), 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal(Long.MAX_VALUE), new BigDecimal("1E+3"), 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal("123456789012345678901234.5"), new BigDecimal("0.5"), 2, RoundingMode.HALF_DOWN);
+        verificar(new BigDecimal("1E-30"), new BigDecimal("1E-5"), 2, RoundingMode.UP);
+        assertThrows(ArithmeticException.class,
+                () -> AritmeticaPontoFixo.multiplicarEscalado(Long.MAX_VALUE, 0, 10, 0, 0, RoundingMode.DOWN));
+        assertThrows(ArithmeticException.class,
+                () -> AritmeticaPontoFixo.multiplicar(new BigDecimal("0.125"), BigDecimal.ONE, 2,
+                        RoundingMode.UNNECESSARY));
+    }
+
+    @Test
+    void testValorEscaladoIgualAoUnscaledValue() {
+        for (String valor : new String[]{"0", "130", "5.6012", "-0.000001", "1E+3", "99999999999999999.9"}) {
+            BigDecimal decimal = new BigDecimal(valor);
+            assertEquals(decimal.unscaledValue().longValueExact(), AritmeticaPontoFixo.valorEscalado(decimal), valor);
+        }
+        assertFalse(AritmeticaPontoFixo.cabeEmLong(new BigDecimal("1234567890123456789")));
+        assertThrows(ArithmeticException.class,
+                () -> AritmeticaPontoFixo.valorEscalado(new BigDecimal("1234567890123456789")));
+    }
+}